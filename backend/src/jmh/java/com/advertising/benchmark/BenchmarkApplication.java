@@ -0,0 +1,97 @@
+package com.advertising.benchmark;
+
+import com.advertising.AdvertisingPlatformApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ *
+ * <p>포크마다 웹 서버 없이 애플리케이션을 한 번 띄우고, 전용 인메모리 H2에 {@link BenchmarkDataSeeder}로
+ * 지정한 규모의 데이터를 넣습니다. 데이터 규모는 JMH 파라미터로 바꿀 수 있습니다. (예: {@code -p contracts=100000})
+ *
+ * <p>SQL 로그와 DEBUG 로그는 측정값을 왜곡하므로 끄고, 상태 전환 배치의 cron 실행도 끕니다.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkApplication {
+
+    /** 업체 수 */
+    @Param({"1000"})
+    public int companies;
+
+    /** 상품 수 */
+    @Param({"10"})
+    public int products;
+
+    /** 계약 수 */
+    @Param({"10000"})
+    public int contracts;
+
+    private ConfigurableApplicationContext context;
+
+    private BenchmarkDataSeeder.SeedResult seed;
+
+    private NewContractSequence newContracts;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = run("--spring.main.web-application-type=none");
+        seed = new BenchmarkDataSeeder(context).seed(companies, products, contracts);
+        newContracts = new NewContractSequence(seed);
+    }
+
+    /**
+     * 측정용 설정(전용 인메모리 DB, 로그 최소화, 배치 비활성화)으로 애플리케이션을 띄웁니다.
+     * 설정은 명령행 인자로 넘기므로 application.yml보다 우선합니다.
+     * 스키마만 마이그레이션하고 샘플 데이터(db/sample-data)는 넣지 않으므로 {@link BenchmarkDataSeeder}로 데이터를 생성해야 합니다.
+     *
+     * @param overrides 추가 설정 (예: {@code --server.port=0})
+     */
+    public static ConfigurableApplicationContext run(String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.flyway.locations=classpath:db/migration",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.advertising=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--advertising.status-transition.cron=-"
+        ));
+        args.addAll(List.of(overrides));
+        return SpringApplication.run(AdvertisingPlatformApplication.class, args.toArray(String[]::new));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public BenchmarkDataSeeder.SeedResult getSeed() {
+        return seed;
+    }
+
+    /**
+     * 계약 생성 요청 생성기 (모든 스레드가 공유)
+     */
+    public NewContractSequence getNewContracts() {
+        return newContracts;
+    }
+}
@@ -0,0 +1,129 @@
+package com.advertising.benchmark;
+
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ProductRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 데이터 생성기
+ *
+ * <p>업체, 상품, 계약을 고정 시드의 난수로 만들어 매 실행마다 같은 데이터 분포를 갖게 합니다.
+ * 업체와 상품은 리포지토리로 저장하므로 검색 인덱스와 캐시에도 커밋 후 이벤트로 반영됩니다.
+ * 계약은 청크마다 별도 트랜잭션으로 저장하여 영속성 컨텍스트가 커지지 않게 합니다.
+ *
+ * <p>계약 기간은 오늘을 기준으로 앞뒤 1년 안에 흩어지고, 상태는 기간에 맞춰 정해지며 일부는 취소 상태입니다.
+ */
+public class BenchmarkDataSeeder {
+
+    private static final long RANDOM_SEED = 20260101L;
+    private static final int CHUNK_SIZE = 1000;
+    /** 계약 시작일 범위 (오늘 기준 앞뒤 일수) */
+    private static final int START_RANGE_DAYS = 365;
+    /** 계약 기간 최대 일수 */
+    private static final int MAX_PERIOD_DAYS = 180;
+
+    private static final String[] NAME_PREFIXES = {"놀유니버스", "포레스트", "스테이", "오션", "그랜드", "시티", "라온", "하늘"};
+    private static final String[] NAME_REGIONS = {"강남", "서초", "구로", "해운대", "제주", "속초", "전주", "여수"};
+    private static final String[] TYPES = {"호텔", "펜션", "리조트", "모텔", "게스트하우스"};
+
+    private final CompanyRepository companyRepository;
+    private final ProductRepository productRepository;
+    private final ContractRepository contractRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BenchmarkDataSeeder(ApplicationContext context) {
+        this.companyRepository = context.getBean(CompanyRepository.class);
+        this.productRepository = context.getBean(ProductRepository.class);
+        this.contractRepository = context.getBean(ContractRepository.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    public SeedResult seed(int companyCount, int productCount, int contractCount) {
+        SplittableRandom random = new SplittableRandom(RANDOM_SEED);
+
+        List<Company> companies = new ArrayList<>(companyCount);
+        for (int i = 0; i < companyCount; i++) {
+            String prefix = NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)];
+            String region = NAME_REGIONS[random.nextInt(NAME_REGIONS.length)];
+            String type = TYPES[random.nextInt(TYPES.length)];
+            companies.add(Company.builder()
+                    .companyNumber(String.valueOf(100000 + i))
+                    .name(prefix + " " + region + " " + type + " " + i)
+                    .type(type)
+                    .build());
+        }
+        List<Company> savedCompanies = transactionTemplate.execute(status -> companyRepository.saveAll(companies));
+
+        List<Product> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            products.add(Product.builder()
+                    .name("벤치마크 상품 " + i)
+                    .description("벤치마크용 광고 상품입니다.")
+                    .build());
+        }
+        List<Product> savedProducts = transactionTemplate.execute(status -> productRepository.saveAll(products));
+
+        LocalDate today = LocalDate.now();
+        List<Long> contractIds = new ArrayList<>(contractCount);
+        for (int offset = 0; offset < contractCount; offset += CHUNK_SIZE) {
+            int chunkEnd = Math.min(offset + CHUNK_SIZE, contractCount);
+            List<Contract> chunk = new ArrayList<>(chunkEnd - offset);
+            for (int i = offset; i < chunkEnd; i++) {
+                LocalDate startDate = today.plusDays(random.nextInt(-START_RANGE_DAYS, START_RANGE_DAYS));
+                LocalDate endDate = startDate.plusDays(random.nextInt(28, MAX_PERIOD_DAYS));
+                chunk.add(Contract.builder()
+                        .contractNumber(String.format("BMK-%08d", i))
+                        .company(savedCompanies.get(random.nextInt(savedCompanies.size())))
+                        .product(savedProducts.get(random.nextInt(savedProducts.size())))
+                        .startDate(startDate)
+                        .endDate(endDate)
+                        .amount(BigDecimal.valueOf(random.nextInt(1, 101) * 10000L))
+                        .status(random.nextInt(20) == 0 ? ContractStatus.CANCELLED : statusOf(startDate, endDate, today))
+                        .build());
+            }
+            transactionTemplate.executeWithoutResult(status -> contractRepository.saveAll(chunk));
+            chunk.forEach(contract -> contractIds.add(contract.getId()));
+        }
+
+        return new SeedResult(
+                savedCompanies.stream().map(Company::getId).toList(),
+                savedProducts.stream().map(Product::getId).toList(),
+                contractIds,
+                savedCompanies.stream().map(Company::getName).toList(),
+                today.plusDays(START_RANGE_DAYS + MAX_PERIOD_DAYS)
+        );
+    }
+
+    private ContractStatus statusOf(LocalDate startDate, LocalDate endDate, LocalDate today) {
+        if (startDate.isAfter(today)) {
+            return ContractStatus.PENDING;
+        }
+        return endDate.isBefore(today) ? ContractStatus.COMPLETED : ContractStatus.IN_PROGRESS;
+    }
+
+    /**
+     * 생성된 데이터의 식별자
+     *
+     * @param companyIds   업체 ID 목록
+     * @param productIds   상품 ID 목록
+     * @param contractIds  계약 ID 목록
+     * @param companyNames 업체명 목록 (검색 키워드 생성용)
+     * @param seededUntil  시드 계약 종료일의 상한 (이후 기간은 시드 계약과 겹치지 않음)
+     */
+    public record SeedResult(List<Long> companyIds, List<Long> productIds, List<Long> contractIds,
+                             List<String> companyNames, LocalDate seededUntil) {
+    }
+}
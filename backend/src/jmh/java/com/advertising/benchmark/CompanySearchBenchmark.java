@@ -0,0 +1,62 @@
+package com.advertising.benchmark;
+
+import com.advertising.application.dto.CompanyResponse;
+import com.advertising.application.service.CompanyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CompanyService#searchCompanies(String)} 벤치마크
+ *
+ * <p>키워드 유형별 자동완성 검색 시간을 측정합니다.
+ * <ul>
+ *   <li>prefix: 업체명 앞부분 (결과가 많은 흔한 키워드)</li>
+ *   <li>infix: 업체명 중간의 지역명</li>
+ *   <li>chosung: 초성 키워드</li>
+ *   <li>miss: 일치하는 업체가 없는 키워드</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompanySearchBenchmark {
+
+    @Param({"prefix", "infix", "chosung", "miss"})
+    public String keywordType;
+
+    private CompanyService companyService;
+    private String keyword;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        companyService = application.getBean(CompanyService.class);
+        keyword = switch (keywordType) {
+            case "prefix" -> "놀유니";
+            case "infix" -> "해운대";
+            case "chosung" -> "ㄴㅇㄴ";
+            case "miss" -> "존재하지않는업체";
+            default -> throw new IllegalArgumentException("알 수 없는 키워드 유형: " + keywordType);
+        };
+    }
+
+    @Benchmark
+    public List<CompanyResponse> searchCompanies() {
+        return companyService.searchCompanies(keyword);
+    }
+}
@@ -0,0 +1,65 @@
+package com.advertising.benchmark;
+
+import com.advertising.application.dto.ContractResponse;
+import com.advertising.application.dto.Versioned;
+import com.advertising.application.service.ContractService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ContractResponse} 변환 및 JSON 직렬화 벤치마크
+ *
+ * <p>계약 상세 조회 결과({@link Versioned})의 본문 생성기는 조회된 엔티티를 매번 새로 변환하므로,
+ * DB 조회 없이 엔티티 → DTO 변환만, 또는 변환 + 직렬화를 따로 측정할 수 있습니다.
+ * 직렬화에는 애플리케이션과 같은 설정의 {@link ObjectMapper} 빈을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractResponseBenchmark {
+
+    private Versioned<ContractResponse> contract;
+    private ContractResponse response;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        ContractService contractService = application.getBean(ContractService.class);
+        Long contractId = application.getSeed().contractIds().get(0);
+
+        contract = contractService.getVersionedContract(contractId);
+        response = contract.body().get();
+        objectMapper = application.getBean(ObjectMapper.class);
+    }
+
+    @Benchmark
+    public ContractResponse map() {
+        return contract.body().get();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(contract.body().get());
+    }
+}
@@ -0,0 +1,81 @@
+package com.advertising.benchmark;
+
+import com.advertising.application.dto.ContractListRequest;
+import com.advertising.application.dto.ContractResponse;
+import com.advertising.application.dto.PageResponse;
+import com.advertising.application.service.ContractService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ContractService#searchContracts(ContractListRequest)} 벤치마크
+ *
+ * <p>검색 인덱스로 찾은 한 페이지(20건)를 조회하는 시간({@code search})을, 같은 키워드를 업체명 LIKE 필터로 넘긴
+ * 기존 목록 조회({@code companyNameLike})와 비교합니다. 업체명 키워드가 아닌 경우 두 결과는 같지 않으며,
+ * {@code companyNameLike}는 같은 키워드로 DB를 훑는 비용의 기준값입니다.
+ * <ul>
+ *   <li>company: 업체명 중간의 지역명 (계약의 약 1/8이 일치)</li>
+ *   <li>contractNumber: 계약번호 전체</li>
+ *   <li>multiTerm: 업체명과 상품명 단어 조합</li>
+ *   <li>miss: 일치하는 계약이 없는 키워드</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"company", "contractNumber", "multiTerm", "miss"})
+    public String keywordType;
+
+    private ContractService contractService;
+    private ContractListRequest searchRequest;
+    private ContractListRequest likeRequest;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        contractService = application.getBean(ContractService.class);
+        String keyword = switch (keywordType) {
+            case "company" -> "해운대";
+            case "contractNumber" -> "BMK-00000123";
+            case "multiTerm" -> "해운대 상품 1";
+            case "miss" -> "존재하지않는계약";
+            default -> throw new IllegalArgumentException("알 수 없는 키워드 유형: " + keywordType);
+        };
+        searchRequest = ContractListRequest.builder()
+                .keyword(keyword)
+                .size(PAGE_SIZE)
+                .build();
+        likeRequest = ContractListRequest.builder()
+                .companyName(keyword)
+                .size(PAGE_SIZE)
+                .build();
+    }
+
+    @Benchmark
+    public PageResponse<ContractResponse> search() {
+        return contractService.searchContracts(searchRequest);
+    }
+
+    @Benchmark
+    public PageResponse<ContractResponse> companyNameLike() {
+        return contractService.getContracts(likeRequest);
+    }
+}
@@ -0,0 +1,115 @@
+package com.advertising.benchmark;
+
+import com.advertising.application.dto.ContractListRequest;
+import com.advertising.application.dto.ContractRequest;
+import com.advertising.application.dto.ContractResponse;
+import com.advertising.application.dto.CursorPageResponse;
+import com.advertising.application.dto.PageResponse;
+import com.advertising.application.service.ContractService;
+import com.advertising.domain.enums.ContractStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ContractService} 벤치마크
+ *
+ * <p>계약 생성과 필터 조합별 목록 조회(페이지, 커서)의 평균 응답 시간을 측정합니다.
+ * 계약 생성은 측정 중에 계약이 계속 쌓이므로, 목록 조회와 같은 포크에서 돌리지 않도록 클래스 단위로 포크합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractServiceBenchmark {
+
+    /**
+     * 목록 조회 필터 조합
+     * <ul>
+     *   <li>none: 필터 없음</li>
+     *   <li>companyName: 업체명 부분 일치</li>
+     *   <li>status: 진행중 상태</li>
+     *   <li>period: 오늘부터 30일 기간</li>
+     *   <li>combined: 업체명 + 상태(집행전, 진행중) + 기간</li>
+     * </ul>
+     */
+    @State(Scope.Benchmark)
+    public static class ListState {
+
+        @Param({"none", "companyName", "status", "period", "combined"})
+        public String filter;
+
+        ContractService contractService;
+        ContractListRequest request;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkApplication application) {
+            contractService = application.getBean(ContractService.class);
+
+            LocalDate today = LocalDate.now();
+            ContractListRequest.ContractListRequestBuilder builder = ContractListRequest.builder().page(0).size(20);
+            switch (filter) {
+                case "none" -> { }
+                case "companyName" -> builder.companyName("강남");
+                case "status" -> builder.statuses(List.of(ContractStatus.IN_PROGRESS));
+                case "period" -> builder.startDate(today).endDate(today.plusDays(30));
+                case "combined" -> builder.companyName("강남")
+                        .statuses(List.of(ContractStatus.PENDING, ContractStatus.IN_PROGRESS))
+                        .startDate(today)
+                        .endDate(today.plusDays(30));
+                default -> throw new IllegalArgumentException("알 수 없는 필터: " + filter);
+            }
+            request = builder.build();
+        }
+    }
+
+    /**
+     * 계약 생성 요청 생성기
+     * 업체+상품 조합과 기간이 겹치지 않는 요청을 만들며, 순번은 모든 스레드가 공유합니다. ({@link NewContractSequence})
+     */
+    @State(Scope.Thread)
+    public static class CreateState {
+
+        ContractService contractService;
+        NewContractSequence newContracts;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkApplication application) {
+            contractService = application.getBean(ContractService.class);
+            newContracts = application.getNewContracts();
+        }
+
+        ContractRequest nextRequest() {
+            return newContracts.next();
+        }
+    }
+
+    @Benchmark
+    public ContractResponse createContract(CreateState state) {
+        return state.contractService.createContract(state.nextRequest());
+    }
+
+    @Benchmark
+    public PageResponse<ContractResponse> getContracts(ListState state) {
+        return state.contractService.getContracts(state.request);
+    }
+
+    @Benchmark
+    public CursorPageResponse<ContractResponse> getContractsByCursor(ListState state) {
+        return state.contractService.getContractsByCursor(state.request);
+    }
+}
@@ -0,0 +1,81 @@
+package com.advertising.benchmark;
+
+import com.advertising.common.time.BusinessClock;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.enums.ContractStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Contract#statusOn(LocalDate)} 벤치마크
+ *
+ * <p>스프링 컨텍스트 없이 엔티티만 사용합니다.
+ * 기간이 오늘 기준 과거/현재/미래에 고르게 흩어진 계약을 순서대로 돌며 상태를 판정하므로,
+ * 분기 예측이 한쪽으로 치우치지 않습니다. 판정은 엔티티를 바꾸지 않으므로 매 호출이 같은 경로를 탑니다.
+ * <ul>
+ *   <li>systemDate: 판정마다 {@code LocalDate.now(zone)}으로 날짜를 계산 (시간대 규칙 조회 포함)</li>
+ *   <li>businessClock: {@link BusinessClock#today()}가 캐시한 영업일 사용</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContractStatusBenchmark {
+
+    private static final int CONTRACT_COUNT = 1024;
+
+    private final ZoneId zone = ZoneId.of("Asia/Seoul");
+    private final BusinessClock businessClock = new BusinessClock(Clock.system(zone));
+
+    private Contract[] contracts;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(20260101L);
+        LocalDate today = businessClock.today();
+
+        contracts = new Contract[CONTRACT_COUNT];
+        for (int i = 0; i < CONTRACT_COUNT; i++) {
+            LocalDate startDate = today.plusDays(random.nextInt(-365, 365));
+            contracts[i] = Contract.builder()
+                    .contractNumber("BMK-" + i)
+                    .startDate(startDate)
+                    .endDate(startDate.plusDays(random.nextInt(28, 180)))
+                    .amount(BigDecimal.valueOf(100000))
+                    .status(ContractStatus.PENDING)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public ContractStatus systemDate() {
+        Contract contract = contracts[index++ & (CONTRACT_COUNT - 1)];
+        return contract.statusOn(LocalDate.now(zone));
+    }
+
+    @Benchmark
+    public ContractStatus businessClock() {
+        Contract contract = contracts[index++ & (CONTRACT_COUNT - 1)];
+        return contract.statusOn(businessClock.today());
+    }
+}
@@ -0,0 +1,47 @@
+package com.advertising.benchmark;
+
+import com.advertising.application.dto.ContractRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계약 생성 요청 생성기
+ *
+ * <p>같은 업체, 상품으로 기간이 겹치는 계약은 거절되므로, 요청마다 다른 업체+상품 조합이나 다른 기간을 사용합니다.
+ * 업체+상품 조합을 모두 한 번씩 사용한 뒤에는 기간을 31일씩 뒤로 옮기고,
+ * 첫 기간은 시드 계약이 끝난 다음 날부터 시작하므로 시드 계약과도 겹치지 않습니다.
+ *
+ * <p>순번은 여러 스레드가 함께 사용하므로 스레드 수와 관계없이 요청이 서로 겹치지 않습니다.
+ */
+public class NewContractSequence {
+
+    private static final int PERIOD_DAYS = 30;
+
+    private final List<Long> companyIds;
+    private final List<Long> productIds;
+    private final LocalDate firstStartDate;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public NewContractSequence(BenchmarkDataSeeder.SeedResult seed) {
+        this.companyIds = seed.companyIds();
+        this.productIds = seed.productIds();
+        this.firstStartDate = seed.seededUntil().plusDays(1);
+    }
+
+    public ContractRequest next() {
+        long n = sequence.getAndIncrement();
+        long pairs = (long) companyIds.size() * productIds.size();
+        long pair = n % pairs;
+        LocalDate startDate = firstStartDate.plusDays((n / pairs) * (PERIOD_DAYS + 1));
+        return ContractRequest.builder()
+                .companyId(companyIds.get((int) (pair % companyIds.size())))
+                .productId(productIds.get((int) (pair / companyIds.size())))
+                .startDate(startDate)
+                .endDate(startDate.plusDays(PERIOD_DAYS))
+                .amount(BigDecimal.valueOf(10000 + n % 990001))
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.advertising.benchmark;
+
+import com.advertising.application.cache.CachedCompany;
+import com.advertising.application.cache.CachedProduct;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ContractRow;
+import com.advertising.domain.repository.ContractStatusCondition;
+import com.advertising.domain.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 경로별 엔티티 조회 vs DTO 프로젝션 조회 벤치마크
+ *
+ * <p>같은 읽기 전용 트랜잭션 안에서 관리 엔티티로 읽는 경우({@code entity*})와 응답에 필요한 컬럼만 값 객체로 읽는 경우
+ * ({@code projection*})를 비교합니다. 엔티티 쪽은 프로젝션으로 바꾸기 전의 쿼리(fetch join, findAll, findById)를 그대로 사용합니다.
+ * 할당량 차이는 GC 프로파일러로 확인합니다. ({@code -prof gc}의 {@code gc.alloc.rate.norm}, 호출당 바이트)
+ * <ul>
+ *   <li>contractPage: 계약 목록 한 페이지(20건, 업체, 상품 포함)</li>
+ *   <li>contractDetail: 계약 상세 한 건(업체, 상품 포함)</li>
+ *   <li>companies / products: 업체, 상품 캐시 전체 적재</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final String CONTRACT_PAGE = "SELECT c FROM Contract c " +
+            "LEFT JOIN FETCH c.company co " +
+            "LEFT JOIN FETCH c.product p " +
+            "ORDER BY c.startDate DESC, c.endDate DESC";
+
+    private ContractRepository contractRepository;
+    private CompanyRepository companyRepository;
+    private ProductRepository productRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private Pageable page;
+    private ContractStatusCondition noStatus;
+    private Long contractId;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        contractRepository = application.getBean(ContractRepository.class);
+        companyRepository = application.getBean(CompanyRepository.class);
+        productRepository = application.getBean(ProductRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                application.getBean(EntityManagerFactory.class));
+        readOnly = new TransactionTemplate(application.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        page = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "startDate")
+                .and(Sort.by(Sort.Direction.DESC, "endDate")));
+        noStatus = ContractStatusCondition.of(null, LocalDate.now());
+        contractId = application.getSeed().contractIds().get(0);
+    }
+
+    @Benchmark
+    public List<Contract> entityContractPage() {
+        return readOnly.execute(status -> entityManager.createQuery(CONTRACT_PAGE, Contract.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<ContractRow> projectionContractPage() {
+        return readOnly.execute(status -> contractRepository.findByConditions(null, noStatus, null, null, page));
+    }
+
+    @Benchmark
+    public Contract entityContractDetail() {
+        return readOnly.execute(status -> contractRepository.findWithCompanyAndProductById(contractId).orElseThrow());
+    }
+
+    @Benchmark
+    public ContractRow projectionContractDetail() {
+        return readOnly.execute(status -> contractRepository.findRowById(contractId).orElseThrow());
+    }
+
+    @Benchmark
+    public List<Company> entityCompanies() {
+        return readOnly.execute(status -> companyRepository.findAll());
+    }
+
+    @Benchmark
+    public List<CachedCompany> projectionCompanies() {
+        return readOnly.execute(status -> companyRepository.findAllBy(CachedCompany.class));
+    }
+
+    @Benchmark
+    public List<Product> entityProducts() {
+        return readOnly.execute(status -> productRepository.findAll());
+    }
+
+    @Benchmark
+    public List<CachedProduct> projectionProducts() {
+        return readOnly.execute(status -> productRepository.findAllBy(CachedProduct.class));
+    }
+}
@@ -0,0 +1,102 @@
+package com.advertising.loadtest;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ *
+ * <p>실행 인자는 {@code key=value} 형식입니다. (예: {@code duration=60 concurrency=64 mix=create:1,list:4})
+ *
+ * @param warmupSeconds   워밍업 시간 (결과에 포함하지 않음)
+ * @param durationSeconds 측정 시간
+ * @param concurrency     동시에 요청을 보내는 가상 사용자 수 (각자 응답을 받은 뒤 다음 요청을 보냄)
+ * @param mix             엔드포인트별 요청 비율
+ * @param companies       생성할 업체 수
+ * @param products        생성할 상품 수
+ * @param contracts       생성할 계약 수
+ * @param report          결과 리포트(JSON) 경로
+ * @param profiles        애플리케이션 활성 프로파일 (예: {@code virtual-threads}, 비어 있으면 기본 설정)
+ * @param failOnError     오류 응답이 하나라도 있으면 실패로 종료 (스모크 실행용)
+ */
+public record LoadTestConfig(
+        int warmupSeconds,
+        int durationSeconds,
+        int concurrency,
+        Map<Endpoint, Integer> mix,
+        int companies,
+        int products,
+        int contracts,
+        String report,
+        String profiles,
+        boolean failOnError
+) {
+
+    private static final String DEFAULT_MIX = "create:1,list:4,search:4,detail:4";
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("인자는 key=value 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestConfig(
+                intValue(values, "warmup", 10),
+                intValue(values, "duration", 30),
+                intValue(values, "concurrency", 32),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                intValue(values, "companies", 1000),
+                intValue(values, "products", 10),
+                intValue(values, "contracts", 10000),
+                values.getOrDefault("report", "target/loadtest-report.json"),
+                values.getOrDefault("profiles", ""),
+                Boolean.parseBoolean(values.getOrDefault("failOnError", "false"))
+        );
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix는 endpoint:weight 목록이어야 합니다: " + mix);
+            }
+            int weight = Integer.parseInt(pair[1]);
+            if (weight > 0) {
+                weights.put(Endpoint.from(pair[0]), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("mix에 비율이 0보다 큰 엔드포인트가 하나 이상 있어야 합니다: " + mix);
+        }
+        return weights;
+    }
+
+    /**
+     * 부하 대상 엔드포인트
+     */
+    public enum Endpoint {
+        /** POST /contracts */
+        CREATE,
+        /** GET /contracts (필터 조합 무작위) */
+        LIST,
+        /** GET /companies/search */
+        SEARCH,
+        /** GET /contracts/{id} */
+        DETAIL;
+
+        public static Endpoint from(String value) {
+            return valueOf(value.trim().toUpperCase());
+        }
+    }
+}
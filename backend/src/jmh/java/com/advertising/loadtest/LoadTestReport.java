@@ -0,0 +1,112 @@
+package com.advertising.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 리포트
+ *
+ * @param startedAt       측정 시작 시각
+ * @param javaVersion     JVM 버전
+ * @param processors      사용 가능한 CPU 수
+ * @param executor        요청 스레드 종류 (virtual / platform)
+ * @param serverThreads   애플리케이션 요청 처리 스레드 종류 (virtual / platform)
+ * @param config          실행 설정
+ * @param measuredSeconds 실제 측정 시간 (초)
+ * @param endpoints       엔드포인트별 결과
+ */
+public record LoadTestReport(
+        OffsetDateTime startedAt,
+        String javaVersion,
+        int processors,
+        String executor,
+        String serverThreads,
+        LoadTestConfig config,
+        double measuredSeconds,
+        List<EndpointResult> endpoints
+) {
+
+    public void writeTo(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(path.toFile(), this);
+    }
+
+    /**
+     * 전체 엔드포인트의 실패 수
+     */
+    public long errorCount() {
+        return endpoints.stream().mapToLong(EndpointResult::errors).sum();
+    }
+
+    /**
+     * 콘솔 출력용 표를 만듭니다.
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format(
+                "%-8s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "mean(ms)", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+        for (EndpointResult endpoint : endpoints) {
+            LatencySummary latency = endpoint.latencyMillis();
+            table.append(String.format("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    endpoint.endpoint(), endpoint.requests(), endpoint.errors(), endpoint.throughput(),
+                    latency.mean(), latency.p50(), latency.p99(), latency.p999(), latency.max()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * 엔드포인트별 결과
+     *
+     * @param endpoint      엔드포인트
+     * @param requests      측정 구간 요청 수
+     * @param errors        실패 수 (4xx/5xx 응답 또는 전송 실패)
+     * @param errorKinds    실패 종류별 건수 (HTTP 상태 코드 또는 예외 이름)
+     * @param throughput    초당 처리량
+     * @param latencyMillis 응답 시간 분포 (밀리초)
+     */
+    public record EndpointResult(
+            LoadTestConfig.Endpoint endpoint,
+            long requests,
+            long errors,
+            Map<String, Long> errorKinds,
+            double throughput,
+            LatencySummary latencyMillis
+    ) {
+    }
+
+    /**
+     * 응답 시간 분포 요약 (밀리초)
+     */
+    public record LatencySummary(double min, double mean, double p50, double p90, double p99, double p999, double max) {
+
+        public static LatencySummary of(LatencyHistogram histogram) {
+            return new LatencySummary(
+                    millis(histogram.getMin()),
+                    histogram.getMean() / 1000.0,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMax())
+            );
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
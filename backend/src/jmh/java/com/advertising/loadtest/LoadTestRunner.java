@@ -0,0 +1,269 @@
+package com.advertising.loadtest;
+
+import com.advertising.application.dto.ContractRequest;
+import com.advertising.benchmark.BenchmarkApplication;
+import com.advertising.benchmark.BenchmarkDataSeeder;
+import com.advertising.benchmark.NewContractSequence;
+import com.advertising.loadtest.LoadTestConfig.Endpoint;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP 부하 테스트 실행기
+ *
+ * <p>애플리케이션을 임의 포트로 띄우고 {@link BenchmarkDataSeeder}로 데이터를 만든 뒤,
+ * JDK {@link HttpClient}로 Tomcat → 컨트롤러 → JPA → H2 전체 경로에 요청을 보냅니다.
+ * 외부 서버나 네트워크 없이 한 프로세스 안에서 동작합니다.
+ *
+ * <p>가상 사용자(concurrency)마다 응답을 받은 뒤 다음 요청을 보내는 closed-loop 방식이며,
+ * 엔드포인트는 설정된 비율에 따라 무작위로 고릅니다. 워밍업 이후 구간의 응답 시간만 엔드포인트별
+ * {@link LatencyHistogram}에 기록하고, 결과를 콘솔 표와 JSON 리포트로 남깁니다.
+ *
+ * <p>요청 스레드는 가상 스레드를 사용할 수 있는 JVM(21 이상)이면 가상 스레드로, 아니면 가상 사용자 수만큼의
+ * 플랫폼 스레드 풀로 만듭니다. 빌드 대상이 Java 17이므로 가상 스레드 API는 실행 시점에 찾아 사용합니다.
+ *
+ * <p>{@code profiles=virtual-threads}로 실행하면 애플리케이션도 가상 스레드 실행 모드로 떠서
+ * 두 실행 모드를 같은 조건에서 비교할 수 있습니다.
+ */
+public class LoadTestRunner {
+
+    private final LoadTestConfig config;
+    private final BenchmarkDataSeeder.SeedResult seed;
+    private final String baseUrl;
+    private final String serverThreads;
+    private final HttpClient httpClient;
+
+    private final Map<Endpoint, LatencyHistogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Map<String, LongAdder>> errorKinds = new EnumMap<>(Endpoint.class);
+
+    private final Endpoint[] weightedEndpoints;
+    private final NewContractSequence newContracts;
+    private final LocalDate today = LocalDate.now();
+
+    LoadTestRunner(LoadTestConfig config, BenchmarkDataSeeder.SeedResult seed, int port, String serverThreads) {
+        this.config = config;
+        this.seed = seed;
+        this.baseUrl = "http://localhost:" + port + "/api";
+        this.serverThreads = serverThreads;
+        this.newContracts = new NewContractSequence(seed);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<Endpoint> weighted = new ArrayList<>();
+        config.mix().forEach((endpoint, weight) -> {
+            histograms.put(endpoint, new LatencyHistogram());
+            errors.put(endpoint, new LongAdder());
+            errorKinds.put(endpoint, new ConcurrentHashMap<>());
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        this.weightedEndpoints = weighted.toArray(Endpoint[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        ConfigurableApplicationContext context = config.profiles().isBlank()
+                ? BenchmarkApplication.run("--server.port=0")
+                : BenchmarkApplication.run("--server.port=0", "--spring.profiles.active=" + config.profiles());
+        ExecutorService executor = newRequestExecutor(config.concurrency());
+        try {
+            BenchmarkDataSeeder.SeedResult seed = new BenchmarkDataSeeder(context)
+                    .seed(config.companies(), config.products(), config.contracts());
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            String serverThreads = Threading.VIRTUAL.isActive(context.getEnvironment()) ? "virtual" : "platform";
+
+            LoadTestReport report = new LoadTestRunner(config, seed, port, serverThreads).run(executor);
+
+            System.out.println("server threads: " + report.serverThreads());
+            System.out.println(report.toTable());
+            report.writeTo(Path.of(config.report()));
+            System.out.println("report: " + Path.of(config.report()).toAbsolutePath());
+
+            if (config.failOnError() && report.errorCount() > 0) {
+                throw new IllegalStateException("오류 응답이 있습니다: " + report.errorCount() + "건");
+            }
+        } finally {
+            executor.shutdownNow();
+            context.close();
+        }
+    }
+
+    LoadTestReport run(ExecutorService executor) throws Exception {
+        long measureFrom = System.nanoTime() + Duration.ofSeconds(config.warmupSeconds()).toNanos();
+        long measureUntil = measureFrom + Duration.ofSeconds(config.durationSeconds()).toNanos();
+        OffsetDateTime startedAt = OffsetDateTime.now().plusSeconds(config.warmupSeconds());
+
+        List<Future<?>> users = new ArrayList<>(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            users.add(executor.submit(() -> runUser(measureFrom, measureUntil)));
+        }
+        for (Future<?> user : users) {
+            user.get();
+        }
+
+        double measuredSeconds = config.durationSeconds();
+        List<LoadTestReport.EndpointResult> results = new ArrayList<>();
+        histograms.forEach((endpoint, histogram) -> {
+            Map<String, Long> kinds = new TreeMap<>();
+            errorKinds.get(endpoint).forEach((kind, count) -> kinds.put(kind, count.sum()));
+            results.add(new LoadTestReport.EndpointResult(
+                    endpoint,
+                    histogram.getCount(),
+                    errors.get(endpoint).sum(),
+                    kinds,
+                    histogram.getCount() / measuredSeconds,
+                    LoadTestReport.LatencySummary.of(histogram)
+            ));
+        });
+
+        return new LoadTestReport(
+                startedAt,
+                System.getProperty("java.version"),
+                Runtime.getRuntime().availableProcessors(),
+                isVirtualThreadAvailable() ? "virtual" : "platform",
+                serverThreads,
+                config,
+                measuredSeconds,
+                results
+        );
+    }
+
+    private void runUser(long measureFrom, long measureUntil) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < measureUntil) {
+            Endpoint endpoint = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+            HttpRequest request = newRequest(endpoint, random);
+
+            long startedAt = System.nanoTime();
+            String failure = null;
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() >= 400) {
+                    failure = String.valueOf(response.statusCode());
+                }
+            } catch (IOException e) {
+                failure = e.getClass().getSimpleName();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long finishedAt = System.nanoTime();
+
+            if (startedAt >= measureFrom && finishedAt <= measureUntil) {
+                histograms.get(endpoint).record((finishedAt - startedAt) / 1000);
+                if (failure != null) {
+                    errors.get(endpoint).increment();
+                    errorKinds.get(endpoint).computeIfAbsent(failure, kind -> new LongAdder()).increment();
+                }
+            }
+        }
+    }
+
+    private HttpRequest newRequest(Endpoint endpoint, ThreadLocalRandom random) {
+        return switch (endpoint) {
+            case CREATE -> HttpRequest.newBuilder(URI.create(baseUrl + "/contracts"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(newContractJson()))
+                    .build();
+            case LIST -> get("/contracts?" + randomListQuery(random));
+            case SEARCH -> get("/companies/search?keyword=" + encode(randomKeyword(random)));
+            case DETAIL -> get("/contracts/" + pick(seed.contractIds(), random));
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    /**
+     * 계약 생성 요청 본문
+     * 업체+상품 조합과 기간이 다른 요청과도, 시드 계약과도 겹치지 않습니다. ({@link NewContractSequence})
+     */
+    private String newContractJson() {
+        ContractRequest request = newContracts.next();
+        return "{\"companyId\":" + request.getCompanyId()
+                + ",\"productId\":" + request.getProductId()
+                + ",\"startDate\":\"" + request.getStartDate() + "\""
+                + ",\"endDate\":\"" + request.getEndDate() + "\""
+                + ",\"amount\":" + request.getAmount() + "}";
+    }
+
+    /**
+     * 필터 없음 / 업체명 / 상태 / 기간 / 전체 조합 중 하나를 고릅니다.
+     */
+    private String randomListQuery(ThreadLocalRandom random) {
+        String paging = "page=" + random.nextInt(5) + "&size=20";
+        return switch (random.nextInt(5)) {
+            case 0 -> paging;
+            case 1 -> paging + "&companyName=" + encode(randomKeyword(random));
+            case 2 -> paging + "&statuses=IN_PROGRESS";
+            case 3 -> paging + "&startDate=" + today + "&endDate=" + today.plusDays(30);
+            default -> paging + "&companyName=" + encode(randomKeyword(random))
+                    + "&statuses=PENDING,IN_PROGRESS&startDate=" + today + "&endDate=" + today.plusDays(30);
+        };
+    }
+
+    /**
+     * 실제 업체명에서 단어 하나를 골라 검색어로 사용합니다.
+     */
+    private String randomKeyword(ThreadLocalRandom random) {
+        String[] words = pick(seed.companyNames(), random).split(" ");
+        return words[random.nextInt(words.length)];
+    }
+
+    private static <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 가상 스레드 실행기를 만듭니다. 사용할 수 없는 JVM이면 가상 사용자 수만큼의 고정 스레드 풀을 만듭니다.
+     */
+    static ExecutorService newRequestExecutor(int concurrency) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(concurrency);
+        }
+    }
+
+    private static boolean isVirtualThreadAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
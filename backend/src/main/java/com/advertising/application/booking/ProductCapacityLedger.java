@@ -0,0 +1,187 @@
+package com.advertising.application.booking;
+
+import com.advertising.common.exception.BusinessException;
+import com.advertising.common.exception.ErrorCode;
+import com.advertising.domain.repository.ContractPeriod;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품별 일자 예약 장부
+ *
+ * <p>상품마다 날짜별로 취소되지 않은 계약 수를 세어, 계약 기간의 모든 날짜에 상품의 하루 최대 계약 수
+ * ({@code Product.dailyCapacity})보다 적게 예약되어 있을 때만 새 계약을 받습니다.
+ * 커밋된 계약은 {@link com.advertising.application.period.ContractPeriodSynchronizer}가 반영합니다.
+ *
+ * <p>장부는 커밋 후에 갱신되므로, 계약 생성은 저장 전에 {@link #book}으로 자리를 잡아 두고 트랜잭션이 끝나면
+ * {@link #release}로 해제합니다. 커밋 후 이벤트가 afterCompletion보다 먼저 실행되므로 커밋된 계약과 잡아 둔 자리가
+ * 잠깐 함께 세어질 수는 있어도 빠지는 순간은 없습니다.
+ *
+ * <p>같은 상품의 예약은 상품 ID로 고른 잠금(lock striping) 하나로 직렬화하므로, 서로 다른 상품의 예약은
+ * 대부분 다른 잠금을 잡아 동시에 진행됩니다. 한 번의 예약은 계약 기간의 날짜 수만큼만 장부를 확인합니다.
+ */
+@Component
+public class ProductCapacityLedger {
+    
+    private static final int STRIPES = 64;
+    
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final AtomicLong bookingSequence = new AtomicLong();
+    
+    /** 상품 ID -> 날짜(epoch day)별 예약 수 (상품의 stripe 잠금으로 보호) */
+    private final Map<Long, Map<Long, Integer>> bookedDays = new ConcurrentHashMap<>();
+    
+    /** 계약 ID -> 기간 (처리 중인 예약은 음수 ID) */
+    private final Map<Long, ContractPeriod> bookings = new ConcurrentHashMap<>();
+    
+    public ProductCapacityLedger() {
+        Arrays.setAll(stripes, i -> new ReentrantLock());
+    }
+    
+    /**
+     * 계약 기간의 모든 날짜에 자리가 있으면 하루씩 예약합니다. dailyCapacity가 null이면 제한 없이 예약만 기록합니다.
+     * 예약은 트랜잭션이 끝난 뒤 {@link #release}로 해제해야 합니다.
+     *
+     * @throws BusinessException 하루 최대 계약 수가 찬 날짜가 있는 경우 (CAPACITY_EXCEEDED)
+     */
+    public Booking book(Long productId, LocalDate startDate, LocalDate endDate, Integer dailyCapacity) {
+        ReentrantLock lock = stripeOf(productId);
+        lock.lock();
+        try {
+            if (dailyCapacity != null) {
+                Map<Long, Integer> days = bookedDays.getOrDefault(productId, Map.of());
+                for (long day = startDate.toEpochDay(); day <= endDate.toEpochDay(); day++) {
+                    if (days.getOrDefault(day, 0) >= dailyCapacity) {
+                        throw new BusinessException(ErrorCode.CAPACITY_EXCEEDED,
+                                String.format("%s에 상품의 하루 최대 계약 수(%d건)가 모두 찼습니다.",
+                                        LocalDate.ofEpochDay(day), dailyCapacity));
+                    }
+                }
+            }
+            
+            ContractPeriod booking = new ContractPeriod(-bookingSequence.incrementAndGet(), null,
+                    productId, startDate, endDate);
+            bookings.put(booking.id(), booking);
+            count(booking, 1);
+            return new Booking(booking.id());
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 예약을 해제합니다. 이미 해제된 예약이면 아무것도 하지 않습니다.
+     */
+    public void release(Booking booking) {
+        remove(booking.id());
+    }
+    
+    /**
+     * 커밋된 계약의 기간을 반영합니다. 같은 계약이 이미 있으면 기간을 바꿉니다.
+     */
+    public void put(ContractPeriod period) {
+        ReentrantLock lock = stripeOf(period.productId());
+        lock.lock();
+        try {
+            ContractPeriod previous = bookings.put(period.id(), period);
+            if (previous != null) {
+                count(previous, -1);
+            }
+            count(period, 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 계약을 장부에서 뺍니다. (취소, 삭제)
+     */
+    public void remove(Long contractId) {
+        ContractPeriod period = bookings.get(contractId);
+        if (period == null) {
+            return;
+        }
+        // 계약의 상품은 바뀌지 않으므로 잠금을 잡은 뒤 다시 꺼내도 같은 stripe
+        ReentrantLock lock = stripeOf(period.productId());
+        lock.lock();
+        try {
+            ContractPeriod removed = bookings.remove(contractId);
+            if (removed != null) {
+                count(removed, -1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 커밋된 전체 계약으로 장부를 다시 만듭니다. 처리 중인 예약은 유지합니다.
+     * 모든 stripe 잠금을 순서대로 잡으므로 재구성하는 동안에는 예약을 받지 않습니다.
+     */
+    public void rebuild(Collection<ContractPeriod> contractPeriods) {
+        for (ReentrantLock lock : stripes) {
+            lock.lock();
+        }
+        try {
+            bookings.values().removeIf(period -> period.id() > 0);
+            bookedDays.clear();
+            bookings.values().forEach(booking -> count(booking, 1));
+            for (ContractPeriod period : contractPeriods) {
+                bookings.put(period.id(), period);
+                count(period, 1);
+            }
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+    }
+    
+    /**
+     * 날짜 date에 상품에 예약된 계약 수 (처리 중인 예약 포함)
+     */
+    public int bookedOn(Long productId, LocalDate date) {
+        ReentrantLock lock = stripeOf(productId);
+        lock.lock();
+        try {
+            return bookedDays.getOrDefault(productId, Map.of()).getOrDefault(date.toEpochDay(), 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 장부에 있는 계약 수 (처리 중인 예약 제외)
+     */
+    public int size() {
+        return (int) bookings.keySet().stream().filter(id -> id > 0).count();
+    }
+    
+    private void count(ContractPeriod period, int delta) {
+        Map<Long, Integer> days = bookedDays.computeIfAbsent(period.productId(), key -> new HashMap<>());
+        for (long day = period.startDate().toEpochDay(); day <= period.endDate().toEpochDay(); day++) {
+            days.merge(day, delta, (current, change) -> current + change == 0 ? null : current + change);
+        }
+        if (days.isEmpty()) {
+            bookedDays.remove(period.productId());
+        }
+    }
+    
+    private ReentrantLock stripeOf(Long productId) {
+        return stripes[Math.floorMod(productId.hashCode(), STRIPES)];
+    }
+    
+    /**
+     * 상품 일자 예약
+     */
+    public record Booking(long id) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.advertising.application.cache;
+
+import com.advertising.domain.entity.Company;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 보관하는 업체 정보 (불변)
+ */
+public record CachedCompany(Long id, String companyNumber, String name, String type, LocalDateTime updatedAt) {
+
+    public static CachedCompany from(Company company) {
+        return new CachedCompany(company.getId(), company.getCompanyNumber(), company.getName(), company.getType(),
+                company.getUpdatedAt());
+    }
+}
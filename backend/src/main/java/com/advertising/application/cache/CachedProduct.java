@@ -0,0 +1,17 @@
+package com.advertising.application.cache;
+
+import com.advertising.domain.entity.Product;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 보관하는 상품 정보 (불변)
+ */
+public record CachedProduct(Long id, String name, String description, Integer dailyCapacity,
+                            LocalDateTime updatedAt) {
+
+    public static CachedProduct from(Product product) {
+        return new CachedProduct(product.getId(), product.getName(), product.getDescription(),
+                product.getDailyCapacity(), product.getUpdatedAt());
+    }
+}
@@ -0,0 +1,44 @@
+package com.advertising.application.cache;
+
+import com.advertising.domain.repository.CompanyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업체 캐시
+ */
+@Component
+public class CompanyCache extends ReferenceDataCache<CachedCompany> {
+
+    private final CompanyRepository companyRepository;
+
+    public CompanyCache(CompanyRepository companyRepository,
+                        @Value("${advertising.reference-cache.company-max-size:10000}") int maxSize) {
+        super("company", maxSize);
+        this.companyRepository = companyRepository;
+    }
+
+    @Override
+    protected Optional<CachedCompany> load(Long id) {
+        return companyRepository.findProjectedById(id, CachedCompany.class);
+    }
+
+    @Override
+    protected List<CachedCompany> loadAll() {
+        return companyRepository.findAllBy(CachedCompany.class);
+    }
+
+    @Override
+    protected Long idOf(CachedCompany company) {
+        return company.id();
+    }
+
+    @Override
+    protected LocalDateTime updatedAtOf(CachedCompany company) {
+        return company.updatedAt();
+    }
+}
@@ -0,0 +1,44 @@
+package com.advertising.application.cache;
+
+import com.advertising.domain.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상품 캐시
+ */
+@Component
+public class ProductCache extends ReferenceDataCache<CachedProduct> {
+
+    private final ProductRepository productRepository;
+
+    public ProductCache(ProductRepository productRepository,
+                        @Value("${advertising.reference-cache.product-max-size:1000}") int maxSize) {
+        super("product", maxSize);
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    protected Optional<CachedProduct> load(Long id) {
+        return productRepository.findProjectedById(id, CachedProduct.class);
+    }
+
+    @Override
+    protected List<CachedProduct> loadAll() {
+        return productRepository.findAllBy(CachedProduct.class);
+    }
+
+    @Override
+    protected Long idOf(CachedProduct product) {
+        return product.id();
+    }
+
+    @Override
+    protected LocalDateTime updatedAtOf(CachedProduct product) {
+        return product.updatedAt();
+    }
+}
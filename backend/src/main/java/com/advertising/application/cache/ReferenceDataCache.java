@@ -0,0 +1,229 @@
+package com.advertising.application.cache;
+
+import com.advertising.application.dto.Versioned;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기준 데이터(업체, 상품) 캐시
+ *
+ * <p>거의 바뀌지 않는 데이터를 ID 단건 조회와 전체 목록 두 가지 형태로 보관합니다.
+ * <ul>
+ *   <li>단건: 최대 {@code maxSize}개까지 보관하며, 넘치면 먼저 들어온 항목부터 제거합니다.
+ *       존재하지 않는 ID는 캐시하지 않으므로 새로 등록된 데이터도 바로 조회됩니다.</li>
+ *   <li>전체 목록: 불변 리스트 스냅샷 하나를 공유합니다. 스냅샷에는 건수와 최종 수정 일시로 만든 버전이 함께 붙습니다.</li>
+ * </ul>
+ *
+ * <p>데이터가 바뀌면 {@link #invalidate(Long)} 또는 {@link #invalidateAll()}로 무효화합니다.
+ * 무효화 시 세대 번호가 올라가며, 무효화 이전에 시작된 조회 결과는 캐시에 넣지 않으므로
+ * 변경 직후 오래된 값이 다시 자리잡는 일이 없습니다. 세대 확인과 캐시에 넣는 사이에 무효화가 끼어들 수 있으므로
+ * 넣은 뒤 세대를 다시 확인하고, 그 사이 바뀌었으면 넣은 값을 되돌립니다.
+ *
+ * @param <T> 캐시할 불변 값 타입
+ */
+public abstract class ReferenceDataCache<T> {
+
+    private final String name;
+    private final int maxSize;
+
+    private final Map<Long, T> entries = new ConcurrentHashMap<>();
+
+    /** 단건 항목의 등록 순서 (제거 순서) */
+    private final Queue<Long> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /** 전체 목록 스냅샷 (무효화되면 null) */
+    private final AtomicReference<Snapshot<T>> snapshot = new AtomicReference<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    protected ReferenceDataCache(String name, int maxSize) {
+        this.name = name;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 저장소에서 단건을 조회합니다.
+     */
+    protected abstract Optional<T> load(Long id);
+
+    /**
+     * 저장소에서 전체 목록을 조회합니다.
+     */
+    protected abstract List<T> loadAll();
+
+    /**
+     * 값의 ID를 반환합니다.
+     */
+    protected abstract Long idOf(T value);
+    
+    /**
+     * 값의 수정 일시를 반환합니다. (스냅샷 버전 계산용)
+     */
+    protected abstract LocalDateTime updatedAtOf(T value);
+
+    /**
+     * ID로 조회합니다. 캐시에 없으면 저장소에서 읽어 캐시에 넣습니다.
+     */
+    public Optional<T> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        T cached = entries.get(id);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        long loadedAt = generation.get();
+        Optional<T> loaded = load(id);
+        loaded.ifPresent(value -> store(id, value, loadedAt));
+        return loaded;
+    }
+
+    /**
+     * 단건 항목이 캐시에 있는지 확인합니다. (조회 통계에는 포함하지 않음)
+     */
+    public boolean contains(Long id) {
+        return id != null && entries.containsKey(id);
+    }
+
+    /**
+     * 전체 목록의 불변 스냅샷을 반환합니다.
+     */
+    public List<T> findAll() {
+        return snapshot().values();
+    }
+
+    /**
+     * 전체 목록의 불변 스냅샷을 버전과 함께 반환합니다.
+     */
+    public Snapshot<T> snapshot() {
+        Snapshot<T> current = snapshot.get();
+        if (current != null) {
+            hits.increment();
+            return current;
+        }
+
+        misses.increment();
+        long loadedAt = generation.get();
+        List<T> values = List.copyOf(loadAll());
+        Snapshot<T> loaded = new Snapshot<>(values, versionOf(values));
+        if (generation.get() == loadedAt) {
+            snapshot.set(loaded);
+            if (generation.get() != loadedAt) {
+                // 확인 직후 무효화가 끼어들었으면 되돌림 (무효화가 확인보다 늦으면 무효화가 직접 지움)
+                snapshot.compareAndSet(loaded, null);
+                return loaded;
+            }
+            values.forEach(value -> store(idOf(value), value, loadedAt));
+        }
+        return loaded;
+    }
+
+    /**
+     * 한 건이 변경되었을 때 해당 항목과 전체 목록 스냅샷을 무효화합니다.
+     */
+    public void invalidate(Long id) {
+        generation.incrementAndGet();
+        snapshot.set(null);
+        if (id != null) {
+            entries.remove(id);
+            insertionOrder.remove(id);
+        }
+    }
+
+    /**
+     * 모든 항목을 무효화합니다. (벌크 변경 등 변경 대상을 특정할 수 없는 경우)
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+        entries.clear();
+        insertionOrder.clear();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 목록의 버전을 계산합니다.
+     * 추가/수정은 최종 수정 일시를, 삭제는 건수를 바꾸므로 목록이 바뀌면 버전도 바뀝니다.
+     */
+    private String versionOf(List<T> values) {
+        LocalDateTime lastUpdatedAt = values.stream()
+                .map(this::updatedAtOf)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return values.size() + "-" + Versioned.versionOf(lastUpdatedAt);
+    }
+
+    private void store(Long id, T value, long loadedAt) {
+        if (generation.get() != loadedAt) {
+            return;
+        }
+        if (entries.putIfAbsent(id, value) != null) {
+            return;
+        }
+        if (generation.get() != loadedAt) {
+            // 확인 직후 무효화가 끼어들었으면 넣은 값만 되돌림
+            entries.remove(id, value);
+            return;
+        }
+        insertionOrder.add(id);
+        evictOverflow();
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > maxSize) {
+            Long oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            if (entries.remove(oldest) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 전체 목록 스냅샷
+     *
+     * @param values  불변 목록
+     * @param version 목록 버전 (ETag 계산용)
+     */
+    public record Snapshot<T>(List<T> values, String version) {
+    }
+
+    /**
+     * 캐시 적중/실패 통계
+     */
+    public record CacheStats(String name, long hits, long misses, long evictions, int size) {
+
+        public double hitRatio() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.advertising.application.cache;
+
+import com.advertising.common.event.PostCommitEntityListener;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Product;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기준 데이터 캐시 무효화
+ *
+ * <p>업체, 상품이 추가/수정/삭제되어 커밋되면 해당 캐시 항목과 전체 목록 스냅샷을 무효화합니다.
+ * 롤백된 변경은 캐시에 영향을 주지 않습니다.
+ * (JPQL 벌크 연산은 이벤트가 발생하지 않으므로 {@link ReferenceDataCache#invalidateAll()}을 직접 호출해야 합니다)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCacheInvalidator extends PostCommitEntityListener {
+    
+    private final CompanyCache companyCache;
+    private final ProductCache productCache;
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidate(event.getEntity(), event.getId());
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidate(event.getEntity(), event.getId());
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidate(event.getEntity(), event.getId());
+    }
+    
+    private void invalidate(Object entity, Object id) {
+        if (entity instanceof Company) {
+            companyCache.invalidate((Long) id);
+        } else if (entity instanceof Product) {
+            productCache.invalidate((Long) id);
+        }
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> mappedClass = persister.getMappedClass();
+        return Company.class.equals(mappedClass) || Product.class.equals(mappedClass);
+    }
+}
@@ -0,0 +1,12 @@
+package com.advertising.application.concurrent;
+
+/**
+ * 동시 조회가 마감 시간 안에 끝나지 않았을 때 발생합니다.
+ * 남은 분기는 이미 취소된 상태입니다.
+ */
+public class ParallelLookupTimeoutException extends RuntimeException {
+
+    public ParallelLookupTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,194 @@
+package com.advertising.application.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 조회를 동시에 실행하는 구조적 동시성 도우미
+ *
+ * <p>업체 + 상품 조회, 목록 + 전체 건수 조회처럼 결과가 서로에게 의존하지 않는 조회를 각각 별도 스레드로 나눠 실행하고,
+ * 모두 끝날 때까지 기다려 요청 순서대로 결과를 돌려줍니다.
+ * <ul>
+ *   <li>모든 분기는 하나의 마감 시간({@code advertising.parallel-lookups.timeout})을 공유하며,
+ *       마감까지 끝나지 않으면 {@link ParallelLookupTimeoutException}이 발생합니다.</li>
+ *   <li>한 분기가 실패하면 그 뒤에 선언된 분기를 바로 취소(인터럽트)하고, 실패한 분기의 예외를 그대로 다시 던집니다.
+ *       ({@link com.advertising.common.exception.BusinessException}은 감싸지 않으므로 에러 코드가 유지됩니다)</li>
+ *   <li>앞에 선언된 분기는 끝날 때까지 기다려, 여러 분기가 실패하면 항상 먼저 선언된 분기의 예외를 던집니다.
+ *       (업체와 상품이 모두 없으면 순차 조회와 같이 업체 없음 에러)</li>
+ *   <li>호출한 메서드가 반환될 때 실행 중인 분기는 남지 않습니다.</li>
+ * </ul>
+ *
+ * <p>분기는 Java 21 이상이면 가상 스레드에서, 아니면 크기가 제한된 플랫폼 스레드 풀에서 실행합니다.
+ * 풀이 가득 차면 호출 스레드가 직접 실행하므로 요청이 쌓이지 않습니다.
+ *
+ * <p>각 분기는 자기 커넥션과 트랜잭션으로 조회합니다. 호출 스레드에서 트랜잭션이 진행 중이면
+ * 다른 스레드에서는 그 트랜잭션의 변경 내용이 보이지 않으므로, 이때는 호출 스레드에서 순서대로 실행합니다.
+ * 같은 이유로 분기를 나누는 서비스 메서드는 커넥션을 쥔 채 분기를 기다리지 않도록 트랜잭션 없이 호출되어야 합니다.
+ */
+@Slf4j
+@Component
+public class ParallelLookups implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    @Autowired
+    public ParallelLookups(
+            @Value("${advertising.parallel-lookups.timeout:5s}") Duration timeout,
+            @Value("${advertising.parallel-lookups.platform-pool-size:32}") int platformPoolSize) {
+        this(newExecutor(platformPoolSize), timeout);
+    }
+
+    public ParallelLookups(ExecutorService executor, Duration timeout) {
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 두 조회를 동시에 실행합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <A, B> Both<A, B> both(Supplier<? extends A> first, Supplier<? extends B> second) {
+        List<Object> results = all(List.of(first, second));
+        return new Both<>((A) results.get(0), (B) results.get(1));
+    }
+
+    /**
+     * 조회 목록을 동시에 실행하고 결과를 요청 순서대로 반환합니다.
+     */
+    public <T> List<T> all(List<? extends Supplier<? extends T>> lookups) {
+        if (lookups.size() <= 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            List<T> results = new ArrayList<>(lookups.size());
+            lookups.forEach(lookup -> results.add(lookup.get()));
+            return results;
+        }
+        return fork(lookups);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> fork(List<? extends Supplier<? extends T>> lookups) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<T>> branches = new ArrayList<>(lookups.size());
+        Object[] results = new Object[lookups.size()];
+        boolean[] finished = new boolean[lookups.size()];
+        int failedIndex = lookups.size();
+        Throwable failure = null;
+
+        try {
+            for (Supplier<? extends T> lookup : lookups) {
+                branches.add(completionService.submit(lookup::get));
+            }
+            // 실패한 분기가 있으면 그보다 앞선 분기만 기다리면 됨 (뒤쪽 분기는 이미 취소됨)
+            while (!allFinishedBefore(finished, failedIndex)) {
+                Future<T> branch = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (branch == null) {
+                    throw new ParallelLookupTimeoutException(
+                            String.format("동시 조회가 %dms 안에 끝나지 않았습니다. (분기 %d개)",
+                                    timeout.toMillis(), branches.size()));
+                }
+                int index = branches.indexOf(branch);
+                finished[index] = true;
+                if (branch.isCancelled()) {
+                    continue;
+                }
+                try {
+                    results[index] = branch.get();
+                } catch (ExecutionException e) {
+                    if (index < failedIndex) {
+                        failedIndex = index;
+                        failure = e.getCause();
+                        branches.subList(index + 1, branches.size()).forEach(next -> next.cancel(true));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("동시 조회를 기다리는 중 인터럽트되었습니다.");
+        } finally {
+            // 실패, 마감 초과, 인터럽트 시 남은 분기 취소 (완료된 분기에는 영향 없음)
+            branches.forEach(branch -> branch.cancel(true));
+        }
+
+        if (failure != null) {
+            throw rethrow(failure);
+        }
+        return (List<T>) Arrays.asList(results);
+    }
+
+    private static boolean allFinishedBefore(boolean[] finished, int end) {
+        for (int i = 0; i < end; i++) {
+            if (!finished[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("동시 조회 중 오류가 발생했습니다.", cause);
+    }
+
+    @Override
+    public void destroy() {
+        // 가상 스레드는 작업마다 새로 만들어지므로 정리할 풀이 없음
+        if (executor instanceof ThreadPoolExecutor pool) {
+            pool.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newExecutor(int platformPoolSize) {
+        if (Runtime.version().feature() >= 21) {
+            log.debug("동시 조회 분기 실행: 가상 스레드");
+            return new ExecutorServiceAdapter(new VirtualThreadTaskExecutor("lookup-"));
+        }
+        ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicInteger sequence = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "lookup-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+        log.debug("동시 조회 분기 실행: 플랫폼 스레드 풀 (최대 {}개)", platformPoolSize);
+        return new ThreadPoolExecutor(0, platformPoolSize, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 두 조회의 결과
+     */
+    public record Both<A, B>(A first, B second) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.advertising.application.dto;
+
+import com.advertising.domain.enums.ContractStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 업체별 계약 집계 응답
+ * activeContractCount는 집행전 + 진행중, committedAmount는 취소되지 않은 계약의 금액 합계입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanySummaryResponse {
+    private Long companyId;
+    private Long activeContractCount;
+    private Long totalContractCount;
+    private BigDecimal committedAmount;
+    private Map<ContractStatus, Long> statusCounts;
+}
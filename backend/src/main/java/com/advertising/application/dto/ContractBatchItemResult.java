@@ -0,0 +1,22 @@
+package com.advertising.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계약 일괄 생성의 항목별 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractBatchItemResult {
+    /** 요청 목록에서의 위치 (0부터) */
+    private Integer index;
+    private Boolean success;
+    private ContractResponse contract;
+    private String errorCode;
+    private String message;
+}
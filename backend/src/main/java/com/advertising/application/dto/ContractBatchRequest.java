@@ -0,0 +1,27 @@
+package com.advertising.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 계약 일괄 생성 요청
+ * 개별 계약의 입력값 검증 결과는 요청 전체를 거절하지 않고 항목별 결과로 돌려줍니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractBatchRequest {
+    @NotEmpty(message = "계약 목록은 필수입니다.")
+    @Size(max = 500, message = "한 번에 최대 500건까지 생성할 수 있습니다.")
+    private List<ContractRequest> contracts;
+    
+    /** true면 한 건이라도 실패할 경우 아무 계약도 생성하지 않습니다. */
+    private boolean allOrNothing;
+}
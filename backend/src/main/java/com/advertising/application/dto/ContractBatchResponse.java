@@ -0,0 +1,22 @@
+package com.advertising.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 계약 일괄 생성 응답
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractBatchResponse {
+    private Integer total;
+    private Integer succeeded;
+    private Integer failed;
+    private List<ContractBatchItemResult> results;
+}
@@ -0,0 +1,53 @@
+package com.advertising.application.dto;
+
+import com.advertising.common.exception.BusinessException;
+import com.advertising.common.exception.ErrorCode;
+import com.advertising.domain.repository.ContractRow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 계약 목록 커서
+ * 목록 정렬 키(시작일 DESC, 종료일 DESC, ID DESC)의 마지막 값을 담으며,
+ * 클라이언트에는 내부 구조를 알 수 없는 Base64URL 문자열로 전달합니다.
+ */
+public record ContractCursor(LocalDate startDate, LocalDate endDate, Long id) {
+    
+    private static final String DELIMITER = "|";
+    
+    public static ContractCursor of(ContractRow contract) {
+        return new ContractCursor(contract.startDate(), contract.endDate(), contract.id());
+    }
+    
+    /**
+     * 커서를 불투명 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        String raw = startDate + DELIMITER + endDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 커서 문자열을 해석합니다. 비어 있으면 첫 페이지를 의미하므로 null을 반환합니다.
+     *
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public static ContractCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("커서 구성 요소 수가 올바르지 않습니다.");
+            }
+            return new ContractCursor(LocalDate.parse(parts[0]), LocalDate.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -14,10 +14,12 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ContractListRequest {
+    private String keyword;
     private String companyName;
     private List<ContractStatus> statuses;
     private LocalDate startDate;
     private LocalDate endDate;
     private Integer page;
     private Integer size;
+    private String cursor;
 }
@@ -0,0 +1,22 @@
+package com.advertising.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 상품의 날짜별 예약 현황 응답
+ * remaining은 하루 최대 계약 수가 없는 상품이면 비어 있습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductAvailabilityResponse {
+    private LocalDate date;
+    private Integer booked;
+    private Integer remaining;
+}
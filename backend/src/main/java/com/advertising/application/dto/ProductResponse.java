@@ -13,4 +13,5 @@ public class ProductResponse {
     private Long id;
     private String name;
     private String description;
+    private Integer dailyCapacity;
 }
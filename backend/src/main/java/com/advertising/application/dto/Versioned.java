@@ -0,0 +1,28 @@
+package com.advertising.application.dto;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+/**
+ * 버전(ETag)이 붙은 조회 결과
+ *
+ * <p>응답 본문은 필요할 때 만들어지므로, 클라이언트가 가진 버전과 같으면(304 Not Modified)
+ * DTO 변환과 직렬화를 하지 않고 응답할 수 있습니다.
+ *
+ * @param eTag 응답 본문이 바뀌면 반드시 바뀌는 버전 문자열 (따옴표 제외)
+ * @param body 응답 본문 생성 함수
+ */
+public record Versioned<T>(String eTag, Supplier<T> body) {
+
+    /**
+     * 수정 일시를 버전 문자열로 변환합니다. (마이크로초 단위, 36진수)
+     */
+    public static String versionOf(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return "0";
+        }
+        long micros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt);
+        return Long.toString(micros, 36);
+    }
+}
@@ -0,0 +1,187 @@
+package com.advertising.application.export;
+
+import com.advertising.application.dto.CompanyResponse;
+import com.advertising.application.dto.ContractListRequest;
+import com.advertising.application.dto.ContractResponse;
+import com.advertising.application.dto.ProductResponse;
+import com.advertising.common.time.BusinessClock;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.ContractExportRow;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ContractStatusCondition;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 계약 내보내기
+ *
+ * <p>계약 목록 조회와 같은 조건으로 계약 전체를 CSV 또는 NDJSON으로 씁니다.
+ * DB 커서에서 한 행씩 읽어 바로 출력 스트림에 쓰므로 내보내는 행 수와 무관하게 메모리 사용량이 일정합니다.
+ * 페이지 단위 조회와 달리 COUNT 쿼리도 실행하지 않습니다.
+ * 상태 필터와 출력하는 상태는 내보내기를 시작한 시점의 영업일 하나로 판정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContractExporter {
+    
+    private static final int FLUSH_INTERVAL = 1_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    /** 엑셀에서 한글이 깨지지 않도록 CSV 앞에 붙이는 UTF-8 BOM */
+    private static final char BOM = '\uFEFF';
+    
+    private static final String CSV_HEADER = "id,contractNumber,companyId,companyNumber,companyName,companyType," +
+            "productId,productName,startDate,endDate,amount,status,statusDescription,createdAt";
+    
+    private final ContractRepository contractRepository;
+    private final ObjectMapper objectMapper;
+    private final BusinessClock businessClock;
+    
+    /**
+     * 조건에 맞는 계약을 지정한 형식으로 출력합니다.
+     *
+     * @return 출력한 계약 수
+     */
+    @Transactional(readOnly = true)
+    public long export(ContractListRequest request, ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        
+        LocalDate today = businessClock.today();
+        try (Stream<ContractExportRow> rows = contractRepository.streamForExport(
+                request.getCompanyName(),
+                ContractStatusCondition.of(request.getStatuses(), today),
+                request.getStartDate(),
+                request.getEndDate())) {
+            long count = format == ExportFormat.CSV
+                    ? writeCsv(rows.iterator(), today, writer)
+                    : writeNdjson(rows.iterator(), today, writer);
+            writer.flush();
+            log.info("계약 내보내기 완료: format={}, count={}", format, count);
+            return count;
+        }
+    }
+    
+    /**
+     * 내보내기 파일명 (예: contracts-20260125.csv)
+     */
+    public String filenameOf(ExportFormat format) {
+        return "contracts-" + businessClock.today().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + format.getExtension();
+    }
+    
+    private long writeCsv(Iterator<ContractExportRow> rows, LocalDate today, Writer writer) throws IOException {
+        writer.write(BOM);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        
+        long count = 0;
+        while (rows.hasNext()) {
+            ContractExportRow row = rows.next();
+            ContractStatus status = ContractStatus.derive(row.status(), row.startDate(), row.endDate(), today);
+            writer.write(String.valueOf(row.id()));
+            writeCsvField(writer, row.contractNumber());
+            writeCsvField(writer, String.valueOf(row.companyId()));
+            writeCsvField(writer, row.companyNumber());
+            writeCsvField(writer, row.companyName());
+            writeCsvField(writer, row.companyType());
+            writeCsvField(writer, String.valueOf(row.productId()));
+            writeCsvField(writer, row.productName());
+            writeCsvField(writer, String.valueOf(row.startDate()));
+            writeCsvField(writer, String.valueOf(row.endDate()));
+            writeCsvField(writer, row.amount().toPlainString());
+            writeCsvField(writer, status.name());
+            writeCsvField(writer, status.getDescription());
+            writeCsvField(writer, row.createdAt() != null ? row.createdAt().toString() : "");
+            writer.write('\n');
+            
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * 쉼표와 함께 CSV 필드를 씁니다. 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감쌉니다. (RFC 4180)
+     */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+    
+    /**
+     * 한 줄에 계약 하나씩, 계약 상세 조회와 같은 형태의 JSON으로 씁니다.
+     */
+    private long writeNdjson(Iterator<ContractExportRow> rows, LocalDate today, Writer writer) throws IOException {
+        // 행마다 출력 스트림을 flush하지 않도록 FLUSH_AFTER_WRITE_VALUE를 끈 writer 사용
+        ObjectWriter rowWriter = objectMapper.writerFor(ContractResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            while (rows.hasNext()) {
+                rowWriter.writeValue(generator, toResponse(rows.next(), today));
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        return count;
+    }
+    
+    private ContractResponse toResponse(ContractExportRow row, LocalDate today) {
+        ContractStatus status = ContractStatus.derive(row.status(), row.startDate(), row.endDate(), today);
+        return ContractResponse.builder()
+                .id(row.id())
+                .contractNumber(row.contractNumber())
+                .company(CompanyResponse.builder()
+                        .id(row.companyId())
+                        .companyNumber(row.companyNumber())
+                        .name(row.companyName())
+                        .type(row.companyType())
+                        .build())
+                .product(ProductResponse.builder()
+                        .id(row.productId())
+                        .name(row.productName())
+                        .description(row.productDescription())
+                        .build())
+                .startDate(row.startDate())
+                .endDate(row.endDate())
+                .amount(row.amount())
+                .status(status)
+                .statusDescription(status.getDescription())
+                .createdAt(row.createdAt())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.advertising.application.export;
+
+import com.advertising.common.exception.BusinessException;
+import com.advertising.common.exception.ErrorCode;
+
+/**
+ * 계약 내보내기 형식
+ */
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+    
+    private final String contentType;
+    private final String extension;
+    
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getExtension() {
+        return extension;
+    }
+    
+    /**
+     * 요청 파라미터(csv, ndjson)를 형식으로 변환합니다. 대소문자는 구분하지 않습니다.
+     */
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BusinessException(ErrorCode.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
@@ -0,0 +1,31 @@
+package com.advertising.application.idempotency;
+
+import com.advertising.application.dto.ContractRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 계약 요청 지문
+ * 업체, 상품, 시작일, 종료일, 금액이 모두 같으면 같은 요청으로 간주합니다.
+ * 금액은 스케일과 무관하게 비교되도록 정규화합니다. (100000 == 100000.00)
+ */
+public record ContractFingerprint(
+        Long companyId,
+        Long productId,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal amount
+) {
+
+    public static ContractFingerprint of(ContractRequest request) {
+        BigDecimal amount = request.getAmount() != null ? request.getAmount().stripTrailingZeros() : null;
+        return new ContractFingerprint(
+                request.getCompanyId(),
+                request.getProductId(),
+                request.getStartDate(),
+                request.getEndDate(),
+                amount
+        );
+    }
+}
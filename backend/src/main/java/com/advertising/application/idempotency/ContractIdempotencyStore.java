@@ -0,0 +1,269 @@
+package com.advertising.application.idempotency;
+
+import com.advertising.application.dto.ContractResponse;
+import com.advertising.common.exception.BusinessException;
+import com.advertising.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계약 생성 멱등성 저장소
+ *
+ * <p>두 가지 중복 방지 수단을 제공합니다.
+ * <ul>
+ *   <li>요청 지문: 동일한 {@link ContractFingerprint}가 중복 허용 구간(기본 5초) 내에 다시 들어오면 거절합니다.
+ *       지문은 1초 단위 시간 버킷에 기록되고, 만료된 버킷은 통째로 정리되므로 확인 비용은 O(1)입니다.</li>
+ *   <li>Idempotency-Key: 같은 키로 재요청하면 최초 요청의 {@link ContractResponse}를 그대로 돌려줍니다.</li>
+ * </ul>
+ *
+ * <p>모든 판정은 {@link ConcurrentHashMap#compute}로 원자적으로 이루어지므로
+ * 동시에 들어온 동일 요청 중 하나만 통과합니다.
+ */
+@Slf4j
+@Component
+public class ContractIdempotencyStore {
+
+    private static final long BUCKET_MILLIS = 1_000L;
+
+    private final Clock clock;
+    private final long duplicateWindowMillis;
+    private final long keyTtlMillis;
+    private final int maxKeys;
+
+    /** 지문 -> 만료 시각(ms) */
+    private final Map<ContractFingerprint, Long> fingerprints = new ConcurrentHashMap<>();
+
+    /** 만료 버킷 번호 -> 해당 버킷에서 만료되는 지문 목록 */
+    private final ConcurrentSkipListMap<Long, Queue<FingerprintExpiry>> expiryBuckets = new ConcurrentSkipListMap<>();
+
+    /** Idempotency-Key -> 처리 상태 */
+    private final Map<String, KeyEntry> keys = new ConcurrentHashMap<>();
+
+    /** 키 TTL이 고정이므로 등록 순서가 곧 만료 순서입니다. */
+    private final Queue<KeyExpiry> keyExpiryQueue = new ConcurrentLinkedQueue<>();
+
+    private final ReentrantLock keyCleanupLock = new ReentrantLock();
+
+    /** 중복으로 거절한 요청 수 (지문 중복 + 처리 중인 Idempotency-Key 재요청) */
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /** Idempotency-Key로 최초 응답을 재사용한 요청 수 */
+    private final LongAdder replayedCount = new LongAdder();
+
+    @Autowired
+    public ContractIdempotencyStore(
+            Clock clock,
+            @Value("${advertising.idempotency.duplicate-window:5s}") Duration duplicateWindow,
+            @Value("${advertising.idempotency.key-ttl:24h}") Duration keyTtl,
+            @Value("${advertising.idempotency.max-keys:10000}") int maxKeys) {
+        this.clock = clock;
+        this.duplicateWindowMillis = duplicateWindow.toMillis();
+        this.keyTtlMillis = keyTtl.toMillis();
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 기본 설정(5초 구간, 24시간 키 TTL)으로 저장소를 생성합니다.
+     */
+    public ContractIdempotencyStore(Clock clock) {
+        this(clock, Duration.ofSeconds(5), Duration.ofHours(24), 10_000);
+    }
+
+    /**
+     * 요청 지문을 선점합니다.
+     * 중복 허용 구간 내에 같은 지문이 이미 선점되어 있으면 빈 값을 반환합니다.
+     *
+     * @return 선점한 지문과 만료 시각. 해제할 때 그대로 넘깁니다.
+     */
+    public Optional<Claim> tryClaim(ContractFingerprint fingerprint) {
+        long now = clock.millis();
+        purgeExpiredFingerprints(now);
+
+        long expiresAt = now + duplicateWindowMillis;
+        boolean[] claimed = {false};
+        fingerprints.compute(fingerprint, (key, existing) -> {
+            if (existing != null && existing > now) {
+                return existing;
+            }
+            claimed[0] = true;
+            return expiresAt;
+        });
+
+        if (!claimed[0]) {
+            rejectedCount.increment();
+            return Optional.empty();
+        }
+        expiryBuckets.computeIfAbsent(bucketOf(expiresAt), bucket -> new ConcurrentLinkedQueue<>())
+                .add(new FingerprintExpiry(fingerprint, expiresAt));
+        return Optional.of(new Claim(fingerprint, expiresAt));
+    }
+
+    /**
+     * 선점한 지문을 해제합니다.
+     * 계약 생성이 실패(롤백)한 경우 같은 요청을 즉시 재시도할 수 있도록 합니다.
+     * 구간이 지나 다른 요청이 같은 지문을 다시 선점했다면 그 선점은 건드리지 않습니다.
+     */
+    public void release(Claim claim) {
+        fingerprints.remove(claim.fingerprint(), claim.expiresAt());
+    }
+
+    /**
+     * Idempotency-Key 처리를 시작합니다.
+     *
+     * @return 이미 완료된 요청이면 최초 응답, 새 요청이면 빈 값
+     * @throws BusinessException 같은 키가 처리 중이거나 다른 요청 본문에 사용된 경우
+     */
+    public Optional<ContractResponse> begin(String idempotencyKey, ContractFingerprint fingerprint) {
+        long now = clock.millis();
+        purgeExpiredKeys(now);
+
+        KeyEntry[] previous = {null};
+        keys.compute(idempotencyKey, (key, existing) -> {
+            if (existing != null && existing.expiresAt() > now) {
+                previous[0] = existing;
+                return existing;
+            }
+            return new KeyEntry(fingerprint, null, now + keyTtlMillis);
+        });
+
+        KeyEntry entry = previous[0];
+        if (entry == null) {
+            keyExpiryQueue.add(new KeyExpiry(idempotencyKey, now + keyTtlMillis));
+            enforceKeyCapacity();
+            return Optional.empty();
+        }
+
+        if (!entry.fingerprint().equals(fingerprint)) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_CONFLICT,
+                    "이미 다른 요청에 사용된 Idempotency-Key입니다.");
+        }
+        if (entry.response() == null) {
+            rejectedCount.increment();
+            throw new BusinessException(ErrorCode.DUPLICATE_REQUEST,
+                    "동일한 Idempotency-Key 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.debug("Idempotency-Key 재응답: key={}, contractNumber={}",
+                idempotencyKey, entry.response().getContractNumber());
+        replayedCount.increment();
+        return Optional.of(entry.response());
+    }
+
+    /**
+     * Idempotency-Key 처리 결과를 기록합니다.
+     * 이후 같은 키로 들어오는 요청은 이 응답을 재사용합니다.
+     */
+    public void complete(String idempotencyKey, ContractResponse response) {
+        keys.computeIfPresent(idempotencyKey,
+                (key, existing) -> new KeyEntry(existing.fingerprint(), response, existing.expiresAt()));
+    }
+
+    /**
+     * 처리에 실패한 Idempotency-Key를 해제하여 재시도할 수 있도록 합니다.
+     */
+    public void abandon(String idempotencyKey) {
+        keys.computeIfPresent(idempotencyKey, (key, existing) -> existing.response() == null ? null : existing);
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getReplayedCount() {
+        return replayedCount.sum();
+    }
+
+    private void purgeExpiredFingerprints(long now) {
+        // 현재 버킷보다 앞선 버킷은 모두 만료된 상태
+        Map<Long, Queue<FingerprintExpiry>> expired = expiryBuckets.headMap(bucketOf(now));
+        for (Queue<FingerprintExpiry> bucket : expired.values()) {
+            for (FingerprintExpiry expiry : bucket) {
+                fingerprints.remove(expiry.fingerprint(), expiry.expiresAt());
+            }
+        }
+        expired.clear();
+    }
+
+    private void purgeExpiredKeys(long now) {
+        // 정리는 한 스레드만 수행하면 충분하므로 다른 스레드가 정리 중이면 건너뜁니다.
+        if (!keyCleanupLock.tryLock()) {
+            return;
+        }
+        try {
+            KeyExpiry head;
+            while ((head = keyExpiryQueue.peek()) != null && head.expiresAt() <= now) {
+                removeKey(keyExpiryQueue.poll());
+            }
+        } finally {
+            keyCleanupLock.unlock();
+        }
+    }
+
+    private void enforceKeyCapacity() {
+        if (!keyCleanupLock.tryLock()) {
+            return;
+        }
+        try {
+            while (keys.size() > maxKeys) {
+                KeyExpiry oldest = keyExpiryQueue.poll();
+                if (oldest == null) {
+                    return;
+                }
+                removeKey(oldest);
+            }
+        } finally {
+            keyCleanupLock.unlock();
+        }
+    }
+
+    private void removeKey(KeyExpiry expiry) {
+        keys.computeIfPresent(expiry.key(),
+                (key, existing) -> existing.expiresAt() == expiry.expiresAt() ? null : existing);
+    }
+
+    private static long bucketOf(long epochMillis) {
+        return epochMillis / BUCKET_MILLIS;
+    }
+
+    /**
+     * 현재 보관 중인 지문 수 (만료 전 정리되지 않은 항목 포함)
+     */
+    int fingerprintCount() {
+        return fingerprints.size();
+    }
+
+    /**
+     * 현재 보관 중인 Idempotency-Key 수
+     */
+    int keyCount() {
+        return keys.size();
+    }
+
+    /**
+     * 선점한 요청 지문
+     */
+    public record Claim(ContractFingerprint fingerprint, long expiresAt) {
+    }
+
+    private record FingerprintExpiry(ContractFingerprint fingerprint, long expiresAt) {
+    }
+
+    private record KeyExpiry(String key, long expiresAt) {
+    }
+
+    private record KeyEntry(ContractFingerprint fingerprint, ContractResponse response, long expiresAt) {
+    }
+}
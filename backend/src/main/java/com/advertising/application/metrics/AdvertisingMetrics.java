@@ -0,0 +1,97 @@
+package com.advertising.application.metrics;
+
+import com.advertising.application.cache.ReferenceDataCache;
+import com.advertising.application.idempotency.ContractIdempotencyStore;
+import com.advertising.application.scheduler.ContractStatusTransitionJob;
+import com.advertising.application.summary.CompanyContractSummaries;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 구성 요소의 내부 통계를 지표로 노출합니다.
+ *
+ * <p>값은 각 구성 요소가 이미 가지고 있는 누적 카운터를 수집 시점에 읽어 가므로 요청 처리 경로에 추가 비용이 없습니다.
+ * <ul>
+ *   <li>기준 데이터 캐시: {@code cache.gets{result=hit|miss}}, {@code cache.evictions}, {@code cache.size},
+ *       {@code cache.hit.ratio} (태그 {@code cache=company|product})</li>
+ *   <li>중복 요청: {@code advertising.contract.duplicates{result=rejected|replayed}}</li>
+ *   <li>상태 전환 배치: {@code advertising.contract.status.transitions{status=IN_PROGRESS|COMPLETED}}</li>
+ *   <li>업체별 계약 집계: {@code advertising.company.summary.corrections}, {@code advertising.company.summary.size}</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class AdvertisingMetrics implements MeterBinder {
+
+    private final List<ReferenceDataCache<?>> caches;
+    private final ContractIdempotencyStore idempotencyStore;
+    private final ContractStatusTransitionJob statusTransitionJob;
+    private final CompanyContractSummaries companyContractSummaries;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        caches.forEach(cache -> bindCache(registry, cache));
+
+        FunctionCounter.builder("advertising.contract.duplicates", idempotencyStore,
+                        ContractIdempotencyStore::getRejectedCount)
+                .description("중복 요청으로 거절된 계약 생성 요청 수")
+                .tag("result", "rejected")
+                .register(registry);
+        FunctionCounter.builder("advertising.contract.duplicates", idempotencyStore,
+                        ContractIdempotencyStore::getReplayedCount)
+                .description("Idempotency-Key로 최초 응답을 재사용한 요청 수")
+                .tag("result", "replayed")
+                .register(registry);
+
+        FunctionCounter.builder("advertising.contract.status.transitions", statusTransitionJob,
+                        ContractStatusTransitionJob::getStartedTotal)
+                .description("상태 전환 배치가 변경한 계약 수")
+                .tag("status", "IN_PROGRESS")
+                .register(registry);
+        FunctionCounter.builder("advertising.contract.status.transitions", statusTransitionJob,
+                        ContractStatusTransitionJob::getCompletedTotal)
+                .description("상태 전환 배치가 변경한 계약 수")
+                .tag("status", "COMPLETED")
+                .register(registry);
+
+        FunctionCounter.builder("advertising.company.summary.corrections", companyContractSummaries,
+                        CompanyContractSummaries::getCorrectedTotal)
+                .description("재집계에서 DB와 달라 바로잡은 업체 수")
+                .register(registry);
+        Gauge.builder("advertising.company.summary.size", companyContractSummaries,
+                        CompanyContractSummaries::size)
+                .description("계약 집계를 가진 업체 수")
+                .register(registry);
+    }
+
+    private void bindCache(MeterRegistry registry, ReferenceDataCache<?> cache) {
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().hits())
+                .description("캐시 조회 수")
+                .tag("cache", cache.getName())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().misses())
+                .description("캐시 조회 수")
+                .tag("cache", cache.getName())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> c.stats().evictions())
+                .description("용량 초과로 제거된 항목 수")
+                .tag("cache", cache.getName())
+                .register(registry);
+        Gauge.builder("cache.size", cache, c -> c.stats().size())
+                .description("캐시된 단건 항목 수")
+                .tag("cache", cache.getName())
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRatio())
+                .description("기동 이후 누적 적중률")
+                .tag("cache", cache.getName())
+                .register(registry);
+    }
+}
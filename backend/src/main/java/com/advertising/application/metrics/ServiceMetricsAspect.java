@@ -0,0 +1,53 @@
+package com.advertising.application.metrics;
+
+import com.advertising.common.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 메서드 실행 시간 지표 ({@code advertising.service})
+ *
+ * <p>애플리케이션 계층의 {@code @Service} 빈의 public 메서드마다 실행 시간을 기록합니다.
+ * <ul>
+ *   <li>{@code class}, {@code method}: 호출된 서비스와 메서드</li>
+ *   <li>{@code outcome}: SUCCESS / ERROR</li>
+ *   <li>{@code error}: 실패 시 에러 코드({@link BusinessException}) 또는 예외 클래스 이름, 성공 시 none</li>
+ * </ul>
+ *
+ * <p>같은 빈 안에서의 자기 호출은 프록시를 거치지 않으므로 바깥 호출만 기록됩니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * com.advertising.application..*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String error = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (BusinessException e) {
+            error = e.getErrorCode();
+            throw e;
+        } catch (Throwable e) {
+            error = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("advertising.service")
+                    .description("서비스 메서드 실행 시간")
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", "none".equals(error) ? "SUCCESS" : "ERROR")
+                    .tag("error", error)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.advertising.application.period;
+
+import com.advertising.common.exception.BusinessException;
+import com.advertising.common.exception.ErrorCode;
+import com.advertising.domain.repository.ContractPeriod;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 계약 기간 인메모리 인덱스
+ *
+ * <p>취소되지 않은 계약의 기간을 상품별, 업체+상품별 {@link IntervalTree}로 유지합니다.
+ * <ul>
+ *   <li>상품별: 특정 날짜에 집행 기간인 계약 ({@link #findLiveOn})</li>
+ *   <li>업체+상품별: 같은 업체, 상품으로 기간이 겹치는 계약 ({@link #findOverlapping}, {@link #reserve})</li>
+ * </ul>
+ * 커밋된 계약은 {@link ContractPeriodSynchronizer}가 반영합니다.
+ *
+ * <p>인덱스는 커밋 후에 갱신되므로, 계약 생성은 저장 전에 {@link #reserve}로 기간을 선점합니다.
+ * 선점은 업체+상품 트리에 음수 ID로 들어가 동시에 들어온 겹치는 요청을 막고, 트랜잭션이 끝나면 해제합니다.
+ * 조회는 선점을 제외한 커밋된 계약만 반환합니다.
+ *
+ * <p>조회는 읽기 잠금, 변경은 쓰기 잠금으로 보호합니다. 트리 조회는 O(log n + 결과 수)이므로 잠금 구간이 짧습니다.
+ */
+@Component
+public class ContractPeriodIndex {
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong reservationSequence = new AtomicLong();
+    
+    /** 계약 ID -> 기간 (선점은 음수 ID) */
+    private Map<Long, ContractPeriod> periods = new HashMap<>();
+    private Map<Long, IntervalTree> byProduct = new HashMap<>();
+    private Map<CompanyProduct, IntervalTree> byCompanyProduct = new HashMap<>();
+    
+    /**
+     * 날짜 date에 집행 기간인 상품의 계약 ID를 시작일 순으로 반환합니다. (광고종료 포함, 취소 제외)
+     */
+    public List<Long> findLiveOn(Long productId, LocalDate date) {
+        lock.readLock().lock();
+        try {
+            IntervalTree tree = byProduct.get(productId);
+            if (tree == null) {
+                return List.of();
+            }
+            List<Long> ids = new ArrayList<>();
+            tree.stab(date, ids::add);
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 같은 업체, 상품으로 [startDate, endDate]와 기간이 겹치는 계약 ID를 시작일 순으로 반환합니다.
+     */
+    public List<Long> findOverlapping(Long companyId, Long productId, LocalDate startDate, LocalDate endDate) {
+        lock.readLock().lock();
+        try {
+            IntervalTree tree = byCompanyProduct.get(new CompanyProduct(companyId, productId));
+            if (tree == null) {
+                return List.of();
+            }
+            List<Long> ids = new ArrayList<>();
+            tree.overlapping(startDate, endDate, id -> {
+                if (id > 0) {
+                    ids.add(id);
+                }
+            });
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 같은 업체, 상품으로 기간이 겹치는 계약(또는 처리 중인 선점)이 없으면 기간을 선점합니다.
+     * 선점은 트랜잭션이 끝난 뒤 {@link #release}로 해제해야 합니다.
+     *
+     * @throws BusinessException 기간이 겹치는 계약이 있는 경우 (OVERLAPPING_CONTRACT)
+     */
+    public Reservation reserve(Long companyId, Long productId, LocalDate startDate, LocalDate endDate) {
+        CompanyProduct key = new CompanyProduct(companyId, productId);
+        lock.writeLock().lock();
+        try {
+            IntervalTree tree = byCompanyProduct.get(key);
+            if (tree != null) {
+                long[] conflict = new long[1];
+                tree.overlapping(startDate, endDate, id -> {
+                    if (conflict[0] <= 0) {
+                        conflict[0] = id; // 커밋된 계약이 있으면 그 ID를 알려줌
+                    }
+                });
+                if (conflict[0] > 0) {
+                    throw new BusinessException(ErrorCode.OVERLAPPING_CONTRACT,
+                            String.format("같은 업체, 상품으로 계약 기간이 겹치는 계약이 있습니다. (계약 ID: %d)", conflict[0]));
+                }
+                if (conflict[0] < 0) {
+                    throw new BusinessException(ErrorCode.OVERLAPPING_CONTRACT,
+                            "같은 업체, 상품으로 계약 기간이 겹치는 계약이 처리 중입니다.");
+                }
+            }
+            
+            ContractPeriod reserved = new ContractPeriod(-reservationSequence.incrementAndGet(),
+                    companyId, productId, startDate, endDate);
+            periods.put(reserved.id(), reserved);
+            byCompanyProduct.computeIfAbsent(key, k -> new IntervalTree())
+                    .insert(reserved.id(), startDate, endDate);
+            return new Reservation(reserved.id());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 선점을 해제합니다. 이미 해제된 선점이면 아무것도 하지 않습니다.
+     */
+    public void release(Reservation reservation) {
+        remove(reservation.id());
+    }
+    
+    /**
+     * 계약 기간을 추가하거나 갱신합니다.
+     */
+    public void put(ContractPeriod period) {
+        lock.writeLock().lock();
+        try {
+            unindex(period.id());
+            index(period);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 계약 기간을 제거합니다.
+     */
+    public void remove(Long contractId) {
+        lock.writeLock().lock();
+        try {
+            unindex(contractId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 전체 계약 기간으로 인덱스를 새로 만든 뒤 교체합니다. 처리 중인 선점은 유지합니다.
+     */
+    public void rebuild(Collection<ContractPeriod> contractPeriods) {
+        lock.writeLock().lock();
+        try {
+            List<ContractPeriod> reservations = periods.values().stream()
+                    .filter(period -> period.id() < 0)
+                    .toList();
+            periods = new HashMap<>();
+            byProduct = new HashMap<>();
+            byCompanyProduct = new HashMap<>();
+            contractPeriods.forEach(this::index);
+            reservations.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 색인된 계약 수 (선점 제외)
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byProduct.values().stream().mapToInt(IntervalTree::size).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void index(ContractPeriod period) {
+        periods.put(period.id(), period);
+        byCompanyProduct.computeIfAbsent(new CompanyProduct(period.companyId(), period.productId()),
+                key -> new IntervalTree()).insert(period.id(), period.startDate(), period.endDate());
+        if (period.id() > 0) {
+            byProduct.computeIfAbsent(period.productId(), key -> new IntervalTree())
+                    .insert(period.id(), period.startDate(), period.endDate());
+        }
+    }
+    
+    private void unindex(Long id) {
+        ContractPeriod previous = periods.remove(id);
+        if (previous == null) {
+            return;
+        }
+        CompanyProduct key = new CompanyProduct(previous.companyId(), previous.productId());
+        removeFrom(byCompanyProduct, key, previous);
+        if (id > 0) {
+            removeFrom(byProduct, previous.productId(), previous);
+        }
+    }
+    
+    private static <K> void removeFrom(Map<K, IntervalTree> trees, K key, ContractPeriod period) {
+        IntervalTree tree = trees.get(key);
+        if (tree != null) {
+            tree.remove(period.id(), period.startDate());
+            if (tree.isEmpty()) {
+                trees.remove(key);
+            }
+        }
+    }
+    
+    /**
+     * 계약 기간 선점
+     */
+    public record Reservation(long id) {
+    }
+    
+    private record CompanyProduct(Long companyId, Long productId) {
+    }
+}
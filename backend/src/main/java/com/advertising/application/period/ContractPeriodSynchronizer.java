@@ -0,0 +1,97 @@
+package com.advertising.application.period;
+
+import com.advertising.application.booking.ProductCapacityLedger;
+import com.advertising.common.event.SnapshotSynchronizer;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.ContractPeriod;
+import com.advertising.domain.repository.ContractRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 계약 기간 동기화
+ *
+ * <p>계약 기간을 쓰는 두 구조, {@link ContractPeriodIndex}(기간 중복, 집행 중 계약)와
+ * {@link ProductCapacityLedger}(상품 일자 예약)를 함께 갱신합니다.
+ * 웹 서버가 요청을 받기 전에 취소되지 않은 전체 계약을 한 번 조회하여 둘 다 만들고, 이후에는 Hibernate 커밋 후
+ * 이벤트로 변경된 계약만 반영합니다. 취소되거나 삭제된 계약은 둘에서 모두 뺍니다. 롤백된 변경은 들어가지 않습니다.
+ * 다시 만드는 동안 커밋된 변경은 교체 후 다시 반영합니다. ({@link SnapshotSynchronizer})
+ * (상태 전환 배치는 취소를 만들지 않으므로 영향이 없습니다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContractPeriodSynchronizer extends SnapshotSynchronizer<List<ContractPeriod>> {
+    
+    private final ContractPeriodIndex contractPeriodIndex;
+    private final ProductCapacityLedger capacityLedger;
+    private final ContractRepository contractRepository;
+    
+    /**
+     * 취소되지 않은 전체 계약의 기간을 조회합니다.
+     */
+    @Override
+    protected List<ContractPeriod> load() {
+        return contractRepository.findAllNonCancelledPeriods();
+    }
+    
+    @Override
+    protected void install(List<ContractPeriod> periods) {
+        contractPeriodIndex.rebuild(periods);
+        capacityLedger.rebuild(periods);
+        log.info("계약 기간 인덱스, 상품 일자 예약 장부 생성 완료: count={}", periods.size());
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Contract contract) {
+            apply(contract);
+        }
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Contract contract) {
+            apply(contract);
+        }
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Contract) {
+            remove((Long) event.getId());
+        }
+    }
+    
+    private void apply(Contract contract) {
+        if (contract.getStatus() == ContractStatus.CANCELLED) {
+            remove(contract.getId());
+        } else {
+            ContractPeriod period = ContractPeriod.of(contract);
+            dispatch(() -> {
+                contractPeriodIndex.put(period);
+                capacityLedger.put(period);
+            });
+        }
+    }
+    
+    private void remove(Long contractId) {
+        dispatch(() -> {
+            contractPeriodIndex.remove(contractId);
+            capacityLedger.remove(contractId);
+        });
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Contract.class.equals(persister.getMappedClass());
+    }
+}
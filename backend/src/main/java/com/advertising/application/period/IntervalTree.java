@@ -0,0 +1,186 @@
+package com.advertising.application.period;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongConsumer;
+
+/**
+ * 날짜 구간 트리 (augmented treap)
+ *
+ * <p>구간을 (시작일, ID) 순으로 정렬한 이진 탐색 트리에 각 서브트리의 최대 종료일을 함께 저장합니다.
+ * 최대 종료일이 찾는 날짜보다 이른 서브트리와, 시작일이 찾는 날짜보다 늦은 노드의 오른쪽은 건너뛰므로
+ * 특정 날짜를 포함하는 구간(stabbing)과 겹치는 구간 조회가 O(log n + 결과 수)입니다.
+ * 균형은 무작위 우선순위(treap)로 유지합니다.
+ *
+ * <p>구간은 시작일, 종료일을 모두 포함합니다. 스레드 안전하지 않으므로 호출 쪽에서 잠금으로 보호해야 합니다.
+ */
+final class IntervalTree {
+    
+    private Node root;
+    private int size;
+    
+    /**
+     * 구간을 추가합니다. 같은 ID가 이미 있으면 호출 쪽에서 먼저 제거해야 합니다.
+     */
+    void insert(long id, LocalDate start, LocalDate end) {
+        root = insert(root, new Node(id, start.toEpochDay(), end.toEpochDay()));
+        size++;
+    }
+    
+    /**
+     * 구간을 제거합니다. 추가할 때와 같은 시작일을 넘겨야 합니다.
+     *
+     * @return 제거되었으면 true
+     */
+    boolean remove(long id, LocalDate start) {
+        int before = size;
+        root = remove(root, start.toEpochDay(), id);
+        return size < before;
+    }
+    
+    /**
+     * 날짜 date를 포함하는 구간의 ID를 시작일 순으로 전달합니다.
+     */
+    void stab(LocalDate date, LongConsumer consumer) {
+        long day = date.toEpochDay();
+        overlapping(root, day, day, consumer);
+    }
+    
+    /**
+     * [from, to]와 겹치는 구간의 ID를 시작일 순으로 전달합니다.
+     */
+    void overlapping(LocalDate from, LocalDate to, LongConsumer consumer) {
+        overlapping(root, from.toEpochDay(), to.toEpochDay(), consumer);
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    boolean isEmpty() {
+        return size == 0;
+    }
+    
+    private static void overlapping(Node node, long from, long to, LongConsumer consumer) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        overlapping(node.left, from, to, consumer);
+        if (node.start > to) {
+            return; // 오른쪽 서브트리는 시작일이 더 늦음
+        }
+        if (node.end >= from) {
+            consumer.accept(node.id);
+        }
+        overlapping(node.right, from, to, consumer);
+    }
+    
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.compareTo(node) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+    
+    private Node remove(Node node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int compared = compare(start, id, node.start, node.id);
+        if (compared < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (compared > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+    
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+    
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+    
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+    
+    private static int compare(long start, long id, long otherStart, long otherId) {
+        int compared = Long.compare(start, otherStart);
+        return compared != 0 ? compared : Long.compare(id, otherId);
+    }
+    
+    private static final class Node implements Comparable<Node> {
+        private final long id;
+        private final long start;
+        private final long end;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private long maxEnd;
+        private Node left;
+        private Node right;
+        
+        private Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+        
+        private void update() {
+            long max = end;
+            if (left != null) {
+                max = Math.max(max, left.maxEnd);
+            }
+            if (right != null) {
+                max = Math.max(max, right.maxEnd);
+            }
+            maxEnd = max;
+        }
+        
+        @Override
+        public int compareTo(Node other) {
+            return compare(start, id, other.start, other.id);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.advertising.application.scheduler;
+
+import com.advertising.application.summary.CompanyContractSummarySynchronizer;
+import com.advertising.common.time.BusinessClock;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.CompanyStatusTotals;
+import com.advertising.domain.repository.ContractRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 계약 상태 일괄 전환 작업
+ *
+ * <p>영업일이 바뀌는 자정에 집행전 → 진행중 → 광고종료 전환을 UPDATE 문 두 개로 처리합니다.
+ * 조회 응답은 저장된 상태와 기간으로 상태를 판정하므로({@link ContractStatus#derive}) 전환 전에도 표시는 맞지만,
+ * 저장값도 맞춰 두어 저장된 상태로 세는 업체별 계약 집계가 영업일 기준 상태를 따르도록 합니다.
+ * 애플리케이션이 꺼져 있던 동안 밀린 전환은 기동 시 한 번 실행하여 따라잡습니다.
+ * 벌크 UPDATE는 엔티티 이벤트가 없으므로, 바뀔 계약을 UPDATE 직전에 업체별로 집계하여 업체별 계약 집계에 넘깁니다.
+ */
+@Slf4j
+@Component
+public class ContractStatusTransitionJob {
+    
+    private final ContractRepository contractRepository;
+    private final CompanyContractSummarySynchronizer summarySynchronizer;
+    private final BusinessClock businessClock;
+    
+    private final AtomicLong startedTotal = new AtomicLong();
+    private final AtomicLong completedTotal = new AtomicLong();
+    private final AtomicReference<TransitionResult> lastResult = new AtomicReference<>();
+    
+    public ContractStatusTransitionJob(ContractRepository contractRepository,
+                                       CompanyContractSummarySynchronizer summarySynchronizer,
+                                       BusinessClock businessClock) {
+        this.contractRepository = contractRepository;
+        this.summarySynchronizer = summarySynchronizer;
+        this.businessClock = businessClock;
+    }
+    
+    /**
+     * 기동 시 밀린 상태 전환을 따라잡습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void catchUp() {
+        run();
+    }
+    
+    /**
+     * 영업일 경계(영업일 시간대의 자정)마다 상태를 전환합니다.
+     */
+    @Scheduled(cron = "${advertising.status-transition.cron:0 0 0 * * *}", zone = "${advertising.business-zone:}")
+    @Transactional
+    public void scheduledRun() {
+        run();
+    }
+    
+    /**
+     * 오늘 영업일 기준으로 상태를 전환합니다.
+     */
+    @Transactional
+    public TransitionResult run() {
+        return transition(businessClock.today());
+    }
+    
+    /**
+     * 주어진 영업일 기준으로 상태를 전환합니다.
+     * 종료 처리를 먼저 수행하여 기간이 이미 끝난 집행전 계약이 진행중을 거치지 않도록 합니다.
+     */
+    @Transactional
+    public TransitionResult transition(LocalDate businessDate) {
+        LocalDateTime now = businessClock.now();
+        List<CompanyStatusTotals> completable = contractRepository.summarizeCompletable(businessDate);
+        int completed = contractRepository.completeContracts(businessDate, now);
+        summarySynchronizer.onStatusesTransitioned(completable, ContractStatus.COMPLETED, completed);
+        
+        List<CompanyStatusTotals> startable = contractRepository.summarizeStartable(businessDate);
+        int started = contractRepository.startContracts(businessDate, now);
+        summarySynchronizer.onStatusesTransitioned(startable, ContractStatus.IN_PROGRESS, started);
+        
+        TransitionResult result = new TransitionResult(businessDate, started, completed);
+        startedTotal.addAndGet(started);
+        completedTotal.addAndGet(completed);
+        lastResult.set(result);
+        
+        log.info("계약 상태 일괄 전환: businessDate={}, started={}, completed={}", businessDate, started, completed);
+        return result;
+    }
+    
+    /**
+     * 누적 진행중 전환 건수
+     */
+    public long getStartedTotal() {
+        return startedTotal.get();
+    }
+    
+    /**
+     * 누적 광고종료 전환 건수
+     */
+    public long getCompletedTotal() {
+        return completedTotal.get();
+    }
+    
+    /**
+     * 마지막 실행 결과 (실행 전이면 null)
+     */
+    public TransitionResult getLastResult() {
+        return lastResult.get();
+    }
+    
+    /**
+     * 상태 전환 결과
+     */
+    public record TransitionResult(LocalDate businessDate, int started, int completed) {
+    }
+}
@@ -0,0 +1,201 @@
+package com.advertising.application.search;
+
+import com.advertising.domain.entity.Company;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 업체명 자동완성 인메모리 인덱스
+ *
+ * <p>업체명과 업체명의 초성 문자열을 1~2-gram으로 분해한 역색인을 유지합니다.
+ * 검색 시에는 검색어 n-gram 중 가장 짧은 포스팅 목록만 ID 순으로 훑으면서 부분 문자열 일치를 확인하고,
+ * 결과가 limit 개 모이면 바로 멈춥니다. DB는 전혀 조회하지 않습니다.
+ *
+ * <p>읽기는 잠금 없이 수행되고, 쓰기(추가/수정/삭제)는 드물기 때문에 하나의 잠금으로 직렬화합니다.
+ */
+@Component
+public class CompanySearchIndex {
+    
+    private static final int GRAM_SIZE = 2;
+    
+    private final ReentrantLock writeLock = new ReentrantLock();
+    
+    private volatile Index index = new Index();
+    
+    /**
+     * 업체명에 검색어가 포함된 업체를 ID 순으로 최대 limit 개 반환합니다.
+     * 검색어가 초성으로만 이루어져 있으면 업체명의 초성 문자열에서 찾습니다. (예: "ㄴㅇㄴ" -> 놀유니버스)
+     */
+    public List<IndexedCompany> search(String keyword, int limit) {
+        String normalized = KoreanText.normalize(keyword);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        
+        Index current = index;
+        boolean chosungQuery = KoreanText.isChosungQuery(normalized);
+        Map<String, NavigableSet<Long>> postings = chosungQuery ? current.chosungPostings : current.namePostings;
+        
+        NavigableSet<Long> candidates = smallestPosting(postings, normalized);
+        if (candidates == null) {
+            return List.of();
+        }
+        
+        List<IndexedCompany> results = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (Long id : candidates) {
+            IndexedCompany company = current.companies.get(id);
+            if (company == null) {
+                continue;
+            }
+            String target = chosungQuery ? company.chosungName() : company.normalizedName();
+            if (target.contains(normalized)) {
+                results.add(company);
+                if (results.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * 업체를 색인에 추가하거나 변경된 업체명으로 다시 색인합니다.
+     */
+    public void put(Company company) {
+        put(IndexedCompany.of(company));
+    }
+    
+    void put(IndexedCompany company) {
+        writeLock.lock();
+        try {
+            Index current = index;
+            IndexedCompany previous = current.companies.get(company.id());
+            if (previous != null) {
+                current.unindex(previous);
+            }
+            current.index(company);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    /**
+     * 업체를 색인에서 제거합니다.
+     */
+    public void remove(Long companyId) {
+        writeLock.lock();
+        try {
+            Index current = index;
+            IndexedCompany previous = current.companies.get(companyId);
+            if (previous != null) {
+                current.unindex(previous);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    /**
+     * 전체 업체 목록으로 색인을 새로 만든 뒤 한 번에 교체합니다.
+     * 교체 전까지 검색은 기존 색인을 그대로 사용합니다. 그 사이의 변경은 호출하는 쪽에서 교체 후 다시 반영해야 합니다.
+     * ({@link CompanySearchIndexSynchronizer})
+     */
+    public void rebuild(Collection<Company> companies) {
+        Index rebuilt = new Index();
+        companies.forEach(company -> rebuilt.index(IndexedCompany.of(company)));
+        
+        writeLock.lock();
+        try {
+            index = rebuilt;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    /**
+     * 색인된 업체 수
+     */
+    public int size() {
+        return index.companies.size();
+    }
+    
+    private static NavigableSet<Long> smallestPosting(Map<String, NavigableSet<Long>> postings, String keyword) {
+        int gramSize = Math.min(GRAM_SIZE, keyword.length());
+        NavigableSet<Long> smallest = null;
+        for (int i = 0; i + gramSize <= keyword.length(); i++) {
+            NavigableSet<Long> posting = postings.get(keyword.substring(i, i + gramSize));
+            if (posting == null || posting.isEmpty()) {
+                return null; // 포함되지 않는 n-gram이 있으면 일치하는 업체가 없음
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        return smallest;
+    }
+    
+    /**
+     * 색인된 업체 정보 (불변)
+     */
+    public record IndexedCompany(
+            Long id,
+            String companyNumber,
+            String name,
+            String type,
+            String normalizedName,
+            String chosungName
+    ) {
+        static IndexedCompany of(Company company) {
+            return new IndexedCompany(
+                    company.getId(),
+                    company.getCompanyNumber(),
+                    company.getName(),
+                    company.getType(),
+                    KoreanText.normalize(company.getName()),
+                    KoreanText.toChosung(company.getName())
+            );
+        }
+    }
+    
+    private static final class Index {
+        private final Map<Long, IndexedCompany> companies = new ConcurrentHashMap<>();
+        private final Map<String, NavigableSet<Long>> namePostings = new ConcurrentHashMap<>();
+        private final Map<String, NavigableSet<Long>> chosungPostings = new ConcurrentHashMap<>();
+        
+        private void index(IndexedCompany company) {
+            companies.put(company.id(), company);
+            addPostings(namePostings, KoreanText.ngrams(company.normalizedName(), GRAM_SIZE), company.id());
+            addPostings(chosungPostings, KoreanText.ngrams(company.chosungName(), GRAM_SIZE), company.id());
+        }
+        
+        private void unindex(IndexedCompany company) {
+            removePostings(namePostings, KoreanText.ngrams(company.normalizedName(), GRAM_SIZE), company.id());
+            removePostings(chosungPostings, KoreanText.ngrams(company.chosungName(), GRAM_SIZE), company.id());
+            companies.remove(company.id());
+        }
+        
+        private static void addPostings(Map<String, NavigableSet<Long>> postings, Set<String> grams, Long id) {
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new ConcurrentSkipListSet<>()).add(id);
+            }
+        }
+        
+        private static void removePostings(Map<String, NavigableSet<Long>> postings, Set<String> grams, Long id) {
+            for (String gram : grams) {
+                postings.computeIfPresent(gram, (key, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+}
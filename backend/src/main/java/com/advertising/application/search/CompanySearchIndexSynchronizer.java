@@ -0,0 +1,78 @@
+package com.advertising.application.search;
+
+import com.advertising.application.search.CompanySearchIndex.IndexedCompany;
+import com.advertising.common.event.SnapshotSynchronizer;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.repository.CompanyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 업체 검색 인덱스 동기화
+ *
+ * <p>웹 서버가 요청을 받기 전에 전체 업체로 인덱스를 만들고, 이후에는 Hibernate 커밋 후 이벤트로
+ * 변경된 업체만 반영합니다. 롤백된 변경은 인덱스에 들어가지 않습니다.
+ * 다시 만드는 동안 커밋된 변경은 교체 후 다시 반영합니다. ({@link SnapshotSynchronizer})
+ * (JPQL 벌크 연산은 이벤트가 발생하지 않으므로 {@link #rebuild()}로 다시 만들어야 합니다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanySearchIndexSynchronizer extends SnapshotSynchronizer<List<Company>> {
+    
+    private final CompanySearchIndex companySearchIndex;
+    private final CompanyRepository companyRepository;
+    
+    /**
+     * 전체 업체를 조회합니다.
+     */
+    @Override
+    protected List<Company> load() {
+        return companyRepository.findAll();
+    }
+    
+    @Override
+    protected void install(List<Company> companies) {
+        companySearchIndex.rebuild(companies);
+        log.info("업체 검색 인덱스 생성 완료: count={}", companySearchIndex.size());
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Company company) {
+            put(company);
+        }
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Company company) {
+            put(company);
+        }
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Company) {
+            Long companyId = (Long) event.getId();
+            dispatch(() -> companySearchIndex.remove(companyId));
+        }
+    }
+    
+    private void put(Company company) {
+        IndexedCompany indexed = IndexedCompany.of(company);
+        dispatch(() -> companySearchIndex.put(indexed));
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Company.class.equals(persister.getMappedClass());
+    }
+}
@@ -0,0 +1,547 @@
+package com.advertising.application.search;
+
+import com.advertising.application.cache.CachedCompany;
+import com.advertising.application.cache.CachedProduct;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.ContractSearchEntry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계약 통합 검색 인메모리 역색인
+ *
+ * <p>검색어 하나로 계약번호, 업체명, 업체번호, 상품명을 함께 찾습니다. 검색어를 공백으로 나눈 단어는 모두 어느 한 필드에
+ * 포함되어야 하며, 단어마다 가장 잘 맞는 필드의 점수(필드 가중치 x 전체/앞부분/부분 일치)를 더해 순위를 매깁니다.
+ * <ul>
+ *   <li>업체(업체명, 업체명 초성, 업체번호)와 상품(상품명, 상품명 초성)은 {@link CompanySearchIndex}처럼 1~2-gram 역색인으로
+ *       찾은 뒤 업체/상품별 계약 목록으로 펼칩니다. 업체명이 바뀌어도 업체 한 건만 다시 색인합니다.</li>
+ *   <li>계약번호는 구분자(-)로 나눈 마디를 정렬된 맵에 넣고, 마디의 처음부터 맞는 단어로 찾습니다. (예: "0001", "20260125-00")
+ *       계약 수에 비례하는 n-gram 포스팅을 만들지 않기 위해서입니다.</li>
+ * </ul>
+ *
+ * <p>검색할 때는 단어별 후보 계약 수를 먼저 어림하고, 가장 적은 단어의 후보만 훑으면서 나머지 단어와 상태, 날짜 조건을
+ * 확인합니다. 결과 전체를 정렬하지 않고 요청한 페이지 끝까지의 상위 결과만 힙에 유지합니다. 상태는 저장된 상태와 영업일로 판정하므로({@link ContractStatus#derive}) 상태 전환 배치의 벌크 UPDATE를
+ * 따로 반영하지 않아도 목록 조회의 상태 필터와 같은 결과가 나옵니다.
+ *
+ * <p>읽기는 잠금 없이 수행되고, 쓰기는 하나의 잠금으로 직렬화합니다.
+ */
+@Component
+public class ContractSearchIndex {
+    
+    private static final int GRAM_SIZE = 2;
+    private static final String NUMBER_DELIMITER = "-";
+    
+    private static final int CONTRACT_NUMBER_WEIGHT = 4;
+    private static final int COMPANY_NUMBER_WEIGHT = 3;
+    private static final int COMPANY_NAME_WEIGHT = 2;
+    private static final int PRODUCT_NAME_WEIGHT = 1;
+    
+    private static final int EXACT = 3;
+    private static final int PREFIX = 2;
+    private static final int CONTAINS = 1;
+    
+    private final ReentrantLock writeLock = new ReentrantLock();
+    
+    private volatile Index index = new Index();
+    
+    /**
+     * 검색어와 필터에 맞는 계약 ID를 순위대로 offset부터 최대 limit 개 반환합니다.
+     *
+     * @param statuses  조회할 상태 목록 (null 또는 비어 있으면 상태 필터 없음)
+     * @param startDate 이 날짜 이후에 끝나는 계약만 (null이면 제한 없음)
+     * @param endDate   이 날짜 이전에 시작하는 계약만 (null이면 제한 없음)
+     * @param today     상태 판정 기준 영업일
+     */
+    public Hits search(String keyword, Collection<ContractStatus> statuses, LocalDate startDate, LocalDate endDate,
+                       LocalDate today, int offset, int limit) {
+        List<String> terms = termsOf(keyword);
+        if (terms.isEmpty()) {
+            return Hits.EMPTY;
+        }
+        
+        Index current = index;
+        List<TermMatch> matches = terms.stream()
+                .map(current::match)
+                .sorted(Comparator.comparingLong(TermMatch::estimate))
+                .toList();
+        Set<ContractStatus> statusFilter = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(ContractStatus.class)
+                : EnumSet.copyOf(statuses);
+        
+        // 요청한 페이지 끝까지의 상위 결과만 힙에 유지 (힙의 머리가 그중 가장 낮은 순위)
+        int end = (int) Math.min(Integer.MAX_VALUE, (long) Math.max(offset, 0) + Math.max(limit, 0));
+        PriorityQueue<ScoredContract> top = new PriorityQueue<>(Comparator.reverseOrder());
+        int total = 0;
+        for (Long id : matches.get(0).candidates(current)) {
+            IndexedContract contract = current.contracts.get(id);
+            if (contract == null || !contract.matches(statusFilter, startDate, endDate, today)) {
+                continue;
+            }
+            int score = 0;
+            for (TermMatch match : matches) {
+                int termScore = match.score(contract);
+                if (termScore == 0) {
+                    score = 0;
+                    break;
+                }
+                score += termScore;
+            }
+            if (score == 0) {
+                continue;
+            }
+            total++;
+            if (end > 0) {
+                top.offer(ScoredContract.of(contract, score));
+                if (top.size() > end) {
+                    top.poll();
+                }
+            }
+        }
+        
+        int from = Math.max(offset, 0);
+        if (from >= top.size()) {
+            return new Hits(List.of(), total);
+        }
+        List<ScoredContract> ranked = new ArrayList<>(top);
+        ranked.sort(null);
+        List<Long> ids = ranked.subList(from, ranked.size()).stream()
+                .map(ScoredContract::id)
+                .toList();
+        return new Hits(ids, total);
+    }
+    
+    /**
+     * 계약을 색인에 추가하거나 변경된 내용으로 다시 색인합니다.
+     */
+    public void putContract(ContractSearchEntry entry) {
+        writeLock.lock();
+        try {
+            Index current = index;
+            IndexedContract previous = current.contracts.get(entry.id());
+            if (previous != null) {
+                current.unindex(previous);
+            }
+            current.index(IndexedContract.of(entry));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    /**
+     * 계약을 색인에서 제거합니다.
+     */
+    public void removeContract(Long contractId) {
+        writeLock.lock();
+        try {
+            Index current = index;
+            IndexedContract previous = current.contracts.get(contractId);
+            if (previous != null) {
+                current.unindex(previous);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    /**
+     * 업체를 색인에 추가하거나 변경된 업체명, 업체번호로 다시 색인합니다.
+     */
+    public void putCompany(CachedCompany company) {
+        putName(IndexedName.of(company.id(), company.name(), company.companyNumber()), true);
+    }
+    
+    /**
+     * 업체를 색인에서 제거합니다. 업체의 계약은 계약번호로만 찾을 수 있습니다.
+     */
+    public void removeCompany(Long companyId) {
+        removeName(companyId, true);
+    }
+    
+    /**
+     * 상품을 색인에 추가하거나 변경된 상품명으로 다시 색인합니다.
+     */
+    public void putProduct(CachedProduct product) {
+        putName(IndexedName.of(product.id(), product.name(), null), false);
+    }
+    
+    /**
+     * 상품을 색인에서 제거합니다.
+     */
+    public void removeProduct(Long productId) {
+        removeName(productId, false);
+    }
+    
+    /**
+     * 전체 계약, 업체, 상품으로 색인을 새로 만든 뒤 한 번에 교체합니다.
+     * 교체 전까지 검색은 기존 색인을 그대로 사용합니다.
+     */
+    public void rebuild(Collection<ContractSearchEntry> contracts, Collection<CachedCompany> companies,
+                        Collection<CachedProduct> products) {
+        Index rebuilt = new Index();
+        companies.forEach(company -> rebuilt.companies.index(
+                IndexedName.of(company.id(), company.name(), company.companyNumber())));
+        products.forEach(product -> rebuilt.products.index(IndexedName.of(product.id(), product.name(), null)));
+        contracts.forEach(entry -> rebuilt.index(IndexedContract.of(entry)));
+        
+        writeLock.lock();
+        try {
+            index = rebuilt;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    /**
+     * 색인된 계약 수
+     */
+    public int size() {
+        return index.contracts.size();
+    }
+    
+    private void putName(IndexedName name, boolean company) {
+        writeLock.lock();
+        try {
+            Names names = company ? index.companies : index.products;
+            IndexedName previous = names.byId.get(name.id());
+            if (previous != null) {
+                names.unindex(previous);
+            }
+            names.index(name);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    private void removeName(Long id, boolean company) {
+        writeLock.lock();
+        try {
+            Names names = company ? index.companies : index.products;
+            IndexedName previous = names.byId.get(id);
+            if (previous != null) {
+                names.unindex(previous);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    private static List<String> termsOf(String keyword) {
+        return Arrays.stream(KoreanText.normalize(keyword).trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+    }
+    
+    /**
+     * 필드 값에 검색 단어가 얼마나 맞는지 (전체 일치, 앞부분 일치, 부분 일치, 불일치 0)
+     */
+    private static int matchOf(String value, String term) {
+        if (value == null || !value.contains(term)) {
+            return 0;
+        }
+        if (value.length() == term.length()) {
+            return EXACT;
+        }
+        return value.startsWith(term) ? PREFIX : CONTAINS;
+    }
+    
+    /**
+     * 계약번호에 검색 단어가 얼마나 맞는지. 부분 일치는 마디의 앞부분에서 시작하는 경우만 인정합니다.
+     */
+    private static int numberMatchOf(String number, String term) {
+        if (number.equals(term)) {
+            return EXACT;
+        }
+        if (number.startsWith(term)) {
+            return PREFIX;
+        }
+        return number.contains(NUMBER_DELIMITER + term) ? CONTAINS : 0;
+    }
+    
+    private static Set<String> segmentsOf(String number) {
+        Set<String> segments = new HashSet<>();
+        for (String segment : number.split(NUMBER_DELIMITER)) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+    
+    private static void add(Map<Long, Set<Long>> map, Long key, Long id) {
+        map.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+    
+    private static <K> void remove(Map<K, Set<Long>> map, K key, Long id) {
+        map.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+    
+    /**
+     * 검색 결과 (현재 페이지의 계약 ID와 전체 결과 수)
+     */
+    public record Hits(List<Long> ids, int totalElements) {
+    
+        static final Hits EMPTY = new Hits(List.of(), 0);
+    }
+    
+    private record IndexedContract(
+            Long id,
+            String normalizedNumber,
+            Long companyId,
+            Long productId,
+            LocalDate startDate,
+            LocalDate endDate,
+            ContractStatus status
+    ) {
+        static IndexedContract of(ContractSearchEntry entry) {
+            return new IndexedContract(entry.id(), KoreanText.normalize(entry.contractNumber()),
+                    entry.companyId(), entry.productId(), entry.startDate(), entry.endDate(), entry.status());
+        }
+        
+        boolean matches(Set<ContractStatus> statuses, LocalDate from, LocalDate to, LocalDate today) {
+            if (from != null && endDate.isBefore(from)) {
+                return false;
+            }
+            if (to != null && startDate.isAfter(to)) {
+                return false;
+            }
+            return statuses.contains(ContractStatus.derive(status, startDate, endDate, today));
+        }
+    }
+    
+    /**
+     * 색인된 업체/상품 이름 (상품은 번호 없음)
+     */
+    private record IndexedName(Long id, String normalizedName, String chosungName, String normalizedNumber) {
+    
+        static IndexedName of(Long id, String name, String number) {
+            return new IndexedName(id, KoreanText.normalize(name), KoreanText.toChosung(name),
+                    number != null ? KoreanText.normalize(number) : null);
+        }
+        
+        Set<String> grams() {
+            Set<String> grams = KoreanText.ngrams(normalizedName, GRAM_SIZE);
+            grams.addAll(KoreanText.ngrams(chosungName, GRAM_SIZE));
+            if (normalizedNumber != null) {
+                grams.addAll(KoreanText.ngrams(normalizedNumber, GRAM_SIZE));
+            }
+            return grams;
+        }
+    }
+    
+    /**
+     * 점수를 매긴 검색 결과. 점수 높은 순, 같은 점수는 목록 조회와 같은 순서(시작일, 종료일, ID 내림차순)로 정렬됩니다.
+     */
+    private record ScoredContract(long id, int score, long startDay, long endDay)
+            implements Comparable<ScoredContract> {
+        
+        static ScoredContract of(IndexedContract contract, int score) {
+            return new ScoredContract(contract.id(), score,
+                    contract.startDate().toEpochDay(), contract.endDate().toEpochDay());
+        }
+        
+        @Override
+        public int compareTo(ScoredContract other) {
+            if (score != other.score) {
+                return Integer.compare(other.score, score);
+            }
+            if (startDay != other.startDay) {
+                return Long.compare(other.startDay, startDay);
+            }
+            if (endDay != other.endDay) {
+                return Long.compare(other.endDay, endDay);
+            }
+            return Long.compare(other.id, id);
+        }
+    }
+    
+    /**
+     * 검색 단어 하나에 맞는 업체, 상품(ID별 점수)과 계약번호 마디
+     */
+    private record TermMatch(
+            String term,
+            Map<Long, Integer> companyScores,
+            Map<Long, Integer> productScores,
+            List<Set<Long>> numberPostings,
+            long estimate
+    ) {
+        /**
+         * 이 단어에 맞을 수 있는 계약 ID. 후보 목록이 하나뿐이면 복사하지 않고 그대로 반환합니다.
+         */
+        Collection<Long> candidates(Index index) {
+            List<Set<Long>> sources = new ArrayList<>(numberPostings);
+            companyScores.keySet().forEach(companyId ->
+                    sources.add(index.contractsByCompany.getOrDefault(companyId, Set.of())));
+            productScores.keySet().forEach(productId ->
+                    sources.add(index.contractsByProduct.getOrDefault(productId, Set.of())));
+            if (sources.size() == 1) {
+                return sources.get(0);
+            }
+            Set<Long> candidates = new HashSet<>();
+            sources.forEach(candidates::addAll);
+            return candidates;
+        }
+        
+        int score(IndexedContract contract) {
+            int score = Math.max(companyScores.getOrDefault(contract.companyId(), 0),
+                    productScores.getOrDefault(contract.productId(), 0));
+            return Math.max(score, CONTRACT_NUMBER_WEIGHT * numberMatchOf(contract.normalizedNumber(), term));
+        }
+    }
+    
+    /**
+     * 업체 또는 상품 이름 역색인
+     */
+    private static final class Names {
+        private final Map<Long, IndexedName> byId = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+        
+        private void index(IndexedName name) {
+            byId.put(name.id(), name);
+            for (String gram : name.grams()) {
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(name.id());
+            }
+        }
+        
+        private void unindex(IndexedName name) {
+            for (String gram : name.grams()) {
+                remove(postings, gram, name.id());
+            }
+            byId.remove(name.id());
+        }
+        
+        /**
+         * 검색 단어에 맞는 이름의 ID별 점수. 초성 검색어는 초성 이름에서 찾습니다.
+         */
+        private Map<Long, Integer> scores(String term, int nameWeight, int numberWeight) {
+            Set<Long> candidates = smallestPosting(term);
+            if (candidates.isEmpty()) {
+                return Map.of();
+            }
+            boolean chosungQuery = KoreanText.isChosungQuery(term);
+            Map<Long, Integer> scores = new HashMap<>();
+            for (Long id : candidates) {
+                IndexedName name = byId.get(id);
+                if (name == null) {
+                    continue;
+                }
+                int score = Math.max(
+                        nameWeight * matchOf(chosungQuery ? name.chosungName() : name.normalizedName(), term),
+                        numberWeight * matchOf(name.normalizedNumber(), term));
+                if (score > 0) {
+                    scores.put(id, score);
+                }
+            }
+            return scores;
+        }
+        
+        private Set<Long> smallestPosting(String term) {
+            int gramSize = Math.min(GRAM_SIZE, term.length());
+            Set<Long> smallest = null;
+            for (int i = 0; i + gramSize <= term.length(); i++) {
+                Set<Long> posting = postings.get(term.substring(i, i + gramSize));
+                if (posting == null || posting.isEmpty()) {
+                    return Set.of(); // 포함되지 않는 n-gram이 있으면 일치하는 이름이 없음
+                }
+                if (smallest == null || posting.size() < smallest.size()) {
+                    smallest = posting;
+                }
+            }
+            return smallest;
+        }
+    }
+    
+    private static final class Index {
+        private final Map<Long, IndexedContract> contracts = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> contractsByCompany = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> contractsByProduct = new ConcurrentHashMap<>();
+        private final NavigableMap<String, Set<Long>> numberSegments = new ConcurrentSkipListMap<>();
+        private final Names companies = new Names();
+        private final Names products = new Names();
+        
+        private void index(IndexedContract contract) {
+            contracts.put(contract.id(), contract);
+            add(contractsByCompany, contract.companyId(), contract.id());
+            add(contractsByProduct, contract.productId(), contract.id());
+            for (String segment : segmentsOf(contract.normalizedNumber())) {
+                numberSegments.computeIfAbsent(segment, key -> ConcurrentHashMap.newKeySet()).add(contract.id());
+            }
+        }
+        
+        private void unindex(IndexedContract contract) {
+            remove(contractsByCompany, contract.companyId(), contract.id());
+            remove(contractsByProduct, contract.productId(), contract.id());
+            for (String segment : segmentsOf(contract.normalizedNumber())) {
+                remove(numberSegments, segment, contract.id());
+            }
+            contracts.remove(contract.id());
+        }
+        
+        /**
+         * 검색 단어에 맞는 업체, 상품, 계약번호 마디를 찾고 후보 계약 수의 상한을 어림합니다.
+         */
+        private TermMatch match(String term) {
+            Map<Long, Integer> companyScores = companies.scores(term, COMPANY_NAME_WEIGHT, COMPANY_NUMBER_WEIGHT);
+            Map<Long, Integer> productScores = products.scores(term, PRODUCT_NAME_WEIGHT, 0);
+            List<Set<Long>> numberPostings = numberPostings(term);
+            
+            long estimate = 0;
+            for (Long companyId : companyScores.keySet()) {
+                estimate += contractsByCompany.getOrDefault(companyId, Set.of()).size();
+            }
+            for (Long productId : productScores.keySet()) {
+                estimate += contractsByProduct.getOrDefault(productId, Set.of()).size();
+            }
+            for (Set<Long> ids : numberPostings) {
+                estimate += ids.size();
+            }
+            return new TermMatch(term, companyScores, productScores, numberPostings, estimate);
+        }
+        
+        /**
+         * 검색 단어에 맞을 수 있는 계약번호의 마디별 계약 목록
+         * 계약번호에 맞는 단어는 마디의 처음에서 시작하므로, 단어를 구분자로 나누면 마지막 조각은 어느 마디의 앞부분이고
+         * 나머지 조각은 마디와 정확히 같습니다. 이 중 계약 수가 가장 적은 쪽을 후보로 씁니다. (예: "cnt-20260125-00")
+         */
+        private List<Set<Long>> numberPostings(String term) {
+            String[] parts = term.split(NUMBER_DELIMITER);
+            if (parts.length == 0 || parts[0].isEmpty()) {
+                return List.of();
+            }
+            String last = parts[parts.length - 1];
+            List<Set<Long>> smallest = new ArrayList<>(
+                    numberSegments.subMap(last, true, last + Character.MAX_VALUE, false).values());
+            long smallestSize = smallest.stream().mapToLong(Set::size).sum();
+            for (int i = 0; i < parts.length - 1; i++) {
+                Set<Long> exact = numberSegments.get(parts[i]);
+                if (exact == null) {
+                    return List.of();
+                }
+                if (exact.size() < smallestSize) {
+                    smallest = List.of(exact);
+                    smallestSize = exact.size();
+                }
+            }
+            return smallest;
+        }
+    }
+}
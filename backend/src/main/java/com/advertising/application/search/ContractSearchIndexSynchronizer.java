@@ -0,0 +1,106 @@
+package com.advertising.application.search;
+
+import com.advertising.application.cache.CachedCompany;
+import com.advertising.application.cache.CachedProduct;
+import com.advertising.common.event.SnapshotSynchronizer;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ContractSearchEntry;
+import com.advertising.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 계약 검색 인덱스 동기화
+ *
+ * <p>웹 서버가 요청을 받기 전에 전체 계약, 업체, 상품으로 인덱스를 만들고, 이후에는 Hibernate 커밋 후 이벤트로
+ * 변경된 계약, 업체, 상품만 반영합니다. 롤백된 변경은 인덱스에 들어가지 않습니다.
+ * 다시 만드는 동안 커밋된 변경은 교체 후 다시 반영합니다. ({@link SnapshotSynchronizer})
+ * (상태 전환 배치의 벌크 UPDATE는 이벤트가 없지만, 인덱스가 상태를 기간으로 판정하므로 반영할 필요가 없습니다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContractSearchIndexSynchronizer extends SnapshotSynchronizer<ContractSearchIndexSynchronizer.Snapshot> {
+    
+    private static final Set<Class<?>> INDEXED_TYPES = Set.of(Contract.class, Company.class, Product.class);
+    
+    private final ContractSearchIndex contractSearchIndex;
+    private final ContractRepository contractRepository;
+    private final CompanyRepository companyRepository;
+    private final ProductRepository productRepository;
+    
+    /**
+     * 전체 계약, 업체, 상품을 조회합니다.
+     */
+    @Override
+    protected Snapshot load() {
+        return new Snapshot(contractRepository.findAllSearchEntries(),
+                companyRepository.findAllBy(CachedCompany.class),
+                productRepository.findAllBy(CachedProduct.class));
+    }
+    
+    @Override
+    protected void install(Snapshot snapshot) {
+        contractSearchIndex.rebuild(snapshot.contracts(), snapshot.companies(), snapshot.products());
+        log.info("계약 검색 인덱스 생성 완료: count={}", contractSearchIndex.size());
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        apply(event.getEntity());
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        apply(event.getEntity());
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Long id = (Long) event.getId();
+        if (event.getEntity() instanceof Contract) {
+            dispatch(() -> contractSearchIndex.removeContract(id));
+        } else if (event.getEntity() instanceof Company) {
+            dispatch(() -> contractSearchIndex.removeCompany(id));
+        } else if (event.getEntity() instanceof Product) {
+            dispatch(() -> contractSearchIndex.removeProduct(id));
+        }
+    }
+    
+    private void apply(Object entity) {
+        if (entity instanceof Contract contract) {
+            ContractSearchEntry entry = ContractSearchEntry.of(contract);
+            dispatch(() -> contractSearchIndex.putContract(entry));
+        } else if (entity instanceof Company company) {
+            CachedCompany cached = CachedCompany.from(company);
+            dispatch(() -> contractSearchIndex.putCompany(cached));
+        } else if (entity instanceof Product product) {
+            CachedProduct cached = CachedProduct.from(product);
+            dispatch(() -> contractSearchIndex.putProduct(cached));
+        }
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return INDEXED_TYPES.contains(persister.getMappedClass());
+    }
+    
+    /**
+     * 인덱스를 만들 전체 계약, 업체, 상품
+     */
+    protected record Snapshot(List<ContractSearchEntry> contracts, List<CachedCompany> companies,
+                              List<CachedProduct> products) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.advertising.application.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 검색어 처리 유틸리티
+ * 정규화, 초성 추출, n-gram 분해를 제공합니다.
+ */
+public final class KoreanText {
+    
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+    
+    /** 호환용 자모 초성 (ㄱ ~ ㅎ) */
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    
+    private KoreanText() {
+    }
+    
+    /**
+     * 검색 비교용으로 문자열을 정규화합니다. (소문자 변환)
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 한글 음절을 초성으로 바꾼 문자열을 반환합니다.
+     * 한글 음절이 아닌 문자는 그대로 둡니다. (예: "놀유니버스 A" -> "ㄴㅇㄴㅂㅅ a")
+     */
+    public static String toChosung(String text) {
+        String normalized = normalize(text);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                builder.append(CHOSUNG[(c - HANGUL_BASE) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+    
+    /**
+     * 초성 검색어인지 확인합니다.
+     * 한글이 하나 이상의 초성 자음으로만 이루어진 경우 초성 검색으로 판단합니다. (예: "ㄴㅇㄴ")
+     */
+    public static boolean isChosungQuery(String keyword) {
+        boolean hasChosung = false;
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (isChosung(c)) {
+                hasChosung = true;
+            } else if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                return false;
+            }
+        }
+        return hasChosung;
+    }
+    
+    /**
+     * 문자열을 길이 1 이상 {@code maxN} 이하의 n-gram 집합으로 분해합니다.
+     */
+    public static Set<String> ngrams(String text, int maxN) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int n = 1; n <= maxN; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                grams.add(text.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+    
+    private static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
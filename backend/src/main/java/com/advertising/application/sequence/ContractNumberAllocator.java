@@ -0,0 +1,117 @@
+package com.advertising.application.sequence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계약 번호 발급기 (hi/lo)
+ *
+ * <p>{@code CNT-yyyyMMdd-NNNN} 형식의 번호를 영업일별로 발급합니다.
+ * DB에서는 블록 단위로만 번호를 예약하고, 블록 안의 번호는 {@link AtomicLong}으로 잠금 없이 나눠 줍니다.
+ * 블록이 소진되었을 때만 한 스레드가 다음 블록을 예약합니다.
+ */
+@Slf4j
+@Component
+public class ContractNumberAllocator {
+    
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int MAX_INITIALIZE_RETRIES = 3;
+    
+    private final ContractNumberBlockReserver reserver;
+    private final Clock clock;
+    private final int blockSize;
+    
+    /** 영업일 -> 현재 사용 중인 블록 */
+    private final Map<LocalDate, Block> blocks = new ConcurrentHashMap<>();
+    
+    private final ReentrantLock refillLock = new ReentrantLock();
+    
+    public ContractNumberAllocator(
+            ContractNumberBlockReserver reserver,
+            Clock clock,
+            @Value("${advertising.contract-number.block-size:50}") int blockSize) {
+        this.reserver = reserver;
+        this.clock = clock;
+        this.blockSize = blockSize;
+    }
+    
+    /**
+     * 오늘 영업일의 다음 계약 번호를 발급합니다.
+     */
+    public String nextContractNumber() {
+        LocalDate businessDate = LocalDate.now(clock);
+        return prefixOf(businessDate) + String.format("%04d", nextValue(businessDate));
+    }
+    
+    /**
+     * 영업일의 계약 번호 접두어 (예: CNT-20260125-)
+     */
+    public static String prefixOf(LocalDate businessDate) {
+        return "CNT-" + businessDate.format(DATE_FORMAT) + "-";
+    }
+    
+    long nextValue(LocalDate businessDate) {
+        while (true) {
+            Block block = blocks.get(businessDate);
+            if (block != null) {
+                long value = block.next.getAndIncrement();
+                if (value <= block.last) {
+                    return value;
+                }
+            }
+            refill(businessDate, block);
+        }
+    }
+    
+    private void refill(LocalDate businessDate, Block exhausted) {
+        refillLock.lock();
+        try {
+            // 대기하는 동안 다른 스레드가 이미 새 블록을 받아왔을 수 있음
+            if (blocks.get(businessDate) != exhausted) {
+                return;
+            }
+            
+            long first = reserveWithRetry(businessDate);
+            blocks.put(businessDate, new Block(first, first + blockSize - 1));
+            blocks.keySet().removeIf(date -> date.isBefore(businessDate));
+        } finally {
+            refillLock.unlock();
+        }
+    }
+    
+    /**
+     * 다른 인스턴스가 같은 영업일의 시퀀스 행을 동시에 만들면 고유 제약 위반이 발생하므로 다시 시도합니다.
+     */
+    private long reserveWithRetry(LocalDate businessDate) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return reserver.reserve(businessDate, blockSize);
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_INITIALIZE_RETRIES) {
+                    throw e;
+                }
+                log.warn("계약 번호 시퀀스 초기화 충돌, 재시도합니다: businessDate={}, attempt={}", businessDate, attempt);
+            }
+        }
+    }
+    
+    private static final class Block {
+        private final AtomicLong next;
+        private final long last;
+        
+        private Block(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+    }
+}
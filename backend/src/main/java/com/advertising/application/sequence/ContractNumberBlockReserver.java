@@ -0,0 +1,57 @@
+package com.advertising.application.sequence;
+
+import com.advertising.domain.entity.ContractNumberSequence;
+import com.advertising.domain.repository.ContractNumberSequenceRepository;
+import com.advertising.domain.repository.ContractRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 계약 번호 블록 예약기
+ * 영업일별 시퀀스 행을 잠그고 high-water mark를 블록 크기만큼 올립니다.
+ *
+ * <p>계약 저장 트랜잭션이 롤백되더라도 예약한 블록이 되돌아가지 않도록 별도 트랜잭션에서 커밋합니다.
+ * 덕분에 재시작 후에도 이미 발급했을 수 있는 번호를 다시 발급하지 않습니다. (미사용 번호는 건너뜁니다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContractNumberBlockReserver {
+    
+    private final ContractNumberSequenceRepository sequenceRepository;
+    private final ContractRepository contractRepository;
+    
+    /**
+     * 영업일의 번호 블록을 예약합니다.
+     *
+     * @return 예약된 블록의 첫 번호
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(LocalDate businessDate, int blockSize) {
+        ContractNumberSequence sequence = sequenceRepository.findForUpdate(businessDate)
+                .orElseGet(() -> initialize(businessDate));
+        
+        long first = sequence.reserve(blockSize);
+        log.debug("계약 번호 블록 예약: businessDate={}, range={}~{}", businessDate, first, first + blockSize - 1);
+        return first;
+    }
+    
+    /**
+     * 영업일의 첫 시퀀스 행을 만듭니다.
+     * 시퀀스 도입 이전에 발급된 같은 날짜의 계약 번호가 있으면 그 다음부터 이어서 발급합니다.
+     */
+    private ContractNumberSequence initialize(LocalDate businessDate) {
+        String prefix = ContractNumberAllocator.prefixOf(businessDate);
+        long lastIssued = contractRepository.findMaxSerialStartingWith(prefix).orElse(0L);
+        
+        return sequenceRepository.saveAndFlush(ContractNumberSequence.builder()
+                .businessDate(businessDate)
+                .lastValue(lastIssued)
+                .build());
+    }
+}
@@ -1,16 +1,27 @@
 package com.advertising.application.service;
 
+import com.advertising.application.cache.CachedCompany;
+import com.advertising.application.cache.CompanyCache;
+import com.advertising.application.cache.ReferenceDataCache;
 import com.advertising.application.dto.CompanyResponse;
+import com.advertising.application.dto.CompanySummaryResponse;
+import com.advertising.application.dto.Versioned;
+import com.advertising.application.search.CompanySearchIndex;
+import com.advertising.application.search.CompanySearchIndex.IndexedCompany;
+import com.advertising.application.summary.CompanyContractSummaries;
+import com.advertising.application.summary.CompanyContractSummary;
 import com.advertising.common.exception.BusinessException;
 import com.advertising.common.exception.ErrorCode;
-import com.advertising.domain.entity.Company;
-import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.enums.ContractStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -25,22 +36,36 @@ public class CompanyService {
     
     private static final int MAX_SEARCH_RESULTS = 20; // 자동완성 최대 결과 수
     
-    private final CompanyRepository companyRepository;
+    private final CompanyCache companyCache;
+    private final CompanySearchIndex companySearchIndex;
+    private final CompanyContractSummaries companyContractSummaries;
     
     /**
      * 전체 업체 목록을 조회합니다.
+     * 업체 캐시의 불변 스냅샷으로 응답하므로 캐시가 유효한 동안에는 DB를 조회하지 않습니다.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CompanyResponse> getAllCompanies() {
-        List<Company> companies = companyRepository.findAll();
-        return companies.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(companyCache.findAll());
+    }
+    
+    /**
+     * 전체 업체 목록을 버전(ETag)과 함께 조회합니다.
+     * 응답 본문은 버전이 달라 실제로 내려줄 때만 만들어집니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Versioned<List<CompanyResponse>> getVersionedCompanies() {
+        ReferenceDataCache.Snapshot<CachedCompany> snapshot = companyCache.snapshot();
+        return new Versioned<>("companies-" + snapshot.version(), () -> toResponses(snapshot.values()));
     }
     
     /**
      * 키워드로 업체를 검색합니다
      * 업체명에 키워드가 포함된 업체를 최대 20개까지 반환합니다.
+     * 초성으로만 이루어진 키워드는 업체명의 초성으로 검색합니다. (예: "ㄴㅇㄴ")
+     * DB 대신 인메모리 검색 인덱스를 사용하므로 트랜잭션을 열지 않습니다.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CompanyResponse> searchCompanies(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return List.of();
@@ -49,11 +74,7 @@ public class CompanyService {
         String trimmedKeyword = keyword.trim();
         log.debug("업체 검색: keyword={}", trimmedKeyword);
         
-        List<Company> companies = companyRepository.findByNameContaining(trimmedKeyword);
-        
-        // 최대 결과 수 제한
-        List<CompanyResponse> results = companies.stream()
-                .limit(MAX_SEARCH_RESULTS)
+        List<CompanyResponse> results = companySearchIndex.search(trimmedKeyword, MAX_SEARCH_RESULTS).stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
         
@@ -64,21 +85,64 @@ public class CompanyService {
     /**
      * 업체 ID로 업체를 조회합니다.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CompanyResponse getCompanyById(Long id) {
-        Company company = companyRepository.findById(id)
+        CachedCompany company = companyCache.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.COMPANY_NOT_FOUND, "업체를 찾을 수 없습니다."));
         return toResponse(company);
     }
     
     /**
-     * 업체 엔티티를 응답 DTO로 변환합니다.
+     * 업체의 계약 집계(활성 계약 수, 상태별 계약 수, 계약 금액 합계)를 조회합니다.
+     * 계약 변경 시 갱신되는 인메모리 집계로 응답하므로 업체의 계약 수와 무관하게 DB를 조회하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CompanySummaryResponse getCompanySummary(Long id) {
+        if (companyCache.findById(id).isEmpty()) {
+            throw new BusinessException(ErrorCode.COMPANY_NOT_FOUND, "업체를 찾을 수 없습니다.");
+        }
+        
+        CompanyContractSummary summary = companyContractSummaries.find(id);
+        Map<ContractStatus, Long> statusCounts = new EnumMap<>(ContractStatus.class);
+        for (ContractStatus status : ContractStatus.values()) {
+            statusCounts.put(status, summary.count(status));
+        }
+        return CompanySummaryResponse.builder()
+                .companyId(id)
+                .activeContractCount(summary.activeCount())
+                .totalContractCount(summary.totalCount())
+                .committedAmount(summary.committedAmount())
+                .statusCounts(statusCounts)
+                .build();
+    }
+    
+    private List<CompanyResponse> toResponses(List<CachedCompany> companies) {
+        return companies.stream()
+                .map(this::toResponse)
+                .toList();
+    }
+    
+    /**
+     * 캐시의 업체 정보를 응답 DTO로 변환합니다.
+     */
+    private CompanyResponse toResponse(CachedCompany company) {
+        return CompanyResponse.builder()
+                .id(company.id())
+                .companyNumber(company.companyNumber())
+                .name(company.name())
+                .type(company.type())
+                .build();
+    }
+    
+    /**
+     * 검색 인덱스의 업체 정보를 응답 DTO로 변환합니다.
      */
-    private CompanyResponse toResponse(Company company) {
+    private CompanyResponse toResponse(IndexedCompany company) {
         return CompanyResponse.builder()
-                .id(company.getId())
-                .companyNumber(company.getCompanyNumber())
-                .name(company.getName())
-                .type(company.getType())
+                .id(company.id())
+                .companyNumber(company.companyNumber())
+                .name(company.name())
+                .type(company.type())
                 .build();
     }
 }
@@ -1,27 +1,59 @@
 package com.advertising.application.service;
 
+import com.advertising.application.booking.ProductCapacityLedger;
+import com.advertising.application.booking.ProductCapacityLedger.Booking;
+import com.advertising.application.cache.CachedCompany;
+import com.advertising.application.cache.CachedProduct;
+import com.advertising.application.cache.CompanyCache;
+import com.advertising.application.cache.ProductCache;
+import com.advertising.application.concurrent.ParallelLookups;
 import com.advertising.application.dto.*;
+import com.advertising.application.idempotency.ContractFingerprint;
+import com.advertising.application.idempotency.ContractIdempotencyStore;
+import com.advertising.application.idempotency.ContractIdempotencyStore.Claim;
+import com.advertising.application.period.ContractPeriodIndex;
+import com.advertising.application.period.ContractPeriodIndex.Reservation;
+import com.advertising.application.search.ContractSearchIndex;
+import com.advertising.application.sequence.ContractNumberAllocator;
 import com.advertising.common.exception.BusinessException;
 import com.advertising.common.exception.ErrorCode;
+import com.advertising.common.exception.ErrorMetrics;
+import com.advertising.common.time.BusinessClock;
 import com.advertising.domain.entity.Company;
 import com.advertising.domain.entity.Contract;
 import com.advertising.domain.entity.Product;
 import com.advertising.domain.enums.ContractStatus;
 import com.advertising.domain.repository.CompanyRepository;
 import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ContractRow;
+import com.advertising.domain.repository.ContractStatusCondition;
 import com.advertising.domain.repository.ProductRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -35,84 +67,372 @@ import java.util.stream.Collectors;
 public class ContractService {
     
     private static final int MIN_CONTRACT_DAYS = 28;
-    private static final String DUPLICATE_REQUEST_KEY_PREFIX = "contract:";
+    private static final int DEFAULT_PAGE_SIZE = 5;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
     
     private final ContractRepository contractRepository;
     private final CompanyRepository companyRepository;
     private final ProductRepository productRepository;
+    private final CompanyCache companyCache;
+    private final ProductCache productCache;
+    private final ContractIdempotencyStore idempotencyStore;
+    private final ContractNumberAllocator contractNumberAllocator;
+    private final ContractPeriodIndex contractPeriodIndex;
+    private final ContractSearchIndex contractSearchIndex;
+    private final ProductCapacityLedger capacityLedger;
+    private final ParallelLookups parallelLookups;
+    private final TransactionOperations transactionOperations;
+    private final BusinessClock businessClock;
+    private final Validator validator;
+    private final ErrorMetrics errorMetrics;
     
     /**
      * 계약을 생성합니다.
      * 중복 요청 방지 및 유효성 검사를 수행합니다.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ContractResponse createContract(ContractRequest request) {
+        return createContract(request, null);
+    }
+    
+    /**
+     * 계약을 생성합니다.
+     * Idempotency-Key가 주어지면 같은 키로 완료된 요청의 응답을 그대로 돌려줍니다.
+     *
+     * <p>계약 번호는 쓰기 트랜잭션을 열기 전에 발급합니다. 번호 블록 예약은 별도 트랜잭션으로 커밋되는데,
+     * 호출 스레드가 커넥션을 쥔 채 예약을 기다리면 커넥션 풀이 고갈될 수 있기 때문입니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ContractResponse createContract(ContractRequest request, String idempotencyKey) {
         log.info("계약 생성 요청: companyId={}, productId={}, startDate={}, endDate={}, amount={}",
                 request.getCompanyId(), request.getProductId(), request.getStartDate(), 
                 request.getEndDate(), request.getAmount());
         
-        // 업체 조회
-        Company company = companyRepository.findById(request.getCompanyId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.COMPANY_NOT_FOUND, "업체를 찾을 수 없습니다."));
+        ContractFingerprint fingerprint = ContractFingerprint.of(request);
+        if (idempotencyKey != null) {
+            Optional<ContractResponse> replay = idempotencyStore.begin(idempotencyKey, fingerprint);
+            if (replay.isPresent()) {
+                return replay.get();
+            }
+        }
         
-        // 상품 조회
-        Product product = productRepository.findById(request.getProductId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다."));
+        Claim claim = null;
+        Reservation reservation = null;
+        Booking booking = null;
+        try {
+            // 업체, 상품 존재 여부는 캐시로 확인
+            ParallelLookups.Both<CachedCompany, CachedProduct> reference = findCompanyAndProduct(request);
+            CachedCompany company = reference.first();
+            CachedProduct product = reference.second();
+            
+            // 계약 유효성 검사
+            validateContractRequest(request);
+            
+            // 동일한 업체, 상품, 시작일, 종료일, 금액의 계약 요청이 최근 5초 이내에 들어왔는지 확인
+            claim = idempotencyStore.tryClaim(fingerprint)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.DUPLICATE_REQUEST, 
+                            "동일한 계약 요청이 최근에 처리되었습니다. 잠시 후 다시 시도해주세요."));
+            Claim claimed = claim;
+            
+            // 같은 업체, 상품으로 기간이 겹치는 계약이 없으면 기간 선점 (커밋되어 인덱스에 반영될 때까지 유지)
+            reservation = contractPeriodIndex.reserve(company.id(), product.id(),
+                    request.getStartDate(), request.getEndDate());
+            
+            // 계약 기간의 모든 날짜에 상품의 하루 최대 계약 수가 남아 있으면 하루씩 예약
+            booking = capacityLedger.book(product.id(), request.getStartDate(), request.getEndDate(),
+                    product.dailyCapacity());
+            Reservation reserved = reservation;
+            Booking booked = booking;
+            
+            // 계약 번호 생성
+            String contractNumber = contractNumberAllocator.nextContractNumber();
+            
+            return transactionOperations.execute(status -> {
+                // 계약 생성 (연관관계는 조회 없이 참조만 설정)
+                Contract contract = Contract.builder()
+                        .contractNumber(contractNumber)
+                        .company(companyRepository.getReferenceById(company.id()))
+                        .product(productRepository.getReferenceById(product.id()))
+                        .startDate(request.getStartDate())
+                        .endDate(request.getEndDate())
+                        .amount(request.getAmount())
+                        .status(ContractStatus.PENDING) // 초기 상태는 PENDING
+                        .build();
+                
+                // 도메인 모델의 비즈니스 로직으로 상태 결정
+                contract.updateStatus(businessClock.today());
+                
+                Contract savedContract = contractRepository.save(contract);
+                log.info("계약 생성 완료: contractNumber={}, id={}", savedContract.getContractNumber(), savedContract.getId());
+                
+                ContractResponse response = toResponse(savedContract,
+                        toCompanyResponse(company), toProductResponse(product));
+                finishIdempotency(claimed, idempotencyKey, response);
+                releaseAfterCompletion(() -> releaseHolds(reserved, booked));
+                return response;
+            });
+        } catch (RuntimeException e) {
+            if (claim != null) {
+                idempotencyStore.release(claim);
+            }
+            releaseHolds(reservation, booking);
+            if (idempotencyKey != null) {
+                idempotencyStore.abandon(idempotencyKey);
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * 계약을 일괄 생성합니다.
+     *
+     * <p>모든 항목을 먼저 검증하고(입력값, 업체/상품 존재 여부, 기간/금액, 중복 요청), 통과한 항목만
+     * 한 트랜잭션에서 JDBC 배치 INSERT로 저장합니다. 항목별 성공/실패는 요청 순서대로 돌려줍니다.
+     * {@code allOrNothing}이면 한 건이라도 검증에 실패할 경우 아무것도 저장하지 않습니다.
+     * 저장 단계에서 오류가 나면 트랜잭션 전체가 롤백되므로 검증을 통과한 항목도 모두 실패로 처리됩니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ContractBatchResponse createContracts(ContractBatchRequest request) {
+        List<ContractRequest> items = request.getContracts();
+        ContractBatchItemResult[] results = new ContractBatchItemResult[items.size()];
+        List<PreparedContract> prepared = new ArrayList<>();
         
-        // 동일한 업체, 상품, 시작일, 종료일, 금액의 계약이 최근 5초 이내에 생성되었는지 확인
-        if (isDuplicateRequest(request)) {
-            throw new BusinessException(ErrorCode.DUPLICATE_REQUEST, 
-                    "동일한 계약 요청이 최근에 처리되었습니다. 잠시 후 다시 시도해주세요.");
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                prepared.add(prepareContract(i, items.get(i)));
+            } catch (BusinessException e) {
+                results[i] = failure(i, e.getErrorCode(), e.getMessage());
+            } catch (RuntimeException e) {
+                // 예상하지 못한 오류는 요청 전체를 실패시키므로 앞 항목들이 선점한 것도 모두 해제
+                prepared.forEach(this::releasePrepared);
+                throw e;
+            }
         }
         
-        // 계약 유효성 검사
-        validateContractRequest(request);
+        boolean hasInvalidItem = prepared.size() < items.size();
+        if (request.isAllOrNothing() && hasInvalidItem) {
+            for (PreparedContract item : prepared) {
+                releasePrepared(item);
+                results[item.index()] = failure(item.index(), ErrorCode.BATCH_ABORTED.getCode(),
+                        "다른 항목의 검증 실패로 생성되지 않았습니다.");
+            }
+        } else if (!prepared.isEmpty()) {
+            try {
+                List<ContractResponse> saved = insertContracts(prepared);
+                for (int i = 0; i < prepared.size(); i++) {
+                    int index = prepared.get(i).index();
+                    results[index] = ContractBatchItemResult.builder()
+                            .index(index)
+                            .success(true)
+                            .contract(saved.get(i))
+                            .build();
+                }
+            } catch (RuntimeException e) {
+                log.error("계약 일괄 저장 실패: count={}", prepared.size(), e);
+                for (PreparedContract item : prepared) {
+                    releasePrepared(item);
+                    results[item.index()] = failure(item.index(), ErrorCode.INTERNAL_ERROR.getCode(),
+                            "계약 저장 중 오류가 발생했습니다.");
+                }
+            }
+        }
         
-        // 계약 번호 생성
-        String contractNumber = generateContractNumber();
+        int succeeded = (int) Arrays.stream(results).filter(ContractBatchItemResult::getSuccess).count();
+        log.info("계약 일괄 생성 완료: total={}, succeeded={}, allOrNothing={}",
+                items.size(), succeeded, request.isAllOrNothing());
         
-        // 계약 생성
-        Contract contract = Contract.builder()
-                .contractNumber(contractNumber)
-                .company(company)
-                .product(product)
-                .startDate(request.getStartDate())
-                .endDate(request.getEndDate())
-                .amount(request.getAmount())
-                .status(ContractStatus.PENDING) // 초기 상태는 PENDING
+        return ContractBatchResponse.builder()
+                .total(items.size())
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .results(List.of(results))
                 .build();
+    }
+    
+    /**
+     * 일괄 생성 항목 하나를 검증하고 중복 요청 지문, 계약 기간, 상품 일자 예약을 선점합니다.
+     * 같은 요청 안에서 동일한 항목이 반복되면 두 번째부터 중복 요청으로,
+     * 같은 업체, 상품으로 기간이 겹치는 항목은 두 번째부터 기간 중복으로 거절되고,
+     * 앞 항목들이 상품의 하루 최대 계약 수를 채우면 이후 항목은 CAPACITY_EXCEEDED로 거절됩니다.
+     * 어떤 예외로 실패하든 이 항목에서 선점한 것은 모두 해제한 뒤 예외를 던집니다.
+     */
+    private PreparedContract prepareContract(int index, ContractRequest request) {
+        if (request == null) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "계약 정보가 비어 있습니다.");
+        }
+        Set<ConstraintViolation<ContractRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, violations.iterator().next().getMessage());
+        }
         
-        // 도메인 모델의 비즈니스 로직으로 상태 결정
-        contract.updateStatus();
+        ParallelLookups.Both<CachedCompany, CachedProduct> reference = findCompanyAndProduct(request);
+        validateContractRequest(request);
         
-        Contract savedContract = contractRepository.save(contract);
-        log.info("계약 생성 완료: contractNumber={}, id={}", savedContract.getContractNumber(), savedContract.getId());
+        Claim claim = idempotencyStore.tryClaim(ContractFingerprint.of(request))
+                .orElseThrow(() -> new BusinessException(ErrorCode.DUPLICATE_REQUEST,
+                        "동일한 계약 요청이 최근에 처리되었습니다. 잠시 후 다시 시도해주세요."));
         
-        return toResponse(savedContract);
+        Reservation reservation = null;
+        try {
+            reservation = contractPeriodIndex.reserve(request.getCompanyId(), request.getProductId(),
+                    request.getStartDate(), request.getEndDate());
+            Booking booking = capacityLedger.book(request.getProductId(), request.getStartDate(),
+                    request.getEndDate(), reference.second().dailyCapacity());
+            return new PreparedContract(index, request, reference.first(), reference.second(), claim,
+                    reservation, booking);
+        } catch (RuntimeException e) {
+            idempotencyStore.release(claim);
+            releaseHolds(reservation, null);
+            throw e;
+        }
     }
     
     /**
-     * 중복 요청인지 확인합니다.
-     * 동일한 업체, 상품, 시작일, 종료일, 금액의 계약이 최근 5초 이내에 생성되었는지 확인합니다.
+     * 계약 요청의 업체와 상품을 캐시에서 찾습니다.
+     * 둘 다 캐시에 있으면 바로 반환하고, 하나라도 저장소 조회가 필요하면 두 조회를 동시에 실행합니다.
+     * 한쪽이 없으면 다른 쪽 조회는 취소되고 해당 에러가 발생합니다.
      */
-    private boolean isDuplicateRequest(ContractRequest request) {
-        List<Contract> recentContracts = contractRepository.findAll().stream()
-                .filter(c -> c.getCompany().getId().equals(request.getCompanyId()))
-                .filter(c -> c.getProduct().getId().equals(request.getProductId()))
-                .filter(c -> c.getStartDate().equals(request.getStartDate()))
-                .filter(c -> c.getEndDate().equals(request.getEndDate()))
-                .filter(c -> c.getAmount().compareTo(request.getAmount()) == 0)
-                .filter(c -> c.getCreatedAt() != null && 
-                        c.getCreatedAt().isAfter(java.time.LocalDateTime.now().minusSeconds(5)))
-                .collect(Collectors.toList());
+    private ParallelLookups.Both<CachedCompany, CachedProduct> findCompanyAndProduct(ContractRequest request) {
+        Supplier<CachedCompany> company = () -> companyCache.findById(request.getCompanyId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.COMPANY_NOT_FOUND, "업체를 찾을 수 없습니다."));
+        Supplier<CachedProduct> product = () -> productCache.findById(request.getProductId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다."));
+        
+        if (companyCache.contains(request.getCompanyId()) && productCache.contains(request.getProductId())) {
+            return new ParallelLookups.Both<>(company.get(), product.get());
+        }
+        return parallelLookups.both(company, product);
+    }
+    
+    /**
+     * 검증을 통과한 계약을 한 트랜잭션에서 저장합니다.
+     * ID는 시퀀스에서 미리 받아 두므로 INSERT는 hibernate.jdbc.batch_size 단위로 묶여 전송됩니다.
+     */
+    private List<ContractResponse> insertContracts(List<PreparedContract> prepared) {
+        // 계약 번호는 쓰기 트랜잭션을 열기 전에 발급 (createContract 참고)
+        List<String> contractNumbers = prepared.stream()
+                .map(item -> contractNumberAllocator.nextContractNumber())
+                .toList();
         
-        return !recentContracts.isEmpty();
+        return transactionOperations.execute(status -> {
+            LocalDate today = businessClock.today();
+            List<Contract> contracts = new ArrayList<>(prepared.size());
+            for (int i = 0; i < prepared.size(); i++) {
+                ContractRequest request = prepared.get(i).request();
+                Contract contract = Contract.builder()
+                        .contractNumber(contractNumbers.get(i))
+                        .company(companyRepository.getReferenceById(request.getCompanyId()))
+                        .product(productRepository.getReferenceById(request.getProductId()))
+                        .startDate(request.getStartDate())
+                        .endDate(request.getEndDate())
+                        .amount(request.getAmount())
+                        .status(ContractStatus.PENDING)
+                        .build();
+                contract.updateStatus(today);
+                contracts.add(contract);
+            }
+            
+            List<Contract> savedContracts = contractRepository.saveAll(contracts);
+            
+            List<ContractResponse> responses = new ArrayList<>(savedContracts.size());
+            for (int i = 0; i < savedContracts.size(); i++) {
+                PreparedContract item = prepared.get(i);
+                ContractResponse response = toResponse(savedContracts.get(i),
+                        toCompanyResponse(item.company()), toProductResponse(item.product()));
+                finishIdempotency(item.claim(), null, response);
+                responses.add(response);
+            }
+            releaseAfterCompletion(() -> prepared.forEach(item -> releaseHolds(item.reservation(), item.booking())));
+            return responses;
+        });
+    }
+    
+    private void releasePrepared(PreparedContract item) {
+        idempotencyStore.release(item.claim());
+        releaseHolds(item.reservation(), item.booking());
+    }
+    
+    private ContractBatchItemResult failure(int index, String errorCode, String message) {
+        errorMetrics.increment(errorCode);
+        return ContractBatchItemResult.builder()
+                .index(index)
+                .success(false)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+    
+    /**
+     * 검증을 통과한 일괄 생성 항목
+     */
+    private record PreparedContract(int index, ContractRequest request, CachedCompany company,
+                                    CachedProduct product, Claim claim,
+                                    Reservation reservation, Booking booking) {
+    }
+    
+    /**
+     * 트랜잭션 결과에 맞춰 멱등성 저장소를 갱신합니다.
+     * 커밋되면 Idempotency-Key에 응답을 기록하고, 롤백되면 선점한 지문과 키를 해제합니다.
+     */
+    private void finishIdempotency(Claim claim, String idempotencyKey, ContractResponse response) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (idempotencyKey != null) {
+                idempotencyStore.complete(idempotencyKey, response);
+            }
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    if (idempotencyKey != null) {
+                        idempotencyStore.complete(idempotencyKey, response);
+                    }
+                    return;
+                }
+                idempotencyStore.release(claim);
+                if (idempotencyKey != null) {
+                    idempotencyStore.abandon(idempotencyKey);
+                }
+            }
+        });
+    }
+    
+    /**
+     * 트랜잭션이 끝나면 계약 기간 선점과 상품 일자 예약을 해제합니다.
+     * 커밋된 경우에는 커밋 후 이벤트로 계약이 인덱스와 장부에 먼저 반영되므로 선점이 풀려도 기간 중복이나
+     * 하루 최대 계약 수 초과가 생기지 않습니다.
+     */
+    private void releaseAfterCompletion(Runnable release) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release.run();
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release.run();
+            }
+        });
+    }
+    
+    private void releaseHolds(Reservation reservation, Booking booking) {
+        if (reservation != null) {
+            contractPeriodIndex.release(reservation);
+        }
+        if (booking != null) {
+            capacityLedger.release(booking);
+        }
     }
     
     /**
      * 계약 요청의 유효성을 검사합니다.
      */
     private void validateContractRequest(ContractRequest request) {
-        LocalDate today = LocalDate.now();
+        LocalDate today = businessClock.today();
         
         // 계약 시작일 검증
         if (request.getStartDate().isBefore(today)) {
@@ -141,48 +461,206 @@ public class ContractService {
     
     /**
      * 계약 상세 정보를 조회합니다.
+     * 상태는 저장값과 기간으로 오늘 영업일 기준으로 판정하며, 엔티티는 변경하지 않습니다.
      */
     @Transactional(readOnly = true)
     public ContractResponse getContractById(Long id) {
-        Contract contract = contractRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CONTRACT_NOT_FOUND, "계약을 찾을 수 없습니다."));
+        return toResponse(findContractRow(id), businessClock.today());
+    }
+    
+    /**
+     * 계약 상세 정보를 버전(ETag)과 함께 조회합니다.
+     * 응답에 포함되는 계약, 업체, 상품의 수정 일시와 판정한 상태로 버전을 만들고, 응답 본문은 실제로 내려줄 때만 만들어집니다.
+     * 상태는 저장값이 그대로여도 영업일이 바뀌면 달라질 수 있으므로 버전에 포함합니다.
+     * (조회 결과가 값 객체이므로 트랜잭션이 끝난 뒤에 변환해도 추가 쿼리가 없습니다)
+     */
+    @Transactional(readOnly = true)
+    public Versioned<ContractResponse> getVersionedContract(Long id) {
+        ContractRow row = findContractRow(id);
+        ContractStatus status = ContractStatus.derive(row.status(), row.startDate(), row.endDate(),
+                businessClock.today());
         
-        // 계약 상태 자동 업데이트
-        contract.updateStatus();
+        String eTag = "contract-" + row.id()
+                + "-" + Versioned.versionOf(row.updatedAt())
+                + "-" + Versioned.versionOf(row.companyUpdatedAt())
+                + "-" + Versioned.versionOf(row.productUpdatedAt())
+                + "-" + status.name();
+        return new Versioned<>(eTag, () -> toResponse(row, status));
+    }
+    
+    private Contract findContract(Long id) {
+        return contractRepository.findWithCompanyAndProductById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONTRACT_NOT_FOUND, "계약을 찾을 수 없습니다."));
+    }
+    
+    private ContractRow findContractRow(Long id) {
+        return contractRepository.findRowById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONTRACT_NOT_FOUND, "계약을 찾을 수 없습니다."));
+    }
+    
+    /**
+     * 계약을 취소합니다.
+     * 영업일 기준으로 종료된 계약은(상태 전환 배치가 돌기 전이라도) 취소할 수 없으며, 이미 취소된 계약은 그대로 응답합니다.
+     */
+    public ContractResponse cancelContract(Long id) {
+        Contract contract = findContract(id);
+        contract.cancel(businessClock.today());
         
+        log.info("계약 취소: contractNumber={}", contract.getContractNumber());
         return toResponse(contract);
     }
     
+    /**
+     * 날짜 date에 집행 기간인 상품의 계약을 시작일 순으로 조회합니다. (취소 제외)
+     * 날짜가 없으면 오늘을 기준으로 합니다. 대상은 계약 기간 인덱스로 찾고, 계약 정보는 한 번에 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<ContractResponse> getLiveContracts(Long productId, LocalDate date) {
+        productCache.findById(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다."));
+        
+        LocalDate targetDate = date != null ? date : businessClock.today();
+        return findContracts(contractPeriodIndex.findLiveOn(productId, targetDate));
+    }
+    
+    /**
+     * 같은 업체, 상품으로 주어진 기간과 겹치는 계약을 시작일 순으로 조회합니다. (취소 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<ContractResponse> getOverlappingContracts(Long companyId, Long productId,
+                                                          LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessException(ErrorCode.INVALID_PERIOD, "종료일은 시작일 이후여야 합니다.");
+        }
+        return findContracts(contractPeriodIndex.findOverlapping(companyId, productId, startDate, endDate));
+    }
+    
+    /**
+     * 계약 ID 목록의 계약을 업체, 상품과 함께 한 번에 조회하여 ID 목록 순서대로 반환합니다.
+     * 인덱스에는 있지만 아직 조회되지 않는 계약(복제 지연 등)은 제외됩니다.
+     */
+    private List<ContractResponse> findContracts(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ContractRow> contracts = contractRepository.findRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ContractRow::id, Function.identity()));
+        LocalDate today = businessClock.today();
+        return ids.stream()
+                .map(contracts::get)
+                .filter(Objects::nonNull)
+                .map(row -> toResponse(row, today))
+                .toList();
+    }
+    
     /**
      * 계약 목록을 조회합니다.
      * 업체명, 상태, 날짜 범위로 필터링 가능하며 페이징을 지원합니다.
+     * 상태 필터와 응답의 상태는 같은 영업일 기준의 기간 조건으로 판정하므로 목록, 전체 건수, 표시 상태가 항상 일치합니다.
+     *
+     * <p>목록 쿼리와 전체 건수 쿼리는 서로 독립적이므로 {@link ParallelLookups}로 동시에 실행합니다.
+     * 각 쿼리가 자기 읽기 전용 트랜잭션을 사용하므로, 호출 스레드는 커넥션을 쥐지 않도록 트랜잭션 없이 실행합니다.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<ContractResponse> getContracts(ContractListRequest request) {
         int page = request.getPage() != null && request.getPage() >= 0 ? request.getPage() : 0;
-        int size = request.getSize() != null && request.getSize() > 0 ? request.getSize() : 5;
-
+        int size = request.getSize() != null && request.getSize() > 0 ? request.getSize() : DEFAULT_PAGE_SIZE;
+        
         Pageable pageable = PageRequest.of(page, size, 
                 Sort.by(Sort.Direction.DESC, "startDate")
                         .and(Sort.by(Sort.Direction.DESC, "endDate")));
         
-        Page<Contract> contractPage = contractRepository.findByConditions(
+        LocalDate today = businessClock.today();
+        ContractStatusCondition status = ContractStatusCondition.of(request.getStatuses(), today);
+        ParallelLookups.Both<List<ContractRow>, Long> result = parallelLookups.both(
+                () -> contractRepository.findByConditions(request.getCompanyName(), status,
+                        request.getStartDate(), request.getEndDate(), pageable),
+                () -> contractRepository.countByConditions(request.getCompanyName(), status,
+                        request.getStartDate(), request.getEndDate()));
+        Page<ContractRow> contractPage = new PageImpl<>(result.first(), pageable, result.second());
+        
+        List<ContractResponse> content = contractPage.getContent().stream()
+                .map(row -> toResponse(row, today))
+                .collect(Collectors.toList());
+        
+        return PageResponse.<ContractResponse>builder()
+                .content(content)
+                .page(contractPage.getNumber())
+                .size(contractPage.getSize())
+                .totalElements(contractPage.getTotalElements())
+                .totalPages(contractPage.getTotalPages())
+                .hasNext(contractPage.hasNext())
+                .hasPrevious(contractPage.hasPrevious())
+                .build();
+    }
+    
+    /**
+     * 계약 목록을 커서 기반으로 조회합니다.
+     * 페이지 깊이와 무관하게 일정한 비용으로 다음 페이지를 조회하며, 전체 건수는 계산하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ContractResponse> getContractsByCursor(ContractListRequest request) {
+        int size = request.getSize() != null && request.getSize() > 0
+                ? Math.min(request.getSize(), MAX_CURSOR_PAGE_SIZE)
+                : DEFAULT_PAGE_SIZE;
+        ContractCursor cursor = ContractCursor.decode(request.getCursor());
+        LocalDate today = businessClock.today();
+        
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<ContractRow> contracts = contractRepository.findByConditionsAfter(
                 request.getCompanyName(),
-                request.getStatuses(),
+                ContractStatusCondition.of(request.getStatuses(), today),
                 request.getStartDate(),
                 request.getEndDate(),
-                pageable
+                cursor != null ? cursor.startDate() : null,
+                cursor != null ? cursor.endDate() : null,
+                cursor != null ? cursor.id() : null,
+                PageRequest.of(0, size + 1)
         );
         
-        // 계약 상태 자동 업데이트 (실시간 상태 반영)
-        contractPage.getContent().forEach(Contract::updateStatus);
+        boolean hasNext = contracts.size() > size;
+        List<ContractRow> pageContent = hasNext ? contracts.subList(0, size) : contracts;
         
-        List<ContractResponse> content = contractPage.getContent().stream()
-                .map(this::toResponse)
+        List<ContractResponse> content = pageContent.stream()
+                .map(row -> toResponse(row, today))
                 .collect(Collectors.toList());
         
-        return PageResponse.<ContractResponse>builder()
+        return CursorPageResponse.<ContractResponse>builder()
                 .content(content)
+                .size(size)
+                .nextCursor(hasNext ? ContractCursor.of(pageContent.get(pageContent.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+    
+    /**
+     * 검색어로 계약을 검색합니다.
+     * 계약번호, 업체명(초성 포함), 업체번호, 상품명에서 검색어를 찾아 일치도 순으로 정렬하며, 목록 조회와 같은
+     * 상태, 날짜 범위 필터를 함께 적용할 수 있습니다. 검색어가 비어 있으면 빈 페이지를 반환합니다.
+     *
+     * <p>대상과 순서는 계약 검색 인덱스에서 정하고, 해당 페이지의 계약 정보만 한 번에 조회합니다.
+     *
+     * @throws BusinessException 페이지 시작 위치가 int 범위를 넘는 경우 (VALIDATION_ERROR)
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ContractResponse> searchContracts(ContractListRequest request) {
+        int page = request.getPage() != null && request.getPage() >= 0 ? request.getPage() : 0;
+        int size = request.getSize() != null && request.getSize() > 0
+                ? Math.min(request.getSize(), MAX_SEARCH_PAGE_SIZE)
+                : DEFAULT_PAGE_SIZE;
+        Pageable pageable = PageRequest.of(page, size);
+        if (pageable.getOffset() > Integer.MAX_VALUE) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "페이지 번호가 너무 큽니다.");
+        }
+        
+        LocalDate today = businessClock.today();
+        ContractSearchIndex.Hits hits = contractSearchIndex.search(request.getKeyword(), request.getStatuses(),
+                request.getStartDate(), request.getEndDate(), today, (int) pageable.getOffset(), size);
+        Page<ContractResponse> contractPage = new PageImpl<>(findContracts(hits.ids()), pageable,
+                hits.totalElements());
+        
+        return PageResponse.<ContractResponse>builder()
+                .content(contractPage.getContent())
                 .page(contractPage.getNumber())
                 .size(contractPage.getSize())
                 .totalElements(contractPage.getTotalElements())
@@ -192,16 +670,52 @@ public class ContractService {
                 .build();
     }
     
+    /**
+     * 계약 조회 결과(값 객체)를 영업일 today 기준 상태로 응답 DTO로 변환합니다.
+     */
+    private ContractResponse toResponse(ContractRow row, LocalDate today) {
+        return toResponse(row, ContractStatus.derive(row.status(), row.startDate(), row.endDate(), today));
+    }
+    
+    private ContractResponse toResponse(ContractRow row, ContractStatus status) {
+        CompanyResponse company = CompanyResponse.builder()
+                .id(row.companyId())
+                .companyNumber(row.companyNumber())
+                .name(row.companyName())
+                .type(row.companyType())
+                .build();
+        ProductResponse product = ProductResponse.builder()
+                .id(row.productId())
+                .name(row.productName())
+                .description(row.productDescription())
+                .build();
+        
+        return ContractResponse.builder()
+                .id(row.id())
+                .contractNumber(row.contractNumber())
+                .company(company)
+                .product(product)
+                .startDate(row.startDate())
+                .endDate(row.endDate())
+                .amount(row.amount())
+                .status(status)
+                .statusDescription(status.getDescription())
+                .createdAt(row.createdAt())
+                .build();
+    }
+    
     private ContractResponse toResponse(Contract contract) {
-        Company company = contract.getCompany();
-        Product product = contract.getProduct();
+        return toResponse(contract, toCompanyResponse(contract.getCompany()), toProductResponse(contract.getProduct()));
+    }
+    
+    private ContractResponse toResponse(Contract contract, CompanyResponse company, ProductResponse product) {
         ContractStatus status = contract.getStatus();
         
         return ContractResponse.builder()
                 .id(contract.getId())
                 .contractNumber(contract.getContractNumber())
-                .company(toCompanyResponse(company))
-                .product(toProductResponse(product))
+                .company(company)
+                .product(product)
                 .startDate(contract.getStartDate())
                 .endDate(contract.getEndDate())
                 .amount(contract.getAmount())
@@ -223,6 +737,29 @@ public class ContractService {
                 .build();
     }
     
+    /**
+     * 캐시의 업체 정보를 CompanyResponse로 변환
+     */
+    private CompanyResponse toCompanyResponse(CachedCompany company) {
+        return CompanyResponse.builder()
+                .id(company.id())
+                .companyNumber(company.companyNumber())
+                .name(company.name())
+                .type(company.type())
+                .build();
+    }
+    
+    /**
+     * 캐시의 상품 정보를 ProductResponse로 변환
+     */
+    private ProductResponse toProductResponse(CachedProduct product) {
+        return ProductResponse.builder()
+                .id(product.id())
+                .name(product.name())
+                .description(product.description())
+                .build();
+    }
+    
     /**
      * Product 엔티티를 ProductResponse로 변환
      */
@@ -233,9 +770,4 @@ public class ContractService {
                 .description(product.getDescription())
                 .build();
     }
-    
-    private String generateContractNumber() {
-        return "CNT-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + 
-               "-" + String.format("%04d", contractRepository.count() + 1);
-    }
 }
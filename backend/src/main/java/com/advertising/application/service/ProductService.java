@@ -1,40 +1,92 @@
 package com.advertising.application.service;
 
+import com.advertising.application.booking.ProductCapacityLedger;
+import com.advertising.application.cache.CachedProduct;
+import com.advertising.application.cache.ProductCache;
+import com.advertising.application.cache.ReferenceDataCache;
+import com.advertising.application.dto.ProductAvailabilityResponse;
 import com.advertising.application.dto.ProductResponse;
-import com.advertising.domain.entity.Product;
-import com.advertising.domain.repository.ProductRepository;
+import com.advertising.application.dto.Versioned;
+import com.advertising.common.exception.BusinessException;
+import com.advertising.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 상품 서비스
+ * 상품은 거의 바뀌지 않으므로 상품 캐시에서 조회하며, 캐시가 유효한 동안에는 트랜잭션을 열지 않습니다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Transactional(propagation = Propagation.SUPPORTS)
 public class ProductService {
     
-    private final ProductRepository productRepository;
+    private static final int MAX_AVAILABILITY_DAYS = 366;
+    
+    private final ProductCache productCache;
+    private final ProductCapacityLedger capacityLedger;
     
     public List<ProductResponse> getAllProducts() {
-        List<Product> products = productRepository.findAll();
-        return products.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(productCache.findAll());
+    }
+    
+    /**
+     * 전체 상품 목록을 버전(ETag)과 함께 조회합니다.
+     * 응답 본문은 버전이 달라 실제로 내려줄 때만 만들어집니다.
+     */
+    public Versioned<List<ProductResponse>> getVersionedProducts() {
+        ReferenceDataCache.Snapshot<CachedProduct> snapshot = productCache.snapshot();
+        return new Versioned<>("products-" + snapshot.version(), () -> toResponses(snapshot.values()));
     }
     
     public ProductResponse getProductById(Long id) {
-        Product product = productRepository.findById(id)
+        CachedProduct product = productCache.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
         return toResponse(product);
     }
     
-    private ProductResponse toResponse(Product product) {
+    /**
+     * 상품의 날짜별 예약 수와 남은 자리를 조회합니다. (처리 중인 계약 생성 포함, 최대 366일)
+     */
+    public List<ProductAvailabilityResponse> getAvailability(Long id, LocalDate startDate, LocalDate endDate) {
+        CachedProduct product = productCache.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다."));
+        if (endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_AVAILABILITY_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_PERIOD,
+                    String.format("조회 기간은 시작일부터 최대 %d일입니다.", MAX_AVAILABILITY_DAYS));
+        }
+        
+        List<ProductAvailabilityResponse> availability = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            int booked = capacityLedger.bookedOn(id, date);
+            availability.add(ProductAvailabilityResponse.builder()
+                    .date(date)
+                    .booked(booked)
+                    .remaining(product.dailyCapacity() != null ? Math.max(product.dailyCapacity() - booked, 0) : null)
+                    .build());
+        }
+        return availability;
+    }
+    
+    private List<ProductResponse> toResponses(List<CachedProduct> products) {
+        return products.stream()
+                .map(this::toResponse)
+                .toList();
+    }
+    
+    private ProductResponse toResponse(CachedProduct product) {
         return ProductResponse.builder()
-                .id(product.getId())
-                .name(product.getName())
-                .description(product.getDescription())
+                .id(product.id())
+                .name(product.name())
+                .description(product.description())
+                .dailyCapacity(product.dailyCapacity())
                 .build();
     }
 }
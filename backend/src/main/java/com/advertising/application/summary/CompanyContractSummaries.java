@@ -0,0 +1,172 @@
+package com.advertising.application.summary;
+
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.CompanyStatusTotals;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 업체별 계약 집계 저장소 (읽기 모델)
+ *
+ * <p>업체마다 상태별 계약 수와 계약 금액 합계를 메모리에 유지하여, 업체의 계약 수와 무관하게 상수 시간에 조회합니다.
+ * 계약 생성/취소/삭제와 상태 전환 배치가 커밋되면 바뀐 만큼만 반영하고
+ * ({@link CompanyContractSummarySynchronizer}), 주기적인 재집계로 어긋난 값을 바로잡습니다.
+ *
+ * <p>재집계는 DB 집계를 시작하기 전의 변경 순번을 기억해 두고, 그 이후에 증분 반영된 업체는 건너뜁니다.
+ * 집계 쿼리와 동시에 커밋된 변경이 두 번 반영되거나 사라지지 않도록 하기 위해서이며, 건너뛴 업체는 다음 재집계에서 확인합니다.
+ *
+ * <p>첫 재집계 전에는 비교할 값이 없으므로, 집계 조회를 시작한 뒤({@link #bufferUntilLoaded()}) 들어온 증분을 모아 두었다가
+ * 첫 재집계 결과 위에 반영합니다. 그 전의 증분은 이미 커밋되어 집계 결과에 포함되므로 버립니다.
+ */
+@Component
+public class CompanyContractSummaries {
+
+    private final Map<Long, CompanyContractSummary> summaries = new ConcurrentHashMap<>();
+    private final AtomicLong changeSequence = new AtomicLong();
+    private final AtomicLong correctedTotal = new AtomicLong();
+
+    /** 첫 재집계 완료 여부와 그 전에 모아 둔 증분(null이면 버림)을 함께 바꾸기 위한 잠금 */
+    private final Object loadLock = new Object();
+    private volatile boolean loaded;
+    private List<Move> pending;
+
+    public CompanyContractSummary find(Long companyId) {
+        CompanyContractSummary summary = summaries.get(companyId);
+        return summary != null ? summary : CompanyContractSummary.empty(companyId);
+    }
+
+    /**
+     * 업체의 계약 count건(금액 합 amount)이 from 상태에서 to 상태로 바뀐 것을 반영합니다.
+     * from이 null이면 새로 생긴 계약, to가 null이면 삭제된 계약입니다.
+     */
+    public void move(Long companyId, ContractStatus from, ContractStatus to, long count, BigDecimal amount) {
+        if (from == to || count == 0) {
+            return;
+        }
+        if (!loaded) {
+            synchronized (loadLock) {
+                if (!loaded) {
+                    if (pending != null) {
+                        pending.add(new Move(companyId, from, to, count, amount));
+                    }
+                    return;
+                }
+            }
+        }
+        apply(new Move(companyId, from, to, count, amount));
+    }
+
+    /**
+     * 첫 재집계 전이면 지금부터 들어오는 증분을 모아 두었다가 첫 재집계 직후 반영합니다.
+     * 첫 재집계용 DB 조회를 시작하기 전에 호출합니다.
+     */
+    public void bufferUntilLoaded() {
+        synchronized (loadLock) {
+            if (!loaded && pending == null) {
+                pending = new ArrayList<>();
+            }
+        }
+    }
+
+    private void apply(Move move) {
+        summaries.compute(move.companyId(), (id, current) -> {
+            CompanyContractSummary moved = (current != null ? current : CompanyContractSummary.empty(id))
+                    .move(move.from(), move.to(), move.count(), move.amount(), changeSequence.incrementAndGet());
+            return moved.isEmpty() ? null : moved;
+        });
+    }
+
+    /**
+     * 현재 변경 순번. 재집계용 DB 조회를 시작하기 전에 읽어 {@link #reconcile}에 넘깁니다.
+     */
+    public long currentSequence() {
+        return changeSequence.get();
+    }
+
+    /**
+     * DB 집계 결과와 비교하여 어긋난 업체를 바로잡습니다.
+     * 첫 재집계면 집계 결과로 채운 뒤 조회 중에 모아 둔 증분을 반영합니다.
+     *
+     * @param totals 업체, 상태별 DB 집계
+     * @param since  DB 조회를 시작하기 전의 변경 순번 ({@link #currentSequence()})
+     */
+    public ReconcileResult reconcile(List<CompanyStatusTotals> totals, long since) {
+        if (!loaded) {
+            synchronized (loadLock) {
+                if (!loaded) {
+                    ReconcileResult result = compare(totals, since, true);
+                    if (pending != null) {
+                        pending.forEach(this::apply);
+                        pending = null;
+                    }
+                    loaded = true;
+                    return result;
+                }
+            }
+        }
+        return compare(totals, since, false);
+    }
+
+    private ReconcileResult compare(List<CompanyStatusTotals> totals, long since, boolean initial) {
+        Map<Long, List<CompanyStatusTotals>> byCompany = totals.stream()
+                .collect(Collectors.groupingBy(CompanyStatusTotals::companyId));
+        Set<Long> companyIds = new HashSet<>(byCompany.keySet());
+        companyIds.addAll(summaries.keySet());
+
+        int[] corrected = new int[1];
+        int[] skipped = new int[1];
+        for (Long companyId : companyIds) {
+            CompanyContractSummary expected = CompanyContractSummary.of(
+                    companyId, byCompany.getOrDefault(companyId, List.of()), since);
+            summaries.compute(companyId, (id, current) -> {
+                CompanyContractSummary actual = current != null ? current : CompanyContractSummary.empty(id);
+                if (!initial && actual.changeSequence() > since) {
+                    skipped[0]++;
+                    return current;
+                }
+                if (actual.hasSameTotals(expected)) {
+                    return current;
+                }
+                if (!initial) {
+                    corrected[0]++;
+                }
+                return expected.isEmpty() ? null : expected;
+            });
+        }
+        correctedTotal.addAndGet(corrected[0]);
+        return new ReconcileResult(byCompany.size(), corrected[0], skipped[0]);
+    }
+
+    public int size() {
+        return summaries.size();
+    }
+
+    /**
+     * 기동 이후 재집계로 바로잡은 업체 수 누적
+     */
+    public long getCorrectedTotal() {
+        return correctedTotal.get();
+    }
+
+    /**
+     * 재집계 결과
+     *
+     * @param companies 계약이 있는 업체 수
+     * @param corrected 증분 반영 값이 DB와 달라 바로잡은 업체 수
+     * @param skipped   집계 중 변경이 반영되어 다음 재집계로 미룬 업체 수
+     */
+    public record ReconcileResult(int companies, int corrected, int skipped) {
+    }
+
+    private record Move(Long companyId, ContractStatus from, ContractStatus to, long count, BigDecimal amount) {
+    }
+}
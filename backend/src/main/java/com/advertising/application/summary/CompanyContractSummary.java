@@ -0,0 +1,99 @@
+package com.advertising.application.summary;
+
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.CompanyStatusTotals;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 업체별 계약 집계 (불변)
+ *
+ * <ul>
+ *   <li>활성 계약: 집행전 + 진행중</li>
+ *   <li>계약 금액 합계(committed): 취소되지 않은 계약(집행전, 진행중, 광고종료)의 금액 합</li>
+ * </ul>
+ *
+ * @param changeSequence 마지막으로 증분 반영된 변경의 순번 (재집계가 동시에 반영된 변경을 덮어쓰지 않도록 비교)
+ */
+public record CompanyContractSummary(
+        Long companyId,
+        Map<ContractStatus, Long> counts,
+        BigDecimal committedAmount,
+        long changeSequence
+) {
+
+    public static CompanyContractSummary empty(Long companyId) {
+        return new CompanyContractSummary(companyId, Collections.unmodifiableMap(new EnumMap<>(ContractStatus.class)),
+                BigDecimal.ZERO, 0);
+    }
+
+    /**
+     * DB 집계 결과로 만듭니다.
+     */
+    public static CompanyContractSummary of(Long companyId, Collection<CompanyStatusTotals> totals, long changeSequence) {
+        Map<ContractStatus, Long> counts = new EnumMap<>(ContractStatus.class);
+        BigDecimal committedAmount = BigDecimal.ZERO;
+        for (CompanyStatusTotals total : totals) {
+            counts.merge(total.status(), total.count(), Long::sum);
+            if (isCommitted(total.status())) {
+                committedAmount = committedAmount.add(total.amount());
+            }
+        }
+        return new CompanyContractSummary(companyId, Collections.unmodifiableMap(counts), committedAmount, changeSequence);
+    }
+
+    public long count(ContractStatus status) {
+        return counts.getOrDefault(status, 0L);
+    }
+
+    public long activeCount() {
+        return count(ContractStatus.PENDING) + count(ContractStatus.IN_PROGRESS);
+    }
+
+    public long totalCount() {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public boolean isEmpty() {
+        return totalCount() == 0;
+    }
+
+    /**
+     * 계약 count건(금액 합 amount)이 from 상태에서 to 상태로 바뀐 결과를 반환합니다.
+     * from이 null이면 새로 생긴 계약, to가 null이면 삭제된 계약입니다.
+     */
+    CompanyContractSummary move(ContractStatus from, ContractStatus to, long count, BigDecimal amount, long sequence) {
+        Map<ContractStatus, Long> moved = new EnumMap<>(ContractStatus.class);
+        moved.putAll(counts);
+        BigDecimal committed = committedAmount;
+        if (from != null) {
+            moved.merge(from, -count, Long::sum);
+            if (isCommitted(from)) {
+                committed = committed.subtract(amount);
+            }
+        }
+        if (to != null) {
+            moved.merge(to, count, Long::sum);
+            if (isCommitted(to)) {
+                committed = committed.add(amount);
+            }
+        }
+        moved.values().removeIf(value -> value == 0);
+        return new CompanyContractSummary(companyId, Collections.unmodifiableMap(moved), committed, sequence);
+    }
+
+    /**
+     * 변경 순번을 제외한 집계 값이 같은지 비교합니다.
+     */
+    boolean hasSameTotals(CompanyContractSummary other) {
+        return counts.equals(other.counts) && committedAmount.compareTo(other.committedAmount) == 0;
+    }
+
+    private static boolean isCommitted(ContractStatus status) {
+        return status != ContractStatus.CANCELLED;
+    }
+}
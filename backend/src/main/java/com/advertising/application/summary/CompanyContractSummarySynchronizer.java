@@ -0,0 +1,143 @@
+package com.advertising.application.summary;
+
+import com.advertising.application.summary.CompanyContractSummaries.ReconcileResult;
+import com.advertising.common.event.PostCommitEntityListener;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.CompanyStatusTotals;
+import com.advertising.domain.repository.ContractRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 업체별 계약 집계 동기화
+ *
+ * <p>웹 서버가 요청을 받기 전에 DB 집계로 초기값을 만들고, 이후에는 바뀐 만큼만 반영합니다.
+ * 초기 집계 조회 중에 커밋된 변경은 모아 두었다가 초기값 위에 반영합니다.
+ * (변경이 증분이라 다시 반영하면 두 번 세어지므로 {@link com.advertising.common.event.SnapshotSynchronizer}를 쓰지 않습니다)
+ * <ul>
+ *   <li>계약 생성/수정(취소)/삭제: Hibernate 커밋 후 이벤트 (롤백된 변경은 반영하지 않음)</li>
+ *   <li>상태 전환 배치(JPQL 벌크 UPDATE, 이벤트 없음): 배치가 UPDATE 전에 집계한 대상을 커밋 후 반영
+ *       ({@link #onStatusesTransitioned})</li>
+ * </ul>
+ * 그 밖의 경로(직접 SQL 등)로 바뀐 값은 주기적인 재집계({@link #reconcile()})가 바로잡습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyContractSummarySynchronizer extends PostCommitEntityListener
+        implements SmartInitializingSingleton {
+
+    private final CompanyContractSummaries summaries;
+    private final ContractRepository contractRepository;
+    private final TaskScheduler taskScheduler;
+
+    /**
+     * 모든 싱글톤 빈이 만들어진 직후, 웹 서버가 요청을 받기 전에 초기 집계를 만듭니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+
+    /**
+     * 주기적으로 재집계합니다.
+     */
+    @Scheduled(cron = "${advertising.company-summary.reconcile-cron:0 30 * * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 전체 계약을 DB에서 다시 집계하여 어긋난 업체를 바로잡습니다.
+     * 복제 지연의 영향을 받지 않도록 트랜잭션 없이(primary에서) 조회합니다.
+     */
+    public ReconcileResult reconcile() {
+        summaries.bufferUntilLoaded();
+        long since = summaries.currentSequence();
+        ReconcileResult result = summaries.reconcile(contractRepository.summarizeByCompanyAndStatus(), since);
+        if (result.corrected() > 0) {
+            log.warn("업체별 계약 집계 불일치 수정: companies={}, corrected={}, skipped={}",
+                    result.companies(), result.corrected(), result.skipped());
+        } else {
+            log.info("업체별 계약 집계 재계산 완료: companies={}, skipped={}", result.companies(), result.skipped());
+        }
+        return result;
+    }
+
+    /**
+     * 상태 전환 배치가 바꾼 계약을 커밋 후 반영합니다.
+     * 배치가 UPDATE 전에 집계한 건수와 실제 변경 건수가 다르면(그 사이 다른 변경이 있었으면) 증분 대신 재집계합니다.
+     *
+     * @param moved   UPDATE 전에 집계한 전환 대상 (업체, 이전 상태별)
+     * @param to      전환 후 상태
+     * @param updated UPDATE가 변경한 행 수
+     */
+    public void onStatusesTransitioned(List<CompanyStatusTotals> moved, ContractStatus to, int updated) {
+        long expected = moved.stream().mapToLong(CompanyStatusTotals::count).sum();
+        Runnable apply = expected == updated
+                ? () -> moved.forEach(total ->
+                        summaries.move(total.companyId(), total.status(), to, total.count(), total.amount()))
+                : () -> {
+                    log.warn("상태 전환 집계 불일치, 재집계 예약: status={}, expected={}, updated={}", to, expected, updated);
+                    // 커밋 후 콜백에서는 끝난 트랜잭션의 리소스가 아직 묶여 있으므로 별도 스레드에서 조회
+                    taskScheduler.schedule(this::reconcile, Instant.now());
+                };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Contract contract) {
+            summaries.move(contract.getCompany().getId(), null, contract.getStatus(), 1, contract.getAmount());
+        }
+    }
+
+    /**
+     * 계약 금액과 업체는 생성 후 바뀌지 않으므로 상태 변경만 반영합니다.
+     */
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Contract contract) || event.getOldState() == null) {
+            return;
+        }
+        int statusIndex = event.getPersister().getEntityMetamodel().getPropertyIndex("status");
+        ContractStatus oldStatus = (ContractStatus) event.getOldState()[statusIndex];
+        summaries.move(contract.getCompany().getId(), oldStatus, contract.getStatus(), 1, contract.getAmount());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Contract contract) {
+            summaries.move(contract.getCompany().getId(), contract.getStatus(), null, 1, contract.getAmount());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Contract.class.equals(persister.getMappedClass());
+    }
+}
@@ -0,0 +1,22 @@
+package com.advertising.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * 시간 관련 설정
+ * 시간에 의존하는 컴포넌트가 테스트에서 시각을 고정할 수 있도록 Clock을 빈으로 제공합니다.
+ * Clock의 시간대는 영업일 시간대({@code advertising.business-zone})이며, 비어 있으면 JVM 기본 시간대를 사용합니다.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock(@Value("${advertising.business-zone:}") String businessZone) {
+        return businessZone.isBlank() ? Clock.systemDefaultZone() : Clock.system(ZoneId.of(businessZone));
+    }
+}
@@ -0,0 +1,95 @@
+package com.advertising.common.config;
+
+import com.advertising.common.datasource.ReadWriteRoutingDataSource;
+import com.advertising.common.datasource.ReplicaLagMonitor;
+import com.advertising.common.datasource.ReplicaWriteFence;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 데이터소스 분리 설정
+ *
+ * <p>{@code advertising.datasource.replica.enabled=true}이면 primary({@code spring.datasource.*})와
+ * 복제본({@code advertising.datasource.replica.*}) 두 커넥션 풀을 만들고,
+ * 애플리케이션이 사용하는 데이터소스를 {@link ReadWriteRoutingDataSource}로 바꿉니다.
+ * 스키마 마이그레이션(Flyway)은 항상 primary에서 실행합니다.
+ *
+ * <p>로컬 실행과 테스트에서는 복제본 URL이 primary와 같은 H2 데이터베이스를 가리키므로 동작은 같고 커넥션 풀만 나뉩니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "advertising.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("advertising.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${advertising.datasource.replica.url}") String url) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(properties.determineUsername())
+                .password(properties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            HikariDataSource primaryDataSource,
+            HikariDataSource replicaDataSource,
+            Clock clock,
+            TaskScheduler taskScheduler,
+            @Value("${advertising.datasource.replica.heartbeat-interval:1s}") Duration heartbeatInterval,
+            @Value("${advertising.datasource.replica.max-lag:3s}") Duration maxLag) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, clock, taskScheduler,
+                heartbeatInterval, maxLag);
+    }
+
+    /**
+     * 애플리케이션(JPA, JdbcTemplate)이 사용하는 데이터소스
+     * 트랜잭션의 읽기 전용 여부가 정해진 뒤 첫 SQL 시점에 대상을 고르도록 지연 커넥션으로 감쌉니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            HikariDataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    }
+
+    @Bean
+    public ReplicaWriteFence replicaWriteFence(ReplicaLagMonitor replicaLagMonitor) {
+        return new ReplicaWriteFence(replicaLagMonitor);
+    }
+}
@@ -0,0 +1,12 @@
+package com.advertising.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
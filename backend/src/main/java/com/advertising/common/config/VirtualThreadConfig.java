@@ -0,0 +1,47 @@
+package com.advertising.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드 설정
+ *
+ * <p>{@code virtual-threads} 프로파일({@code spring.threads.virtual.enabled=true})로 실행하면
+ * Tomcat 요청 처리, MVC 비동기 처리(내보내기 스트리밍), 스케줄러가 가상 스레드에서 실행됩니다.
+ * 가상 스레드는 Java 21 이상에서만 동작하며, 그보다 낮은 JVM에서는 경고를 남기고 플랫폼 스레드로 실행합니다.
+ *
+ * <p>가상 스레드 모드에서는 {@link VirtualThreadPinningMonitor}가 캐리어 스레드 고정(pinning)을 감지해 보고합니다.
+ */
+@Slf4j
+@Configuration
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${advertising.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportExecutionMode(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("요청 처리 스레드: 가상 스레드 (Java {})", Runtime.version().feature());
+        } else if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("가상 스레드 실행 모드는 Java 21 이상에서만 동작합니다. 현재 JVM({})에서는 플랫폼 스레드로 실행합니다.",
+                    Runtime.version());
+        }
+    }
+}
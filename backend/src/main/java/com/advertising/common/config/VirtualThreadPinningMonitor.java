@@ -0,0 +1,106 @@
+package com.advertising.common.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감지기
+ *
+ * <p>가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 블로킹되면 캐리어(플랫폼) 스레드를 놓지 못해
+ * 가상 스레드의 처리량 이점이 사라집니다. JFR의 {@code jdk.VirtualThreadPinned} 이벤트를 프로세스 안에서
+ * 스트리밍으로 받아 다음과 같이 보고합니다.
+ * <ul>
+ *   <li>지표: {@code advertising.virtual.pinned} (임계 시간 이상 고정된 횟수)</li>
+ *   <li>로그: 고정이 일어난 위치(가장 안쪽의 애플리케이션/라이브러리 프레임)별로 처음 한 번만 스택과 함께 경고</li>
+ * </ul>
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Counter pinnedCounter;
+    private final Duration threshold;
+
+    /** 이미 경고를 남긴 고정 위치 */
+    private final Set<String> reportedLocations = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder("advertising.virtual.pinned")
+                .description("임계 시간 이상 캐리어 스레드에 고정된 가상 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::report);
+        recording.startAsync();
+        stream = recording;
+        log.info("가상 스레드 고정 감지 시작: threshold={}ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    public long getPinnedCount() {
+        return (long) pinnedCounter.count();
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCounter.increment();
+
+        List<RecordedFrame> frames = framesOf(event.getStackTrace());
+        String location = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> !frame.getMethod().getType().getName().startsWith("java."))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElse("unknown");
+        if (reportedLocations.add(location)) {
+            log.warn("가상 스레드 고정 감지: {}ms at {}\n{}", event.getDuration().toMillis(), location,
+                    frames.stream()
+                            .limit(LOGGED_FRAMES)
+                            .map(frame -> "\tat " + describe(frame))
+                            .collect(Collectors.joining("\n")));
+        }
+    }
+
+    private static List<RecordedFrame> framesOf(RecordedStackTrace stackTrace) {
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -1,8 +1,13 @@
 package com.advertising.common.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.WebContentInterceptor;
+
+import java.time.Duration;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -15,4 +20,21 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+    
+    /**
+     * 엔드포인트별 Cache-Control 정책
+     * <ul>
+     *   <li>계약 상세: 상태가 바뀔 수 있으므로 매번 ETag로 재검증 (no-cache, private).
+     *       ETag가 있는 상세 조회에만 적용되도록 숫자 ID 경로로 한정합니다. (/contracts/search, /export 등 제외)</li>
+     *   <li>업체/상품 목록: 거의 바뀌지 않으므로 1분간 재사용 후 ETag로 재검증</li>
+     * </ul>
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        WebContentInterceptor interceptor = new WebContentInterceptor();
+        interceptor.addCacheMapping(CacheControl.noCache().cachePrivate(), "/contracts/{id:\\d+}");
+        interceptor.addCacheMapping(CacheControl.maxAge(Duration.ofMinutes(1)).mustRevalidate(),
+                "/companies", "/products");
+        registry.addInterceptor(interceptor);
+    }
 }
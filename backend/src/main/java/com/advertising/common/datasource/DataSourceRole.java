@@ -0,0 +1,11 @@
+package com.advertising.common.datasource;
+
+/**
+ * 라우팅 대상 데이터소스
+ */
+public enum DataSourceRole {
+    /** 쓰기와 일반 트랜잭션 */
+    PRIMARY,
+    /** 읽기 전용 트랜잭션 (복제본이 충분히 따라잡았을 때만) */
+    REPLICA
+}
@@ -0,0 +1,38 @@
+package com.advertising.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 라우팅 데이터소스
+ *
+ * <p>읽기 전용 트랜잭션({@code @Transactional(readOnly = true)})은 복제본으로, 그 외에는 primary로 커넥션을 가져옵니다.
+ * 복제본이 지연되고 있거나 방금 커밋된 쓰기를 아직 반영하지 못했으면 읽기 전용이라도 primary를 사용합니다.
+ * ({@link ReplicaLagMonitor#routeReadOnly()})
+ *
+ * <p>트랜잭션 매니저는 읽기 전용 여부를 설정하기 전에 커넥션을 요청하므로, 반드시
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸
+ * 첫 SQL을 실행하는 시점에 대상을 고르도록 해야 합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRole.PRIMARY;
+        }
+        return replicaLagMonitor.routeReadOnly();
+    }
+}
@@ -0,0 +1,176 @@
+package com.advertising.common.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 복제 지연 감시와 읽기 전용 트랜잭션 라우팅 판단
+ *
+ * <p>주기적으로 primary의 {@code replication_heartbeat}에 현재 시각을 기록하고, 복제본에 반영된 값을 읽어
+ * 복제본이 어느 시점까지 따라잡았는지 확인합니다. 읽기 전용 트랜잭션은 다음 조건을 모두 만족할 때만 복제본으로 보냅니다.
+ * <ul>
+ *   <li>지연: 복제본에 반영된 마지막 heartbeat가 {@code max-lag} 이내 (복제본 접속 실패, 감시 중단 시에도 primary)</li>
+ *   <li>read-your-writes: 마지막 쓰기 커밋({@link #markWritten()}) 이후에 기록된 heartbeat가 복제본에 반영됨.
+ *       계약 생성 직후의 상세/목록 조회가 방금 만든 계약을 놓치지 않도록, 쓰기 뒤 최대 heartbeat 주기 + 복제 지연 동안은 primary에서 읽습니다.</li>
+ * </ul>
+ * 요청을 보낸 클라이언트를 구분하지 않으므로 쓰기 직후에는 모든 읽기가 primary로 갑니다.
+ *
+ * <p>지표: {@code advertising.datasource.replica.lag}(초), {@code advertising.datasource.reads{target, reason}}
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle, MeterBinder {
+
+    static final String WRITE_HEARTBEAT = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+    static final String READ_HEARTBEAT = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Clock clock;
+    private final TaskScheduler taskScheduler;
+    private final Duration heartbeatInterval;
+    private final Duration maxLag;
+
+    /** 복제본에 반영된 마지막 heartbeat 시각 (확인 전이거나 복제본에 접속할 수 없으면 null) */
+    private volatile Instant replicatedUpTo;
+
+    /** 마지막으로 커밋된 쓰기 시각 */
+    private final AtomicReference<Instant> lastWriteAt = new AtomicReference<>(Instant.MIN);
+
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong laggingReads = new AtomicLong();
+    private final AtomicLong readYourWritesReads = new AtomicLong();
+
+    private volatile ScheduledFuture<?> heartbeat;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Clock clock, TaskScheduler taskScheduler,
+                             Duration heartbeatInterval, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.clock = clock;
+        this.taskScheduler = taskScheduler;
+        this.heartbeatInterval = heartbeatInterval;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * primary에 heartbeat를 기록하고 복제본에 반영된 heartbeat를 읽습니다.
+     */
+    public void beat() {
+        try {
+            primary.update(WRITE_HEARTBEAT, OffsetDateTime.ofInstant(clock.instant(), ZoneOffset.UTC));
+        } catch (DataAccessException e) {
+            log.warn("복제 heartbeat 기록 실패: {}", e.getMessage());
+        }
+        try {
+            OffsetDateTime replicated = replica.queryForObject(READ_HEARTBEAT, OffsetDateTime.class);
+            replicatedUpTo = replicated != null ? replicated.toInstant() : null;
+        } catch (DataAccessException e) {
+            if (replicatedUpTo != null) {
+                log.warn("복제본 heartbeat 조회 실패, 읽기를 primary로 보냅니다: {}", e.getMessage());
+            }
+            replicatedUpTo = null;
+        }
+    }
+
+    /**
+     * 쓰기가 커밋되었음을 기록합니다. 이후 heartbeat가 복제본에 반영될 때까지 읽기는 primary로 갑니다.
+     */
+    public void markWritten() {
+        Instant now = clock.instant();
+        lastWriteAt.accumulateAndGet(now, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션의 대상을 고릅니다.
+     */
+    public DataSourceRole routeReadOnly() {
+        Instant replicated = replicatedUpTo;
+        if (replicated == null || lagOf(replicated).compareTo(maxLag) > 0) {
+            laggingReads.incrementAndGet();
+            return DataSourceRole.PRIMARY;
+        }
+        if (!replicated.isAfter(lastWriteAt.get())) {
+            readYourWritesReads.incrementAndGet();
+            return DataSourceRole.PRIMARY;
+        }
+        replicaReads.incrementAndGet();
+        return DataSourceRole.REPLICA;
+    }
+
+    /**
+     * 현재 복제 지연 (복제본 상태를 알 수 없으면 null)
+     */
+    public Duration getLag() {
+        Instant replicated = replicatedUpTo;
+        return replicated != null ? lagOf(replicated) : null;
+    }
+
+    private Duration lagOf(Instant replicated) {
+        Duration lag = Duration.between(replicated, clock.instant());
+        return lag.isNegative() ? Duration.ZERO : lag;
+    }
+
+    @Override
+    public void start() {
+        heartbeat = taskScheduler.scheduleWithFixedDelay(this::beat, heartbeatInterval);
+        log.info("복제본 라우팅 시작: heartbeat={}ms, max-lag={}ms", heartbeatInterval.toMillis(), maxLag.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        ScheduledFuture<?> running = heartbeat;
+        heartbeat = null;
+        if (running != null) {
+            running.cancel(false);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return heartbeat != null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("advertising.datasource.replica.lag", this,
+                        monitor -> {
+                            Duration lag = monitor.getLag();
+                            return lag != null ? lag.toNanos() / 1e9 : Double.NaN;
+                        })
+                .description("복제본에 반영된 마지막 heartbeat 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("advertising.datasource.reads", replicaReads, AtomicLong::get)
+                .description("읽기 전용 트랜잭션 라우팅 수")
+                .tag("target", "replica")
+                .tag("reason", "replicated")
+                .register(registry);
+        FunctionCounter.builder("advertising.datasource.reads", laggingReads, AtomicLong::get)
+                .description("읽기 전용 트랜잭션 라우팅 수")
+                .tag("target", "primary")
+                .tag("reason", "replica_lag")
+                .register(registry);
+        FunctionCounter.builder("advertising.datasource.reads", readYourWritesReads, AtomicLong::get)
+                .description("읽기 전용 트랜잭션 라우팅 수")
+                .tag("target", "primary")
+                .tag("reason", "read_your_writes")
+                .register(registry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.advertising.common.datasource;
+
+import com.advertising.common.event.PostCommitEntityListener;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * 쓰기 커밋 감지 (read-your-writes)
+ *
+ * <p>엔티티 추가/수정/삭제가 커밋되면 {@link ReplicaLagMonitor}에 알려, 복제본이 그 쓰기를 반영할 때까지
+ * 읽기 전용 트랜잭션도 primary를 사용하게 합니다. 롤백된 변경은 무시합니다.
+ * (JPQL 벌크 연산은 이벤트가 발생하지 않으므로 대상이 아닙니다)
+ */
+@RequiredArgsConstructor
+public class ReplicaWriteFence extends PostCommitEntityListener {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        replicaLagMonitor.markWritten();
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        replicaLagMonitor.markWritten();
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        replicaLagMonitor.markWritten();
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+}
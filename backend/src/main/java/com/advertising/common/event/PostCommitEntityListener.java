@@ -0,0 +1,49 @@
+package com.advertising.common.event;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Hibernate 커밋 후 엔티티 이벤트 리스너
+ *
+ * <p>빈으로 만들어지면 커밋 후 추가/수정/삭제 리스너로 등록됩니다. 롤백된 변경은 전달되지 않으므로
+ * 하위 클래스는 {@link #requiresPostCommitHandling}으로 받을 엔티티를 고르고 커밋된 이벤트만 처리합니다.
+ * (JPQL 벌크 연산은 이벤트가 발생하지 않습니다)
+ */
+public abstract class PostCommitEntityListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    @Autowired
+    void registerListeners(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 커밋되지 않은 변경은 반영하지 않음
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 커밋되지 않은 변경은 반영하지 않음
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 커밋되지 않은 변경은 반영하지 않음
+    }
+}
@@ -0,0 +1,99 @@
+package com.advertising.common.event;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 전체 스냅샷으로 만들고 커밋 후 이벤트로 갱신하는 인메모리 구조의 동기화
+ *
+ * <p>모든 싱글톤 빈이 만들어진 직후, 웹 서버가 요청을 받기 전에 처음 만듭니다.
+ * 기간 중복, 하루 최대 계약 수처럼 이 구조에 기대는 검사가 빈 구조로 통과하지 않게 하기 위해서입니다.
+ *
+ * <p>다시 만드는 동안(조회부터 교체까지) 들어온 변경은 기존 구조에 바로 반영하는 동시에 모아 두었다가,
+ * 새 구조로 교체한 직후 같은 순서로 다시 반영합니다. 조회 이후에 커밋된 변경이 교체로 사라지지 않습니다.
+ * 하위 클래스는 이벤트로 받은 변경을 값으로 만든 뒤 {@link #dispatch}로 반영해야 합니다.
+ *
+ * @param <S> 조회한 스냅샷
+ */
+public abstract class SnapshotSynchronizer<S> extends PostCommitEntityListener implements SmartInitializingSingleton {
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /** 변경 반영은 읽기 잠금으로 동시에, 교체는 쓰기 잠금으로 변경 반영과 배타적으로 수행합니다. */
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    /** 다시 만드는 중에 들어온 변경 (다시 만드는 중이 아니면 null) */
+    private Queue<Runnable> pending;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * 스냅샷을 조회하여 다시 만듭니다. 동시에 여러 번 호출되면 차례로 수행합니다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            Queue<Runnable> buffered = new ConcurrentLinkedQueue<>();
+            setPending(buffered);
+            S snapshot;
+            try {
+                snapshot = load();
+            } catch (RuntimeException e) {
+                setPending(null);
+                throw e;
+            }
+
+            swapLock.writeLock().lock();
+            try {
+                install(snapshot);
+                buffered.forEach(Runnable::run);
+            } finally {
+                pending = null;
+                swapLock.writeLock().unlock();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 커밋된 변경을 반영합니다. 다시 만드는 중이면 교체 후 다시 반영하도록 모아 둡니다.
+     */
+    protected void dispatch(Runnable change) {
+        swapLock.readLock().lock();
+        try {
+            change.run();
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 스냅샷을 조회합니다. 잠금 없이 호출됩니다.
+     */
+    protected abstract S load();
+
+    /**
+     * 조회한 스냅샷으로 구조를 교체합니다. 변경 반영과 겹치지 않습니다.
+     */
+    protected abstract void install(S snapshot);
+
+    private void setPending(Queue<Runnable> queue) {
+        swapLock.writeLock().lock();
+        try {
+            pending = queue;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+}
@@ -17,6 +17,9 @@ public enum ErrorCode {
     /** 중복 요청 */
     DUPLICATE_REQUEST("DUPLICATE_REQUEST"),
     
+    /** 다른 요청에 이미 사용된 Idempotency-Key */
+    IDEMPOTENCY_KEY_CONFLICT("IDEMPOTENCY_KEY_CONFLICT"),
+    
     /** 잘못된 계약 기간 */
     INVALID_PERIOD("INVALID_PERIOD"),
     
@@ -29,12 +32,21 @@ public enum ErrorCode {
     /** 잘못된 계약 종료일 */
     INVALID_END_DATE("INVALID_END_DATE"),
     
+    /** 같은 업체, 상품으로 계약 기간이 겹침 */
+    OVERLAPPING_CONTRACT("OVERLAPPING_CONTRACT"),
+    
+    /** 계약 기간 중 상품의 하루 최대 계약 수를 초과 */
+    CAPACITY_EXCEEDED("CAPACITY_EXCEEDED"),
+    
     /** 입력값 검증 실패 */
     VALIDATION_ERROR("VALIDATION_ERROR"),
     
     /** 잘못된 요청 */
     BAD_REQUEST("BAD_REQUEST"),
     
+    /** 일괄 처리 중 다른 항목의 실패로 취소됨 */
+    BATCH_ABORTED("BATCH_ABORTED"),
+    
     /** 잘못된 상태 */
     INVALID_STATE("INVALID_STATE"),
     
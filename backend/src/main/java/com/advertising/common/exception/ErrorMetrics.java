@@ -0,0 +1,44 @@
+package com.advertising.common.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 에러 코드별 발생 건수 지표 ({@code advertising.errors{code=...}})
+ *
+ * <p>모든 {@link ErrorCode}의 카운터를 기동 시 0으로 등록해 두므로, 한 번도 발생하지 않은 코드도 수집 대상에 나타납니다.
+ * 에러 응답({@link GlobalExceptionHandler})과 일괄 생성의 항목별 실패가 함께 집계됩니다.
+ */
+@Component
+public class ErrorMetrics {
+
+    /** 에러 코드 문자열 -> 카운터 */
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    public ErrorMetrics(MeterRegistry meterRegistry) {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            counters.put(errorCode.getCode(), Counter.builder("advertising.errors")
+                    .description("에러 코드별 발생 건수")
+                    .tag("code", errorCode.getCode())
+                    .register(meterRegistry));
+        }
+    }
+
+    public void increment(ErrorCode errorCode) {
+        increment(errorCode.getCode());
+    }
+
+    /**
+     * @param code {@link ErrorCode#getCode()} 값 (알 수 없는 코드는 무시)
+     */
+    public void increment(String code) {
+        Counter counter = counters.get(code);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
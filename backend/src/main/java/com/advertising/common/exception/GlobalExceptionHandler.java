@@ -1,5 +1,6 @@
 package com.advertising.common.exception;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,8 +15,11 @@ import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
     
+    private final ErrorMetrics errorMetrics;
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException ex) {
         Map<String, Object> details = new HashMap<>();
@@ -24,6 +28,7 @@ public class GlobalExceptionHandler {
             String errorMessage = error.getDefaultMessage();
             details.put(fieldName, errorMessage);
         });
+        errorMetrics.increment(ErrorCode.VALIDATION_ERROR);
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .code(ErrorCode.VALIDATION_ERROR.getCode())
@@ -38,6 +43,7 @@ public class GlobalExceptionHandler {
     
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
+        errorMetrics.increment(ex.getErrorCode());
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .code(ex.getErrorCode())
                 .message(ex.getMessage())
@@ -50,6 +56,7 @@ public class GlobalExceptionHandler {
     
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        errorMetrics.increment(ErrorCode.BAD_REQUEST);
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .code(ErrorCode.BAD_REQUEST.getCode())
                 .message(ex.getMessage())
@@ -62,6 +69,7 @@ public class GlobalExceptionHandler {
     
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException ex) {
+        errorMetrics.increment(ErrorCode.INVALID_STATE);
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .code(ErrorCode.INVALID_STATE.getCode())
                 .message(ex.getMessage())
@@ -75,6 +83,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException ex) {
         log.error("Unexpected error occurred", ex);
+        errorMetrics.increment(ErrorCode.INTERNAL_ERROR);
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .code(ErrorCode.INTERNAL_ERROR.getCode())
@@ -0,0 +1,76 @@
+package com.advertising.common.time;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 영업일 시계
+ *
+ * <p>영업일(업무 기준 날짜)은 {@link Clock} 빈의 시간대({@code advertising.business-zone})로 고정해 판정하며,
+ * 오늘 영업일과 그날의 시작/끝 시각을 캐시해 둡니다. 자정 전까지는 현재 시각을 한 번 읽어 비교만 하므로,
+ * 목록의 행마다 상태를 판정해도 시간대 규칙 조회와 날짜 계산이 반복되지 않습니다.
+ * 자정이 지나면 처음 호출한 스레드가 다음 영업일로 넘깁니다. (여러 스레드가 동시에 넘겨도 같은 값)
+ *
+ * <p>시각은 주입된 Clock에서 읽으므로 테스트는 Clock을 옮겨 날짜 변경을 결정적으로 재현할 수 있습니다.
+ */
+@Component
+public class BusinessClock {
+
+    private final Clock clock;
+    private final ZoneId zone;
+    private volatile BusinessDay day;
+
+    public BusinessClock(Clock clock) {
+        this.clock = clock;
+        this.zone = clock.getZone();
+        this.day = BusinessDay.containing(clock.instant(), zone);
+    }
+
+    /**
+     * 오늘 영업일
+     */
+    public LocalDate today() {
+        BusinessDay current = day;
+        long now = clock.millis();
+        if (!current.contains(now)) {
+            // 자정이 지났거나 (테스트에서) 시각이 뒤로 옮겨진 경우
+            current = BusinessDay.containing(Instant.ofEpochMilli(now), zone);
+            day = current;
+        }
+        return current.date();
+    }
+
+    /**
+     * 영업일 시간대 기준 현재 일시
+     */
+    public LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), zone);
+    }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * 영업일과 그날의 시작(포함)/끝(제외) 시각 (epoch millis)
+     * 일광 절약 시간이 있는 시간대에서도 하루의 길이를 가정하지 않고 시작 시각을 각각 계산합니다.
+     */
+    private record BusinessDay(LocalDate date, long startsAt, long endsAt) {
+
+        static BusinessDay containing(Instant instant, ZoneId zone) {
+            LocalDate date = LocalDate.ofInstant(instant, zone);
+            return new BusinessDay(date,
+                    date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                    date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        }
+
+        boolean contains(long epochMilli) {
+            return epochMilli >= startsAt && epochMilli < endsAt;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 /**
  * 광고 계약 엔티티
  * 도메인 모델로서 비즈니스 로직을 포함합니다.
+ * 테이블과 인덱스는 Flyway 마이그레이션(db/migration)에서 정의합니다.
  */
 @Entity
 @Table(name = "contract")
@@ -22,9 +23,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Contract {
-    /** 계약 ID */
+    /**
+     * 계약 ID
+     * IDENTITY 전략은 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼지므로,
+     * 시퀀스에서 50개씩 미리 받아 쓰는 pooled 방식으로 발급합니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contract_seq")
+    @SequenceGenerator(name = "contract_seq", sequenceName = "contract_seq", allocationSize = 50)
     private Long id;
     
     /** 계약 번호 (고유값) */
@@ -96,36 +102,33 @@ public class Contract {
     }
     
     /**
-     * 계약 시작일이 오늘 이후인지 확인합니다.
+     * 계약 시작일이 영업일 today 이후인지 확인합니다.
      */
-    public boolean isStartDateValid() {
-        return !startDate.isBefore(LocalDate.now());
+    public boolean isStartDateValid(LocalDate today) {
+        return !startDate.isBefore(today);
     }
     
     /**
-     * 계약 상태를 업데이트합니다.
-     * 현재 날짜를 기준으로 자동으로 상태를 결정합니다.
+     * 영업일 today 기준 상태를 판정합니다. 엔티티를 변경하지 않으므로 조회 응답에 사용합니다.
      */
-    public void updateStatus() {
-        LocalDate today = LocalDate.now();
-        if (status == ContractStatus.CANCELLED || status == ContractStatus.COMPLETED) {
-            return; // 취소되거나 종료된 계약은 상태 변경 불가
-        }
-        
-        if (startDate.isAfter(today)) {
-            this.status = ContractStatus.PENDING;
-        } else if (endDate.isBefore(today)) {
-            this.status = ContractStatus.COMPLETED;
-        } else {
-            this.status = ContractStatus.IN_PROGRESS;
-        }
+    public ContractStatus statusOn(LocalDate today) {
+        return ContractStatus.derive(status, startDate, endDate, today);
+    }
+    
+    /**
+     * 영업일 today 기준으로 상태를 갱신합니다. (저장 전 초기 상태 결정용)
+     * 취소되거나 종료된 계약은 상태를 바꾸지 않습니다.
+     */
+    public void updateStatus(LocalDate today) {
+        this.status = statusOn(today);
     }
     
     /**
      * 계약을 취소합니다.
+     * 저장된 상태가 아직 바뀌지 않았더라도 영업일 today 기준으로 종료된 계약은 취소할 수 없습니다.
      */
-    public void cancel() {
-        if (status == ContractStatus.COMPLETED) {
+    public void cancel(LocalDate today) {
+        if (statusOn(today) == ContractStatus.COMPLETED) {
             throw new IllegalStateException("이미 종료된 계약은 취소할 수 없습니다.");
         }
         this.status = ContractStatus.CANCELLED;
@@ -0,0 +1,52 @@
+package com.advertising.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계약 번호 시퀀스 엔티티
+ * 영업일별로 지금까지 예약된 계약 번호의 최댓값(high-water mark)을 보관합니다.
+ */
+@Entity
+@Table(name = "contract_number_sequence")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractNumberSequence {
+    /** 영업일 */
+    @Id
+    @Column(name = "business_date")
+    private LocalDate businessDate;
+    
+    /** 지금까지 예약된 마지막 번호 */
+    @Column(name = "last_value", nullable = false)
+    private Long lastValue;
+    
+    /** 수정 일시 */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 번호 블록을 예약합니다.
+     *
+     * @return 예약된 블록의 첫 번호
+     */
+    public long reserve(int blockSize) {
+        long first = lastValue + 1;
+        lastValue = lastValue + blockSize;
+        return first;
+    }
+}
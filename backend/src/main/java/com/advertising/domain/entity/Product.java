@@ -5,11 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "product")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.product")
 @Getter
 @Builder
 @NoArgsConstructor
@@ -28,6 +32,10 @@ public class Product {
     @Column(columnDefinition = "TEXT")
     private String description;
     
+    /** 하루 최대 동시 계약 수 (null이면 제한 없음) */
+    @Column(name = "daily_capacity")
+    private Integer dailyCapacity;
+    
     /** 생성 일시 */
     @Column(name = "created_at")
     private LocalDateTime createdAt;
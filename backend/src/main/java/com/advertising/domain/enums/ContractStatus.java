@@ -1,5 +1,7 @@
 package com.advertising.domain.enums;
 
+import java.time.LocalDate;
+
 public enum ContractStatus {
     PENDING("집행전"),
     IN_PROGRESS("진행중"),
@@ -15,4 +17,24 @@ public enum ContractStatus {
     public String getDescription() {
         return description;
     }
+    
+    /**
+     * 저장된 상태와 계약 기간으로 영업일 today 기준 상태를 판정합니다. (부수 효과 없음)
+     * 취소, 광고종료는 그대로 두고, 나머지는 기간으로 집행전/진행중/광고종료를 정합니다.
+     * 상태 일괄 전환 배치와 목록 상태 필터({@code ContractStatusCondition})도 같은 규칙을 따르므로,
+     * 자정 배치가 돌기 전에도 응답의 상태와 필터 결과가 일치합니다.
+     */
+    public static ContractStatus derive(ContractStatus stored, LocalDate startDate, LocalDate endDate,
+                                        LocalDate today) {
+        if (stored == CANCELLED || stored == COMPLETED) {
+            return stored;
+        }
+        if (startDate.isAfter(today)) {
+            return PENDING;
+        }
+        if (endDate.isBefore(today)) {
+            return COMPLETED;
+        }
+        return IN_PROGRESS;
+    }
 }
@@ -2,15 +2,21 @@ package com.advertising.domain.repository;
 
 import com.advertising.domain.entity.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, Long> {
     
-    @Query("SELECT c FROM Company c WHERE c.name LIKE %:keyword%")
-    List<Company> findByNameContaining(@Param("keyword") String keyword);
+    /**
+     * 전체 업체를 type의 생성자 인자에 해당하는 컬럼만 조회합니다. (DTO 프로젝션, 엔티티로 관리되지 않음)
+     */
+    <T> List<T> findAllBy(Class<T> type);
+    
+    /**
+     * 업체 한 건을 type의 생성자 인자에 해당하는 컬럼만 조회합니다. (DTO 프로젝션, 엔티티로 관리되지 않음)
+     */
+    <T> Optional<T> findProjectedById(Long id, Class<T> type);
 }
@@ -0,0 +1,16 @@
+package com.advertising.domain.repository;
+
+import com.advertising.domain.enums.ContractStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * 업체, 상태별 계약 집계 결과
+ */
+public record CompanyStatusTotals(
+        Long companyId,
+        ContractStatus status,
+        long count,
+        BigDecimal amount
+) {
+}
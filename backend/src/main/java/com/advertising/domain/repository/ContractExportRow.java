@@ -0,0 +1,29 @@
+package com.advertising.domain.repository;
+
+import com.advertising.domain.enums.ContractStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계약 내보내기용 조회 결과
+ * 엔티티가 아닌 값 객체로 조회하므로 영속성 컨텍스트에 쌓이지 않습니다.
+ */
+public record ContractExportRow(
+        Long id,
+        String contractNumber,
+        Long companyId,
+        String companyNumber,
+        String companyName,
+        String companyType,
+        Long productId,
+        String productName,
+        String productDescription,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal amount,
+        ContractStatus status,
+        LocalDateTime createdAt
+) {
+}
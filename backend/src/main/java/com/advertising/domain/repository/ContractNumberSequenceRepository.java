@@ -0,0 +1,20 @@
+package com.advertising.domain.repository;
+
+import com.advertising.domain.entity.ContractNumberSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface ContractNumberSequenceRepository extends JpaRepository<ContractNumberSequence, LocalDate> {
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ContractNumberSequence s WHERE s.businessDate = :businessDate")
+    Optional<ContractNumberSequence> findForUpdate(@Param("businessDate") LocalDate businessDate);
+}
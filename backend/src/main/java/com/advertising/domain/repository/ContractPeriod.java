@@ -0,0 +1,22 @@
+package com.advertising.domain.repository;
+
+import com.advertising.domain.entity.Contract;
+
+import java.time.LocalDate;
+
+/**
+ * 계약 기간 (기간 인덱스 적재용 조회 결과)
+ */
+public record ContractPeriod(
+        Long id,
+        Long companyId,
+        Long productId,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+    
+    public static ContractPeriod of(Contract contract) {
+        return new ContractPeriod(contract.getId(), contract.getCompany().getId(), contract.getProduct().getId(),
+                contract.getStartDate(), contract.getEndDate());
+    }
+}
@@ -1,30 +1,154 @@
 package com.advertising.domain.repository;
 
 import com.advertising.domain.entity.Contract;
-import com.advertising.domain.enums.ContractStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ContractRepository extends JpaRepository<Contract, Long> {
+public interface ContractRepository extends JpaRepository<Contract, Long>, ContractRepositoryCustom {
     
-    @Query("SELECT c FROM Contract c WHERE " +
-           "(:companyName IS NULL OR c.company.name LIKE %:companyName%) AND " +
-           "(:statuses IS NULL OR c.status IN :statuses) AND " +
+    /**
+     * 상태 필터를 영업일 기준 날짜 조건으로 바꾼 조건식입니다. ({@link ContractStatusCondition} 참고)
+     * 내보내기처럼 전체를 훑는 쿼리에서만 사용하며, 목록 조회는 {@link ContractRepositoryImpl}이 필요한 조건만으로 쿼리를 만듭니다.
+     */
+    String STATUS_PREDICATE = "(:#{#status.filtered()} = false OR " +
+            "(:#{#status.pending()} = true " +
+            " AND c.status = com.advertising.domain.enums.ContractStatus.PENDING " +
+            " AND c.startDate > :#{#status.today()}) OR " +
+            "(:#{#status.inProgress()} = true " +
+            " AND c.status IN (com.advertising.domain.enums.ContractStatus.PENDING, " +
+            "com.advertising.domain.enums.ContractStatus.IN_PROGRESS) " +
+            " AND c.startDate <= :#{#status.today()} AND c.endDate >= :#{#status.today()}) OR " +
+            "(:#{#status.completed()} = true " +
+            " AND c.status IN (com.advertising.domain.enums.ContractStatus.PENDING, " +
+            "com.advertising.domain.enums.ContractStatus.IN_PROGRESS, " +
+            "com.advertising.domain.enums.ContractStatus.COMPLETED) " +
+            " AND c.endDate < :#{#status.today()}) OR " +
+            "(:#{#status.cancelled()} = true " +
+            " AND c.status = com.advertising.domain.enums.ContractStatus.CANCELLED))";
+    
+    /**
+     * 조건에 맞는 계약을 ID 순서로 스트리밍 조회합니다. (내보내기용)
+     * 결과는 전방향 커서로 fetch size 단위씩 읽히며, 값 객체로 조회하므로 행 수와 무관하게 메모리 사용량이 일정합니다.
+     * 반환된 Stream은 트랜잭션 안에서 소비하고 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.advertising.domain.repository.ContractExportRow(" +
+           "c.id, c.contractNumber, co.id, co.companyNumber, co.name, co.type, p.id, p.name, p.description, " +
+           "c.startDate, c.endDate, c.amount, c.status, c.createdAt) " +
+           "FROM Contract c " +
+           "JOIN c.company co " +
+           "JOIN c.product p " +
+           "WHERE " +
+           "(:companyName IS NULL OR co.name LIKE %:companyName%) AND " +
+           STATUS_PREDICATE + " AND " +
            "(:startDate IS NULL OR c.endDate >= :startDate) AND " +
-           "(:endDate IS NULL OR c.startDate <= :endDate)")
-    Page<Contract> findByConditions(
+           "(:endDate IS NULL OR c.startDate <= :endDate) " +
+           "ORDER BY c.id")
+    Stream<ContractExportRow> streamForExport(
             @Param("companyName") String companyName,
-            @Param("statuses") List<ContractStatus> statuses,
+            @Param("status") ContractStatusCondition status,
             @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            Pageable pageable
+            @Param("endDate") LocalDate endDate
     );
+    
+    /**
+     * 계약을 업체, 상품과 함께 조회합니다. (취소처럼 엔티티를 변경하는 경우용, 응답 조회는 {@link #findRowById})
+     */
+    @EntityGraph(attributePaths = {"company", "product"})
+    Optional<Contract> findWithCompanyAndProductById(Long id);
+    
+    /**
+     * 취소되지 않은 전체 계약의 기간을 조회합니다. (계약 기간 인덱스 적재용)
+     */
+    @Query("SELECT new com.advertising.domain.repository.ContractPeriod(" +
+           "c.id, c.company.id, c.product.id, c.startDate, c.endDate) " +
+           "FROM Contract c " +
+           "WHERE c.status <> com.advertising.domain.enums.ContractStatus.CANCELLED")
+    List<ContractPeriod> findAllNonCancelledPeriods();
+    
+    /**
+     * 전체 계약의 검색 항목을 조회합니다. (계약 검색 인덱스 적재용)
+     */
+    @Query("SELECT new com.advertising.domain.repository.ContractSearchEntry(" +
+           "c.id, c.contractNumber, c.company.id, c.product.id, c.startDate, c.endDate, c.status) " +
+           "FROM Contract c")
+    List<ContractSearchEntry> findAllSearchEntries();
+    
+    /**
+     * 시작일이 도래한 집행전 계약을 진행중으로 일괄 변경합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Contract c SET c.status = com.advertising.domain.enums.ContractStatus.IN_PROGRESS, " +
+           "c.updatedAt = :now " +
+           "WHERE c.status = com.advertising.domain.enums.ContractStatus.PENDING " +
+           "AND c.startDate <= :today AND c.endDate >= :today")
+    int startContracts(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
+    
+    /**
+     * 종료일이 지난 집행전/진행중 계약을 광고종료로 일괄 변경합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Contract c SET c.status = com.advertising.domain.enums.ContractStatus.COMPLETED, " +
+           "c.updatedAt = :now " +
+           "WHERE c.status IN (com.advertising.domain.enums.ContractStatus.PENDING, " +
+           "com.advertising.domain.enums.ContractStatus.IN_PROGRESS) " +
+           "AND c.endDate < :today")
+    int completeContracts(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
+    
+    /**
+     * 전체 계약을 업체, 상태별로 집계합니다. (업체별 집계 재계산용)
+     */
+    @Query("SELECT new com.advertising.domain.repository.CompanyStatusTotals(" +
+           "c.company.id, c.status, COUNT(c), SUM(c.amount)) " +
+           "FROM Contract c " +
+           "GROUP BY c.company.id, c.status")
+    List<CompanyStatusTotals> summarizeByCompanyAndStatus();
+    
+    /**
+     * {@link #startContracts}가 바꿀 계약을 업체, 상태별로 집계합니다. 같은 트랜잭션에서 UPDATE 전에 호출해야 합니다.
+     */
+    @Query("SELECT new com.advertising.domain.repository.CompanyStatusTotals(" +
+           "c.company.id, c.status, COUNT(c), SUM(c.amount)) " +
+           "FROM Contract c " +
+           "WHERE c.status = com.advertising.domain.enums.ContractStatus.PENDING " +
+           "AND c.startDate <= :today AND c.endDate >= :today " +
+           "GROUP BY c.company.id, c.status")
+    List<CompanyStatusTotals> summarizeStartable(@Param("today") LocalDate today);
+    
+    /**
+     * {@link #completeContracts}가 바꿀 계약을 업체, 상태별로 집계합니다. 같은 트랜잭션에서 UPDATE 전에 호출해야 합니다.
+     */
+    @Query("SELECT new com.advertising.domain.repository.CompanyStatusTotals(" +
+           "c.company.id, c.status, COUNT(c), SUM(c.amount)) " +
+           "FROM Contract c " +
+           "WHERE c.status IN (com.advertising.domain.enums.ContractStatus.PENDING, " +
+           "com.advertising.domain.enums.ContractStatus.IN_PROGRESS) " +
+           "AND c.endDate < :today " +
+           "GROUP BY c.company.id, c.status")
+    List<CompanyStatusTotals> summarizeCompletable(@Param("today") LocalDate today);
+    
+    /**
+     * 접두어로 시작하는 계약 번호 중 가장 큰 일련번호
+     * 일련번호는 9999를 넘으면 자릿수가 늘어나므로 문자열이 아닌 숫자로 비교합니다.
+     */
+    @Query("SELECT MAX(CAST(SUBSTRING(c.contractNumber, LENGTH(:prefix) + 1) AS Long)) FROM Contract c " +
+           "WHERE c.contractNumber LIKE CONCAT(:prefix, '%')")
+    Optional<Long> findMaxSerialStartingWith(@Param("prefix") String prefix);
 }
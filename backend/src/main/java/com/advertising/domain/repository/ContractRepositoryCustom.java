@@ -0,0 +1,56 @@
+package com.advertising.domain.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 필터 조합에 따라 조건식이 달라지는 계약 목록 조회와 응답용 계약 조회
+ *
+ * <p>필터가 없을 때 {@code (:param IS NULL OR ...)} 형태로 조건을 무력화하면 DB가 어떤 인덱스로도 범위를 좁힐 수 없으므로,
+ * 실제로 주어진 필터만 조건식에 넣어 쿼리를 만듭니다. ({@link ContractRepositoryImpl})
+ *
+ * <p>목록과 건수는 트랜잭션 없이 동시 조회 분기에서 호출되므로, 각 호출이 읽기 전용 트랜잭션으로 실행되어 복제본에서 읽도록 합니다.
+ */
+@Transactional(readOnly = true)
+public interface ContractRepositoryCustom {
+
+    /**
+     * 계약 한 건의 응답용 컬럼을 업체, 상품과 함께 한 번의 쿼리로 조회합니다. (상세 조회용)
+     */
+    Optional<ContractRow> findRowById(Long id);
+
+    /**
+     * 계약 여러 건의 응답용 컬럼을 업체, 상품과 함께 한 번의 쿼리로 조회합니다. (기간 인덱스 조회 결과 변환용, 순서 무관)
+     */
+    List<ContractRow> findRowsByIdIn(Collection<Long> ids);
+
+    /**
+     * 조건에 맞는 계약 목록 한 페이지를 업체, 상품과 함께 한 번의 쿼리로 조회합니다.
+     * 엔티티 대신 응답에 필요한 컬럼만 {@link ContractRow}로 조회합니다.
+     * 전체 건수는 {@link #countByConditions}로 따로 계산하므로 두 쿼리를 동시에 실행할 수 있습니다.
+     */
+    List<ContractRow> findByConditions(String companyName, ContractStatusCondition status,
+                                       LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    /**
+     * 조건에 맞는 계약의 전체 건수를 fetch join 없이 계산합니다.
+     * 업체명 필터가 없으면 업체 조인도 하지 않습니다.
+     */
+    long countByConditions(String companyName, ContractStatusCondition status,
+                           LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 조건에 맞는 계약 목록을 커서(시작일, 종료일, ID) 이후부터 조회합니다. (keyset pagination)
+     * OFFSET 없이 정렬 인덱스에서 커서 위치부터 읽으므로 깊은 페이지도 첫 페이지와 비용이 같고 count 쿼리도 없습니다.
+     * 커서 값이 모두 null이면 첫 페이지를 조회합니다.
+     */
+    List<ContractRow> findByConditionsAfter(String companyName, ContractStatusCondition status,
+                                            LocalDate startDate, LocalDate endDate,
+                                            LocalDate cursorStartDate, LocalDate cursorEndDate, Long cursorId,
+                                            Pageable pageable);
+}
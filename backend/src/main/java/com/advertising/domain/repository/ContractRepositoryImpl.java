@@ -0,0 +1,197 @@
+package com.advertising.domain.repository;
+
+import com.advertising.domain.enums.ContractStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ContractRepositoryCustom} 구현
+ *
+ * <p>주어진 필터만 조건식에 넣으므로 각 조건이 인덱스 범위 조회로 처리됩니다.
+ * <ul>
+ *   <li>기간: {@code idx_contract_period_keyset} (시작일 범위)</li>
+ *   <li>상태: {@code idx_contract_status_period} (status + 시작일 범위, {@link ContractStatusCondition} 참고)</li>
+ *   <li>정렬과 커서: {@code idx_contract_period_keyset} 순서대로 읽고 LIMIT에서 멈춤</li>
+ * </ul>
+ * 실행 계획은 {@code QueryPlanTest}에서 검증합니다.
+ *
+ * <p>응답용 조회는 엔티티 대신 {@link ContractRow}로 필요한 컬럼만 읽습니다. 문자열 {@code @Query} 메서드는 이 버전의
+ * Spring Data JPA에서 호출마다 JPQL을 다시 파싱하므로, 자주 호출되는 조회는 여기서 {@link EntityManager}로 실행합니다.
+ */
+class ContractRepositoryImpl implements ContractRepositoryCustom {
+
+    /**
+     * 업체, 상품 외래 키는 NOT NULL이므로 LEFT JOIN도 결과가 같습니다.
+     * 내부 조인이면 옵티마이저가 행 수가 적은 상품 테이블부터 읽고 계약을 모두 모아 정렬하는 계획을 고를 수 있어,
+     * 외부 조인으로 계약 테이블이 먼저 읽히도록(정렬 인덱스 순서대로 읽고 LIMIT에서 멈추도록) 고정합니다.
+     */
+    private static final String CONTRACT_ROW_SELECT = "SELECT new com.advertising.domain.repository.ContractRow(" +
+            "c.id, c.contractNumber, c.startDate, c.endDate, c.amount, c.status, c.createdAt, c.updatedAt, " +
+            "co.id, co.companyNumber, co.name, co.type, co.updatedAt, " +
+            "p.id, p.name, p.description, p.updatedAt) " +
+            "FROM Contract c " +
+            "LEFT JOIN c.company co " +
+            "LEFT JOIN c.product p";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<ContractRow> findRowById(Long id) {
+        return entityManager.createQuery(CONTRACT_ROW_SELECT + " WHERE c.id = :id", ContractRow.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public List<ContractRow> findRowsByIdIn(Collection<Long> ids) {
+        return entityManager.createQuery(CONTRACT_ROW_SELECT + " WHERE c.id IN :ids", ContractRow.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    @Override
+    public List<ContractRow> findByConditions(String companyName, ContractStatusCondition status,
+                                              LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        Conditions conditions = new Conditions(companyName, status, startDate, endDate);
+        TypedQuery<ContractRow> query = entityManager.createQuery(
+                CONTRACT_ROW_SELECT + conditions.where() + orderBy(pageable.getSort()),
+                ContractRow.class);
+        conditions.bind(query);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public long countByConditions(String companyName, ContractStatusCondition status,
+                                  LocalDate startDate, LocalDate endDate) {
+        Conditions conditions = new Conditions(companyName, status, startDate, endDate);
+        String join = companyName != null ? " JOIN c.company co" : "";
+        TypedQuery<Long> query = entityManager.createQuery(
+                "SELECT COUNT(c) FROM Contract c" + join + conditions.where(), Long.class);
+        conditions.bind(query);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public List<ContractRow> findByConditionsAfter(String companyName, ContractStatusCondition status,
+                                                   LocalDate startDate, LocalDate endDate,
+                                                   LocalDate cursorStartDate, LocalDate cursorEndDate, Long cursorId,
+                                                   Pageable pageable) {
+        Conditions conditions = new Conditions(companyName, status, startDate, endDate);
+        if (cursorId != null) {
+            // 앞의 시작일 조건이 인덱스에서 커서 위치를 찾고, 나머지가 같은 시작일 안에서 위치를 맞춤
+            conditions.add("c.startDate <= :cursorStartDate AND (c.startDate < :cursorStartDate OR " +
+                    "(c.startDate = :cursorStartDate AND c.endDate < :cursorEndDate) OR " +
+                    "(c.startDate = :cursorStartDate AND c.endDate = :cursorEndDate AND c.id < :cursorId))");
+            conditions.bind("cursorStartDate", cursorStartDate);
+            conditions.bind("cursorEndDate", cursorEndDate);
+            conditions.bind("cursorId", cursorId);
+        }
+        TypedQuery<ContractRow> query = entityManager.createQuery(
+                CONTRACT_ROW_SELECT + conditions.where()
+                        + " ORDER BY c.startDate DESC, c.endDate DESC, c.id DESC",
+                ContractRow.class);
+        conditions.bind(query);
+        query.setMaxResults(pageable.getPageSize());
+        return query.getResultList();
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        return sort.stream()
+                .map(order -> "c." + order.getProperty() + (order.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    /**
+     * 주어진 필터만 모은 조건식과 파라미터
+     */
+    private static final class Conditions {
+
+        private final List<String> predicates = new ArrayList<>();
+        private final Map<String, Object> parameters = new HashMap<>();
+
+        Conditions(String companyName, ContractStatusCondition status, LocalDate startDate, LocalDate endDate) {
+            if (companyName != null) {
+                add("co.name LIKE :companyName");
+                bind("companyName", "%" + companyName + "%");
+            }
+            if (status != null && status.filtered()) {
+                add(statusPredicate(status));
+                bind("today", status.today());
+            }
+            if (startDate != null) {
+                add("c.endDate >= :startDate");
+                bind("startDate", startDate);
+            }
+            if (endDate != null) {
+                add("c.startDate <= :endDate");
+                bind("endDate", endDate);
+            }
+        }
+
+        /**
+         * 선택된 상태마다 (저장된 status 후보, 영업일 기준 기간) 조건을 만들어 OR로 묶습니다.
+         * 상태를 하나만 고르면 OR 없이 status 범위 + 시작일 범위 조건 하나가 됩니다.
+         */
+        private static String statusPredicate(ContractStatusCondition status) {
+            List<String> branches = new ArrayList<>();
+            if (status.pending()) {
+                branches.add("(c.status = " + literal(ContractStatus.PENDING) + " AND c.startDate > :today)");
+            }
+            if (status.inProgress()) {
+                branches.add("(c.status IN (" + literal(ContractStatus.PENDING) + ", "
+                        + literal(ContractStatus.IN_PROGRESS) + ") "
+                        + "AND c.startDate <= :today AND c.endDate >= :today)");
+            }
+            if (status.completed()) {
+                branches.add("(c.status IN (" + literal(ContractStatus.PENDING) + ", "
+                        + literal(ContractStatus.IN_PROGRESS) + ", " + literal(ContractStatus.COMPLETED) + ") "
+                        + "AND c.endDate < :today)");
+            }
+            if (status.cancelled()) {
+                branches.add("(c.status = " + literal(ContractStatus.CANCELLED) + ")");
+            }
+            return branches.isEmpty() ? "1 = 0" : "(" + String.join(" OR ", branches) + ")";
+        }
+
+        private static String literal(ContractStatus status) {
+            return "com.advertising.domain.enums.ContractStatus." + status.name();
+        }
+
+        void add(String predicate) {
+            predicates.add(predicate);
+        }
+
+        void bind(String name, Object value) {
+            parameters.put(name, value);
+        }
+
+        String where() {
+            return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+        }
+
+        void bind(TypedQuery<?> query) {
+            parameters.forEach(query::setParameter);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.advertising.domain.repository;
+
+import com.advertising.domain.enums.ContractStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계약 응답용 조회 결과 (계약 + 업체 + 상품)
+ * 응답과 버전(ETag)에 필요한 컬럼만 한 번의 조인 쿼리로 조회합니다.
+ * 엔티티가 아닌 값 객체이므로 영속성 컨텍스트에 올라가지 않고 스냅샷 보관이나 dirty checking 대상도 아닙니다.
+ */
+public record ContractRow(
+        Long id,
+        String contractNumber,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal amount,
+        ContractStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long companyId,
+        String companyNumber,
+        String companyName,
+        String companyType,
+        LocalDateTime companyUpdatedAt,
+        Long productId,
+        String productName,
+        String productDescription,
+        LocalDateTime productUpdatedAt
+) {
+}
@@ -0,0 +1,26 @@
+package com.advertising.domain.repository;
+
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.enums.ContractStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 계약 검색 항목 (검색 인덱스 적재용 조회 결과)
+ */
+public record ContractSearchEntry(
+        Long id,
+        String contractNumber,
+        Long companyId,
+        Long productId,
+        LocalDate startDate,
+        LocalDate endDate,
+        ContractStatus status
+) {
+    
+    public static ContractSearchEntry of(Contract contract) {
+        return new ContractSearchEntry(contract.getId(), contract.getContractNumber(),
+                contract.getCompany().getId(), contract.getProduct().getId(),
+                contract.getStartDate(), contract.getEndDate(), contract.getStatus());
+    }
+}
@@ -0,0 +1,49 @@
+package com.advertising.domain.repository;
+
+import com.advertising.domain.enums.ContractStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 계약 상태 필터 조건
+ *
+ * <p>상태 필터를 저장된 status 값이 아니라 영업일 기준 날짜 조건으로 판정합니다.
+ * <ul>
+ *   <li>집행전: 취소되지 않았고 시작일 &gt; 영업일</li>
+ *   <li>진행중: 취소되지 않았고 시작일 &lt;= 영업일 &lt;= 종료일</li>
+ *   <li>광고종료: 취소되지 않았고 종료일 &lt; 영업일</li>
+ *   <li>광고취소: status = CANCELLED</li>
+ * </ul>
+ *
+ * <p>상태 전환은 집행전 → 진행중 → 광고종료 방향으로만 일어나므로, 각 조건은 저장된 status가 가질 수 있는 값으로
+ * 좁혀서 (status, start_date, end_date) 복합 인덱스의 범위 조회로 처리됩니다.
+ * 전환 배치가 아직 돌지 않은 계약도 날짜 기준으로 올바른 상태에 포함되므로 목록과 건수가 항상 일치합니다.
+ */
+public record ContractStatusCondition(
+        boolean filtered,
+        boolean pending,
+        boolean inProgress,
+        boolean completed,
+        boolean cancelled,
+        LocalDate today
+) {
+
+    /**
+     * @param statuses 조회할 상태 목록 (null 또는 비어 있으면 상태 필터 없음)
+     * @param today    상태 판정 기준 영업일
+     */
+    public static ContractStatusCondition of(Collection<ContractStatus> statuses, LocalDate today) {
+        if (statuses == null || statuses.isEmpty()) {
+            return new ContractStatusCondition(false, false, false, false, false, today);
+        }
+        return new ContractStatusCondition(
+                true,
+                statuses.contains(ContractStatus.PENDING),
+                statuses.contains(ContractStatus.IN_PROGRESS),
+                statuses.contains(ContractStatus.COMPLETED),
+                statuses.contains(ContractStatus.CANCELLED),
+                today
+        );
+    }
+}
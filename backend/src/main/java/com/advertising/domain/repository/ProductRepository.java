@@ -4,6 +4,19 @@ import com.advertising.domain.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+    
+    /**
+     * 전체 상품을 type의 생성자 인자에 해당하는 컬럼만 조회합니다. (DTO 프로젝션, 엔티티로 관리되지 않음)
+     */
+    <T> List<T> findAllBy(Class<T> type);
+    
+    /**
+     * 상품 한 건을 type의 생성자 인자에 해당하는 컬럼만 조회합니다. (DTO 프로젝션, 엔티티로 관리되지 않음)
+     */
+    <T> Optional<T> findProjectedById(Long id, Class<T> type);
 }
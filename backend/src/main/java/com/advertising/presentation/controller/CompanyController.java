@@ -1,10 +1,13 @@
 package com.advertising.presentation.controller;
 
 import com.advertising.application.dto.CompanyResponse;
+import com.advertising.application.dto.CompanySummaryResponse;
+import com.advertising.application.dto.Versioned;
 import com.advertising.application.service.CompanyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,10 +18,17 @@ public class CompanyController {
     
     private final CompanyService companyService;
     
+    /**
+     * 전체 업체 목록 조회
+     * If-None-Match가 현재 ETag와 같으면 본문 없이 304를 응답합니다.
+     */
     @GetMapping
-    public ResponseEntity<List<CompanyResponse>> getAllCompanies() {
-        List<CompanyResponse> companies = companyService.getAllCompanies();
-        return ResponseEntity.ok(companies);
+    public ResponseEntity<List<CompanyResponse>> getAllCompanies(WebRequest webRequest) {
+        Versioned<List<CompanyResponse>> companies = companyService.getVersionedCompanies();
+        if (webRequest.checkNotModified(companies.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok(companies.body().get());
     }
     
     @GetMapping("/search")
@@ -32,4 +42,13 @@ public class CompanyController {
         CompanyResponse company = companyService.getCompanyById(id);
         return ResponseEntity.ok(company);
     }
+    
+    /**
+     * 업체별 계약 집계 조회
+     */
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<CompanySummaryResponse> getCompanySummary(@PathVariable Long id) {
+        CompanySummaryResponse summary = companyService.getCompanySummary(id);
+        return ResponseEntity.ok(summary);
+    }
 }
@@ -1,12 +1,19 @@
 package com.advertising.presentation.controller;
 
 import com.advertising.application.dto.*;
+import com.advertising.application.export.ContractExporter;
+import com.advertising.application.export.ExportFormat;
 import com.advertising.application.service.ContractService;
 import com.advertising.domain.enums.ContractStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Arrays;
 import java.util.List;
@@ -18,19 +25,77 @@ import java.util.stream.Collectors;
 public class ContractController {
     
     private final ContractService contractService;
+    private final ContractExporter contractExporter;
     
     @PostMapping
-    public ResponseEntity<ContractResponse> createContract(@Valid @RequestBody ContractRequest request) {
-        ContractResponse contract = contractService.createContract(request);
+    public ResponseEntity<ContractResponse> createContract(
+            @Valid @RequestBody ContractRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        ContractResponse contract = contractService.createContract(request, idempotencyKey);
         return ResponseEntity.ok(contract);
     }
     
+    /**
+     * 계약 일괄 생성
+     * 항목별 결과를 요청 순서대로 돌려주며, allOrNothing이면 한 건이라도 실패할 경우 아무것도 생성하지 않습니다.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ContractBatchResponse> createContracts(@Valid @RequestBody ContractBatchRequest request) {
+        ContractBatchResponse response = contractService.createContracts(request);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 계약 상세 조회
+     * If-None-Match가 현재 ETag와 같으면 본문 없이 304를 응답합니다.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<ContractResponse> getContractById(@PathVariable Long id) {
-        ContractResponse contract = contractService.getContractById(id);
+    public ResponseEntity<ContractResponse> getContractById(@PathVariable Long id, WebRequest webRequest) {
+        Versioned<ContractResponse> contract = contractService.getVersionedContract(id);
+        if (webRequest.checkNotModified(contract.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok(contract.body().get());
+    }
+    
+    /**
+     * 계약 취소
+     * 이미 종료된 계약이면 400(INVALID_STATE)을 응답합니다.
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<ContractResponse> cancelContract(@PathVariable Long id) {
+        ContractResponse contract = contractService.cancelContract(id);
         return ResponseEntity.ok(contract);
     }
     
+    /**
+     * 상품의 특정 날짜 집행 계약 조회
+     * date가 없으면 오늘 기준입니다. (취소 제외, 광고종료 포함)
+     */
+    @GetMapping("/live")
+    public ResponseEntity<List<ContractResponse>> getLiveContracts(
+            @RequestParam Long productId,
+            @RequestParam(required = false) String date) {
+        List<ContractResponse> contracts = contractService.getLiveContracts(productId,
+                date != null ? java.time.LocalDate.parse(date) : null);
+        return ResponseEntity.ok(contracts);
+    }
+    
+    /**
+     * 같은 업체, 상품으로 기간이 겹치는 계약 조회
+     * 계약 생성 전에 기간 중복(OVERLAPPING_CONTRACT) 여부를 미리 확인할 때 사용합니다.
+     */
+    @GetMapping("/overlaps")
+    public ResponseEntity<List<ContractResponse>> getOverlappingContracts(
+            @RequestParam Long companyId,
+            @RequestParam Long productId,
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        List<ContractResponse> contracts = contractService.getOverlappingContracts(companyId, productId,
+                java.time.LocalDate.parse(startDate), java.time.LocalDate.parse(endDate));
+        return ResponseEntity.ok(contracts);
+    }
+    
     @GetMapping
     public ResponseEntity<PageResponse<ContractResponse>> getContracts(
             @RequestParam(required = false) String companyName,
@@ -40,17 +105,9 @@ public class ContractController {
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "5") Integer size) {
         
-        List<ContractStatus> statusList = null;
-        if (statuses != null && !statuses.isEmpty()) {
-            statusList = Arrays.stream(statuses.split(","))
-                    .map(String::trim)
-                    .map(ContractStatus::valueOf)
-                    .collect(Collectors.toList());
-        }
-        
         ContractListRequest request = ContractListRequest.builder()
                 .companyName(companyName)
-                .statuses(statusList)
+                .statuses(parseStatuses(statuses))
                 .startDate(startDate != null ? java.time.LocalDate.parse(startDate) : null)
                 .endDate(endDate != null ? java.time.LocalDate.parse(endDate) : null)
                 .page(page)
@@ -60,4 +117,97 @@ public class ContractController {
         PageResponse<ContractResponse> contracts = contractService.getContracts(request);
         return ResponseEntity.ok(contracts);
     }
+    
+    /**
+     * 계약 검색
+     * 계약번호, 업체명, 업체번호, 상품명을 한 번에 검색하여 일치도 순으로 응답합니다. 목록 조회와 같은 필터를 함께 쓸 수 있습니다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<ContractResponse>> searchContracts(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String statuses,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "5") Integer size) {
+        
+        ContractListRequest request = ContractListRequest.builder()
+                .keyword(keyword)
+                .statuses(parseStatuses(statuses))
+                .startDate(startDate != null ? java.time.LocalDate.parse(startDate) : null)
+                .endDate(endDate != null ? java.time.LocalDate.parse(endDate) : null)
+                .page(page)
+                .size(size)
+                .build();
+        
+        PageResponse<ContractResponse> contracts = contractService.searchContracts(request);
+        return ResponseEntity.ok(contracts);
+    }
+    
+    /**
+     * 커서 기반 계약 목록 조회
+     * cursor 파라미터가 있으면 이 모드로 처리합니다. 첫 페이지는 빈 값(cursor=)으로 요청하고,
+     * 이후에는 응답의 nextCursor를 그대로 전달합니다.
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<ContractResponse>> getContractsByCursor(
+            @RequestParam(required = false) String companyName,
+            @RequestParam(required = false) String statuses,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "5") Integer size) {
+        
+        ContractListRequest request = ContractListRequest.builder()
+                .companyName(companyName)
+                .statuses(parseStatuses(statuses))
+                .startDate(startDate != null ? java.time.LocalDate.parse(startDate) : null)
+                .endDate(endDate != null ? java.time.LocalDate.parse(endDate) : null)
+                .cursor(cursor)
+                .size(size)
+                .build();
+        
+        CursorPageResponse<ContractResponse> contracts = contractService.getContractsByCursor(request);
+        return ResponseEntity.ok(contracts);
+    }
+    
+    /**
+     * 계약 내보내기 (CSV / NDJSON)
+     * 목록 조회와 같은 필터를 사용하며, 결과를 DB 커서에서 읽는 즉시 응답으로 흘려보냅니다.
+     * 형식 오류 등 요청 검증은 스트리밍을 시작하기 전에 처리합니다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportContracts(
+            @RequestParam(required = false) String companyName,
+            @RequestParam(required = false) String statuses,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false, defaultValue = "csv") String format) {
+        
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ContractListRequest request = ContractListRequest.builder()
+                .companyName(companyName)
+                .statuses(parseStatuses(statuses))
+                .startDate(startDate != null ? java.time.LocalDate.parse(startDate) : null)
+                .endDate(endDate != null ? java.time.LocalDate.parse(endDate) : null)
+                .build();
+        
+        String filename = contractExporter.filenameOf(exportFormat);
+        StreamingResponseBody body = outputStream -> contractExporter.export(request, exportFormat, outputStream);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+    
+    private List<ContractStatus> parseStatuses(String statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return null;
+        }
+        return Arrays.stream(statuses.split(","))
+                .map(String::trim)
+                .map(ContractStatus::valueOf)
+                .collect(Collectors.toList());
+    }
 }
@@ -1,10 +1,13 @@
 package com.advertising.presentation.controller;
 
+import com.advertising.application.dto.ProductAvailabilityResponse;
 import com.advertising.application.dto.ProductResponse;
+import com.advertising.application.dto.Versioned;
 import com.advertising.application.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,10 +18,17 @@ public class ProductController {
     
     private final ProductService productService;
     
+    /**
+     * 전체 상품 목록 조회
+     * If-None-Match가 현재 ETag와 같으면 본문 없이 304를 응답합니다.
+     */
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getAllProducts() {
-        List<ProductResponse> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<List<ProductResponse>> getAllProducts(WebRequest webRequest) {
+        Versioned<List<ProductResponse>> products = productService.getVersionedProducts();
+        if (webRequest.checkNotModified(products.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok(products.body().get());
     }
     
     @GetMapping("/{id}")
@@ -26,4 +36,18 @@ public class ProductController {
         ProductResponse product = productService.getProductById(id);
         return ResponseEntity.ok(product);
     }
+    
+    /**
+     * 상품의 날짜별 예약 현황 조회
+     * 날짜마다 예약된 계약 수와 하루 최대 계약 수까지 남은 자리를 돌려줍니다.
+     */
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<List<ProductAvailabilityResponse>> getAvailability(
+            @PathVariable Long id,
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        List<ProductAvailabilityResponse> availability = productService.getAvailability(id,
+                java.time.LocalDate.parse(startDate), java.time.LocalDate.parse(endDate));
+        return ResponseEntity.ok(availability);
+    }
 }
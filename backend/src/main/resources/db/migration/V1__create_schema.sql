@@ -0,0 +1,47 @@
+-- 기본 스키마
+-- 엔티티 매핑(Company, Product, Contract, ContractNumberSequence)과 일치해야 합니다. (ddl-auto: validate로 기동 시 검증)
+
+CREATE TABLE company (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    company_number VARCHAR(255) NOT NULL,
+    name           VARCHAR(255) NOT NULL,
+    type           VARCHAR(255) NOT NULL,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT uk_company_number UNIQUE (company_number)
+);
+
+CREATE TABLE product (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description TEXT,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+-- 계약 ID는 50개 단위로 미리 받아 INSERT를 JDBC 배치로 보냄 (Contract의 allocationSize와 같아야 함)
+CREATE SEQUENCE contract_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE contract (
+    id              BIGINT PRIMARY KEY,
+    contract_number VARCHAR(255) NOT NULL,
+    company_id      BIGINT NOT NULL,
+    product_id      BIGINT NOT NULL,
+    start_date      DATE NOT NULL,
+    end_date        DATE NOT NULL,
+    amount          NUMERIC(38, 2) NOT NULL,
+    status          VARCHAR(255) NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT uk_contract_number UNIQUE (contract_number),
+    CONSTRAINT ck_contract_status CHECK (status IN ('PENDING', 'IN_PROGRESS', 'CANCELLED', 'COMPLETED')),
+    CONSTRAINT fk_contract_company FOREIGN KEY (company_id) REFERENCES company (id),
+    CONSTRAINT fk_contract_product FOREIGN KEY (product_id) REFERENCES product (id)
+);
+
+-- 영업일별 계약 번호 블록 예약 (ContractNumberBlockReserver)
+CREATE TABLE contract_number_sequence (
+    business_date DATE PRIMARY KEY,
+    last_value    BIGINT NOT NULL,
+    updated_at    TIMESTAMP(6)
+);
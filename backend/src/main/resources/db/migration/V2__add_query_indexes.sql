@@ -0,0 +1,17 @@
+-- ContractRepository, CompanyRepository 조회 패턴별 인덱스
+-- 실행 계획은 QueryPlanTest에서 EXPLAIN으로 검증합니다.
+
+-- 목록 정렬(시작일, 종료일 내림차순)과 커서 페이지네이션(keyset)
+CREATE INDEX idx_contract_period_keyset ON contract (start_date DESC, end_date DESC, id DESC);
+
+-- 상태 필터(영업일 기준 날짜 조건)와 상태 전환 배치: status 범위 안에서 기간으로 좁힘
+CREATE INDEX idx_contract_status_period ON contract (status, start_date, end_date);
+
+-- 업체명 필터(업체 → 계약 조인)와 업체별 조회, 외래 키 검사
+CREATE INDEX idx_contract_company_period ON contract (company_id, start_date, end_date);
+
+-- 상품별 조회와 외래 키 검사
+CREATE INDEX idx_contract_product_period ON contract (product_id, start_date, end_date);
+
+-- 업체명 정렬/접두어 검색 (부분 일치 검색은 인메모리 CompanySearchIndex가 처리)
+CREATE INDEX idx_company_name ON company (name);
@@ -0,0 +1,9 @@
+-- 복제 지연 측정용 heartbeat (ReplicaLagMonitor)
+-- primary에 주기적으로 현재 시각을 기록하고, 복제본에 반영된 값과 비교해 지연을 계산합니다.
+CREATE TABLE replication_heartbeat (
+    id      INTEGER NOT NULL,
+    beat_at TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_replication_heartbeat PRIMARY KEY (id)
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP);
@@ -0,0 +1,5 @@
+-- 상품별 하루 최대 동시 계약 수 (ProductCapacityLedger)
+-- NULL이면 제한 없음. 취소되지 않은 계약이 계약 기간의 하루하루마다 한 자리씩 차지합니다.
+ALTER TABLE product ADD COLUMN daily_capacity INTEGER;
+
+ALTER TABLE product ADD CONSTRAINT ck_product_daily_capacity CHECK (daily_capacity IS NULL OR daily_capacity > 0);
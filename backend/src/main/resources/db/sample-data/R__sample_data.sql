@@ -1,9 +1,12 @@
+-- 로컬 실행용 샘플 데이터 (반복 실행 마이그레이션, 테스트/벤치마크에서는 제외)
+-- 내용이 바뀌면 다시 실행되므로 MERGE로 작성합니다.
+
 -- 초기 광고 상품 데이터
-INSERT INTO product (id, name, description, created_at, updated_at) VALUES
-(1, '노출 보장형 광고', '특정 기간 동안 광고 노출을 보장하는 상품입니다.', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+MERGE INTO product (id, name, description, daily_capacity, created_at, updated_at) KEY (id) VALUES
+(1, '노출 보장형 광고', '특정 기간 동안 광고 노출을 보장하는 상품입니다.', 10, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- 초기 업체 데이터
-INSERT INTO company (id, company_number, name, type, created_at, updated_at) VALUES
+MERGE INTO company (id, company_number, name, type, created_at, updated_at) KEY (id) VALUES
 (1, '10001', '놀유니버스 그랜드 호텔', '호텔', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 (2, '10002', '놀유니버스 시티 호텔 강남', '호텔', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 (3, '10003', '놀유니버스 오션뷰 호텔', '호텔', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
@@ -0,0 +1,155 @@
+package com.advertising.application.booking;
+
+import com.advertising.application.booking.ProductCapacityLedger.Booking;
+import com.advertising.common.exception.BusinessException;
+import com.advertising.common.exception.ErrorCode;
+import com.advertising.domain.repository.ContractPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProductCapacityLedger 테스트")
+class ProductCapacityLedgerTest {
+    
+    private static final LocalDate BASE = LocalDate.of(2026, 3, 1);
+    
+    private ProductCapacityLedger ledger;
+    
+    @BeforeEach
+    void setUp() {
+        ledger = new ProductCapacityLedger();
+        ledger.rebuild(List.of(
+                period(1L, 10L, 0, 29),
+                period(2L, 10L, 20, 49)));
+    }
+    
+    @Test
+    @DisplayName("날짜별 예약 수 - 계약 기간의 하루하루마다 한 건씩")
+    void bookedOn() {
+        assertThat(ledger.bookedOn(10L, BASE)).isEqualTo(1);
+        assertThat(ledger.bookedOn(10L, BASE.plusDays(25))).isEqualTo(2);
+        assertThat(ledger.bookedOn(10L, BASE.plusDays(49))).isEqualTo(1);
+        assertThat(ledger.bookedOn(10L, BASE.plusDays(50))).isZero();
+        assertThat(ledger.bookedOn(99L, BASE)).isZero();
+        assertThat(ledger.size()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("예약 - 하루라도 자리가 없으면 CAPACITY_EXCEEDED, 아무 날짜도 예약하지 않음")
+    void book_CapacityExceeded() {
+        assertThatThrownBy(() -> ledger.book(10L, BASE.plusDays(10), BASE.plusDays(40), 2))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(BASE.plusDays(20).toString())
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.CAPACITY_EXCEEDED.getCode()));
+        assertThat(ledger.bookedOn(10L, BASE.plusDays(10))).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("예약과 해제 - 처리 중인 예약도 자리를 차지하고, 해제는 여러 번 해도 한 번만 반영")
+    void book_AndRelease() {
+        // given
+        Booking booking = ledger.book(10L, BASE.plusDays(30), BASE.plusDays(60), 2);
+        
+        // when & then
+        assertThat(ledger.bookedOn(10L, BASE.plusDays(40))).isEqualTo(2);
+        assertThatThrownBy(() -> ledger.book(10L, BASE.plusDays(45), BASE.plusDays(80), 2))
+                .isInstanceOf(BusinessException.class);
+        
+        ledger.release(booking);
+        ledger.release(booking);
+        assertThat(ledger.bookedOn(10L, BASE.plusDays(40))).isEqualTo(1);
+        assertThat(ledger.book(10L, BASE.plusDays(45), BASE.plusDays(80), 2)).isNotNull();
+    }
+    
+    @Test
+    @DisplayName("제한 없는 상품 - 항상 예약하고 예약 수만 기록")
+    void book_Unlimited() {
+        for (int i = 0; i < 5; i++) {
+            ledger.book(10L, BASE, BASE.plusDays(29), null);
+        }
+        
+        assertThat(ledger.bookedOn(10L, BASE)).isEqualTo(6);
+    }
+    
+    @Test
+    @DisplayName("취소, 기간 변경 - 이전 날짜의 자리를 돌려줌")
+    void putAndRemove() {
+        ledger.put(period(1L, 10L, 100, 129));
+        ledger.remove(2L);
+        ledger.remove(2L);
+        
+        assertThat(ledger.bookedOn(10L, BASE)).isZero();
+        assertThat(ledger.bookedOn(10L, BASE.plusDays(25))).isZero();
+        assertThat(ledger.bookedOn(10L, BASE.plusDays(100))).isEqualTo(1);
+        assertThat(ledger.size()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("재구성 - 처리 중인 예약은 유지")
+    void rebuild_KeepsBookings() {
+        // given
+        ledger.book(10L, BASE, BASE.plusDays(29), null);
+        
+        // when
+        ledger.rebuild(List.of(period(3L, 10L, 0, 9)));
+        
+        // then
+        assertThat(ledger.bookedOn(10L, BASE)).isEqualTo(2);
+        assertThat(ledger.bookedOn(10L, BASE.plusDays(20))).isEqualTo(1);
+        assertThat(ledger.size()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("동시 예약 - 상품마다 하루 최대 계약 수만큼만 성공")
+    void book_Concurrently() throws Exception {
+        // given: 상품 8개에 각각 20건씩, 하루 최대 3건
+        int products = 8;
+        int requestsPerProduct = 20;
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < products * requestsPerProduct; i++) {
+            long productId = 100L + i % products;
+            int offset = i / products;
+            tasks.add(() -> {
+                try {
+                    ledger.book(productId, BASE.plusDays(offset), BASE.plusDays(offset + 28), 3);
+                    return true;
+                } catch (BusinessException e) {
+                    return false;
+                }
+            });
+        }
+        
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        int succeeded = 0;
+        try {
+            for (Future<Boolean> future : executor.invokeAll(tasks, 1, TimeUnit.MINUTES)) {
+                succeeded += future.get() ? 1 : 0;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        // then: 모든 기간이 BASE+19 ~ BASE+28에서 겹치므로 상품마다 3건
+        assertThat(succeeded).isEqualTo(products * 3);
+        for (int i = 0; i < products; i++) {
+            assertThat(ledger.bookedOn(100L + i, BASE.plusDays(28))).isEqualTo(3);
+        }
+    }
+    
+    private ContractPeriod period(Long id, Long productId, int startOffset, int endOffset) {
+        return new ContractPeriod(id, 1L, productId, BASE.plusDays(startOffset), BASE.plusDays(endOffset));
+    }
+}
@@ -0,0 +1,87 @@
+package com.advertising.application.cache;
+
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("기준 데이터 캐시 무효화 테스트")
+class ReferenceDataCacheInvalidatorTest {
+    
+    @Autowired
+    private CompanyCache companyCache;
+    
+    @Autowired
+    private ProductCache productCache;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @AfterEach
+    void tearDown() {
+        companyRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+    
+    @Test
+    @DisplayName("업체가 추가/삭제되어 커밋되면 캐시에 반영")
+    void company_InvalidatedOnCommit() {
+        // given
+        Company first = companyRepository.save(company("81001", "캐시 호텔"));
+        assertThat(companyCache.findAll()).extracting(CachedCompany::id).contains(first.getId());
+        
+        // when
+        Company second = companyRepository.save(company("81002", "캐시 리조트"));
+        companyRepository.delete(first);
+        
+        // then
+        assertThat(companyCache.findAll()).extracting(CachedCompany::id)
+                .contains(second.getId())
+                .doesNotContain(first.getId());
+        assertThat(companyCache.findById(first.getId())).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("롤백된 변경은 캐시에 영향을 주지 않음")
+    void product_NotInvalidatedOnRollback() {
+        // given
+        productRepository.save(Product.builder().name("노출 보장형 광고").description("설명").build());
+        productCache.findAll();
+        long missesBefore = productCache.stats().misses();
+        
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            productRepository.save(Product.builder().name("롤백 상품").description("설명").build());
+            status.setRollbackOnly();
+        });
+        
+        // then
+        assertThat(productCache.findAll()).extracting(CachedProduct::name).containsExactly("노출 보장형 광고");
+        assertThat(productCache.stats().misses()).isEqualTo(missesBefore);
+    }
+    
+    private Company company(String companyNumber, String name) {
+        return Company.builder()
+                .companyNumber(companyNumber)
+                .name(name)
+                .type("호텔")
+                .build();
+    }
+}
@@ -0,0 +1,226 @@
+package com.advertising.application.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReferenceDataCache 테스트")
+class ReferenceDataCacheTest {
+
+    private Map<Long, String> store;
+    private TestCache cache;
+
+    @BeforeEach
+    void setUp() {
+        store = new ConcurrentHashMap<>(Map.of(1L, "A", 2L, "B", 3L, "C"));
+        cache = new TestCache(store, 2);
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 두 번째 조회는 캐시 적중")
+    void findById_HitsAfterFirstLoad() {
+        cache.findById(1L);
+        cache.findById(1L);
+
+        assertThat(cache.loads.get()).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.stats().hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 없는 ID는 캐시하지 않아 등록 직후 바로 조회됨")
+    void findById_DoesNotCacheMissingId() {
+        assertThat(cache.findById(9L)).isEmpty();
+
+        store.put(9L, "Z");
+
+        assertThat(cache.findById(9L)).contains("Z");
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 먼저 들어온 항목부터 제거")
+    void findById_EvictsOldestWhenFull() {
+        cache.findById(1L);
+        cache.findById(2L);
+        cache.findById(3L);
+
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+
+        cache.findById(1L);
+        assertThat(cache.loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("전체 목록 - 불변 스냅샷을 공유하고 무효화되면 다시 조회")
+    void findAll_ReturnsSharedImmutableSnapshot() {
+        List<String> first = cache.findAll();
+        List<String> second = cache.findAll();
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.add("D")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(cache.loadAlls.get()).isEqualTo(1);
+
+        store.put(2L, "B2");
+        cache.invalidate(2L);
+
+        assertThat(cache.findAll()).contains("B2");
+        assertThat(cache.findById(2L)).contains("B2");
+        assertThat(cache.loadAlls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷 버전 - 항목이 수정되거나 삭제되면 버전이 바뀜")
+    void snapshot_VersionChangesWithContent() {
+        String initial = cache.snapshot().version();
+        assertThat(cache.snapshot().version()).isEqualTo(initial);
+
+        store.put(2L, "B2");
+        cache.invalidate(2L);
+        String updated = cache.snapshot().version();
+
+        store.remove(3L);
+        cache.invalidate(3L);
+        String deleted = cache.snapshot().version();
+
+        assertThat(updated).isNotEqualTo(initial);
+        assertThat(deleted).isNotEqualTo(updated);
+    }
+
+    @Test
+    @DisplayName("무효화 - 조회 도중 무효화되면 읽어온 값을 캐시에 넣지 않음")
+    void invalidate_DiscardsLoadStartedBefore() {
+        cache.onLoad = () -> {
+            store.put(1L, "A2");
+            cache.invalidate(1L);
+        };
+
+        assertThat(cache.findById(1L)).contains("A");
+
+        cache.onLoad = () -> { };
+        assertThat(cache.findById(1L)).contains("A2");
+    }
+
+    @Test
+    @DisplayName("무효화 - 조회와 무효화가 동시에 반복되어도 마지막 무효화 이후에는 최신 값만 남음")
+    void invalidate_ConcurrentWithLoads() throws Exception {
+        // 값이 바뀌는 도중에도 ID를 알 수 있도록 값에 ID를 넣음 (예: "1:A0")
+        Map<Long, String> rows = new ConcurrentHashMap<>(Map.of(1L, "1:A"));
+        TestCache racing = new TestCache(rows, 10) {
+            @Override
+            protected Long idOf(String value) {
+                return Long.valueOf(value.substring(0, value.indexOf(':')));
+            }
+        };
+        int rounds = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                racing.invalidateAll();
+                String latest = "1:A" + round;
+                CyclicBarrier start = new CyclicBarrier(3);
+                Future<?> byId = executor.submit(() -> {
+                    await(start);
+                    racing.findById(1L);
+                });
+                Future<?> all = executor.submit(() -> {
+                    await(start);
+                    racing.snapshot();
+                });
+                Future<?> writer = executor.submit(() -> {
+                    await(start);
+                    rows.put(1L, latest);
+                    racing.invalidate(1L);
+                });
+                writer.get(5, TimeUnit.SECONDS);
+                byId.get(5, TimeUnit.SECONDS);
+                all.get(5, TimeUnit.SECONDS);
+
+                assertThat(racing.findById(1L)).as("round %d", round).contains(latest);
+                assertThat(racing.findAll()).as("round %d", round).contains(latest);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("전체 무효화 - 모든 항목과 스냅샷 제거")
+    void invalidateAll_ClearsEverything() {
+        cache.findAll();
+
+        cache.invalidateAll();
+
+        assertThat(cache.stats().size()).isZero();
+        cache.findAll();
+        assertThat(cache.loadAlls.get()).isEqualTo(2);
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 저장소 대신 Map을 사용하는 테스트용 캐시
+     */
+    private static class TestCache extends ReferenceDataCache<String> {
+        private final Map<Long, String> store;
+        private final AtomicInteger loads = new AtomicInteger();
+        private final AtomicInteger loadAlls = new AtomicInteger();
+        private Runnable onLoad = () -> { };
+
+        TestCache(Map<Long, String> store, int maxSize) {
+            super("test", maxSize);
+            this.store = store;
+        }
+
+        @Override
+        protected Optional<String> load(Long id) {
+            loads.incrementAndGet();
+            Optional<String> value = Optional.ofNullable(store.get(id));
+            onLoad.run();
+            return value;
+        }
+
+        @Override
+        protected List<String> loadAll() {
+            loadAlls.incrementAndGet();
+            return new ArrayList<>(store.values());
+        }
+
+        @Override
+        protected LocalDateTime updatedAtOf(String value) {
+            // 테스트에서는 값이 바뀌면 수정 일시도 바뀌도록 값 길이를 초 단위로 더함
+            return LocalDateTime.of(2026, 1, 25, 0, 0).plusSeconds(value.length());
+        }
+
+        @Override
+        protected Long idOf(String value) {
+            return store.entrySet().stream()
+                    .filter(entry -> entry.getValue().equals(value))
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+}
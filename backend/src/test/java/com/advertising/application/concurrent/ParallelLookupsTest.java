@@ -0,0 +1,155 @@
+package com.advertising.application.concurrent;
+
+import com.advertising.common.exception.BusinessException;
+import com.advertising.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ParallelLookups 테스트")
+class ParallelLookupsTest {
+
+    private ExecutorService executor;
+    private ParallelLookups lookups;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        lookups = new ParallelLookups(executor, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 조회 - 두 조회가 다른 스레드에서 함께 실행되고 결과는 선언 순서대로 반환")
+    void both_RunsConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Supplier<String> first = () -> {
+            awaitOther(bothStarted);
+            return "company";
+        };
+        Supplier<Long> second = () -> {
+            awaitOther(bothStarted);
+            return 11L;
+        };
+
+        ParallelLookups.Both<String, Long> result = lookups.both(first, second);
+
+        assertThat(result.first()).isEqualTo("company");
+        assertThat(result.second()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("동시 조회 - 한 분기가 실패하면 뒤쪽 분기를 취소하고 예외를 그대로 전달")
+    void all_CancelsOtherBranches_WhenOneFails() throws InterruptedException {
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch slowInterrupted = new CountDownLatch(1);
+        Supplier<String> failing = () -> {
+            awaitQuietly(slowStarted);
+            throw new BusinessException(ErrorCode.COMPANY_NOT_FOUND, "업체를 찾을 수 없습니다.");
+        };
+        Supplier<String> slow = () -> {
+            slowStarted.countDown();
+            try {
+                Thread.sleep(10_000);
+                return "too late";
+            } catch (InterruptedException e) {
+                slowInterrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+        };
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> lookups.all(List.of(failing, slow)))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.COMPANY_NOT_FOUND.getCode()));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+        assertThat(slowInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 조회 - 여러 분기가 실패하면 먼저 선언된 분기의 예외")
+    void all_ThrowsFirstDeclaredFailure() {
+        CountDownLatch productFailed = new CountDownLatch(1);
+        Supplier<String> company = () -> {
+            awaitQuietly(productFailed);
+            throw new BusinessException(ErrorCode.COMPANY_NOT_FOUND, "업체를 찾을 수 없습니다.");
+        };
+        Supplier<String> product = () -> {
+            productFailed.countDown();
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다.");
+        };
+
+        assertThatThrownBy(() -> lookups.both(company, product))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.COMPANY_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    @DisplayName("동시 조회 - 마감 시간을 넘기면 남은 분기를 취소하고 실패")
+    void all_FailsAfterDeadline() throws InterruptedException {
+        ParallelLookups shortDeadline = new ParallelLookups(executor, Duration.ofMillis(100));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Supplier<String> hanging = () -> {
+            try {
+                Thread.sleep(10_000);
+                return "too late";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+        };
+
+        assertThatThrownBy(() -> shortDeadline.all(List.of(() -> "fast", hanging)))
+                .isInstanceOf(ParallelLookupTimeoutException.class);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 조회 - 호출 스레드에 트랜잭션이 있으면 같은 스레드에서 순서대로 실행")
+    void all_RunsInCallerThread_WhenTransactionActive() {
+        Thread caller = Thread.currentThread();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            List<Thread> threads = lookups.all(List.of(Thread::currentThread, Thread::currentThread));
+
+            assertThat(threads).containsOnly(caller);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private static void awaitOther(CountDownLatch latch) {
+        latch.countDown();
+        awaitQuietly(latch);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("다른 분기가 시작되지 않았습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.advertising.application.idempotency;
+
+import com.advertising.application.dto.ContractRequest;
+import com.advertising.application.dto.ContractResponse;
+import com.advertising.common.exception.BusinessException;
+import com.advertising.common.exception.ErrorCode;
+import com.advertising.common.time.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ContractIdempotencyStore 테스트")
+class ContractIdempotencyStoreTest {
+
+    private MutableClock clock;
+    private ContractIdempotencyStore store;
+    private ContractFingerprint fingerprint;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-25T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        store = new ContractIdempotencyStore(clock, Duration.ofSeconds(5), Duration.ofMinutes(10), 3);
+        fingerprint = new ContractFingerprint(1L, 1L,
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1), new BigDecimal("100000"));
+    }
+
+    @Test
+    @DisplayName("지문 선점 - 5초 이내 동일 지문은 거절")
+    void tryClaim_RejectsWithinWindow() {
+        assertThat(store.tryClaim(fingerprint)).isPresent();
+
+        clock.advance(Duration.ofMillis(4_999));
+
+        assertThat(store.tryClaim(fingerprint)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지문 선점 - 5초가 지나면 다시 허용되고 만료 버킷이 정리됨")
+    void tryClaim_AllowsAfterWindow() {
+        assertThat(store.tryClaim(fingerprint)).isPresent();
+
+        clock.advance(Duration.ofSeconds(7));
+        ContractFingerprint other = new ContractFingerprint(2L, 1L,
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1), new BigDecimal("100000"));
+        store.tryClaim(other);
+
+        assertThat(store.fingerprintCount()).isEqualTo(1);
+        assertThat(store.tryClaim(fingerprint)).isPresent();
+    }
+
+    @Test
+    @DisplayName("지문 생성 - 금액 스케일이 달라도 같은 요청으로 판정")
+    void fingerprint_NormalizesAmountScale() {
+        ContractRequest request = ContractRequest.builder()
+                .companyId(1L)
+                .productId(1L)
+                .startDate(LocalDate.of(2026, 2, 1))
+                .endDate(LocalDate.of(2026, 3, 1))
+                .amount(new BigDecimal("100000"))
+                .build();
+        ContractRequest scaled = ContractRequest.builder()
+                .companyId(1L)
+                .productId(1L)
+                .startDate(LocalDate.of(2026, 2, 1))
+                .endDate(LocalDate.of(2026, 3, 1))
+                .amount(new BigDecimal("100000.00"))
+                .build();
+
+        assertThat(store.tryClaim(ContractFingerprint.of(request))).isPresent();
+        assertThat(store.tryClaim(ContractFingerprint.of(scaled))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지문 선점 - 해제하면 즉시 재시도 가능")
+    void release_AllowsImmediateRetry() {
+        ContractIdempotencyStore.Claim claim = store.tryClaim(fingerprint).orElseThrow();
+
+        store.release(claim);
+
+        assertThat(store.tryClaim(fingerprint)).isPresent();
+    }
+
+    @Test
+    @DisplayName("지문 선점 - 구간이 지난 뒤 늦게 해제해도 다시 선점한 요청은 유지")
+    void release_KeepsNewerClaim() {
+        ContractIdempotencyStore.Claim stale = store.tryClaim(fingerprint).orElseThrow();
+        clock.advance(Duration.ofSeconds(6));
+        assertThat(store.tryClaim(fingerprint)).isPresent();
+
+        store.release(stale);
+
+        assertThat(store.tryClaim(fingerprint)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지문 선점 - 동시에 들어온 동일 요청 중 하나만 통과")
+    void tryClaim_OnlyOneWinsUnderContention() throws Exception {
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return store.tryClaim(fingerprint).isPresent();
+                }));
+            }
+            start.countDown();
+
+            int winners = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(5, TimeUnit.SECONDS)) {
+                    winners++;
+                }
+            }
+            assertThat(winners).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 완료된 키는 최초 응답을 재사용")
+    void begin_ReplaysCompletedResponse() {
+        ContractResponse response = ContractResponse.builder().id(1L).contractNumber("CNT-20260125-0001").build();
+
+        assertThat(store.begin("key-1", fingerprint)).isEmpty();
+        store.complete("key-1", response);
+
+        assertThat(store.begin("key-1", fingerprint)).containsSame(response);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 처리 중인 키는 중복 요청으로 거절")
+    void begin_RejectsInFlightKey() {
+        store.begin("key-1", fingerprint);
+
+        assertThatThrownBy(() -> store.begin("key-1", fingerprint))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.DUPLICATE_REQUEST.getCode()));
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 실패로 해제된 키는 다시 사용 가능")
+    void abandon_AllowsRetry() {
+        store.begin("key-1", fingerprint);
+
+        store.abandon("key-1");
+
+        assertThat(store.begin("key-1", fingerprint)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - TTL 경과 및 최대 개수 초과 시 오래된 키부터 정리")
+    void begin_EvictsExpiredAndOldestKeys() {
+        store.begin("key-1", fingerprint);
+        clock.advance(Duration.ofMinutes(11));
+
+        store.begin("key-2", fingerprint);
+        assertThat(store.keyCount()).isEqualTo(1);
+
+        store.begin("key-3", fingerprint);
+        store.begin("key-4", fingerprint);
+        store.begin("key-5", fingerprint);
+        assertThat(store.keyCount()).isEqualTo(3);
+        assertThat(store.begin("key-2", fingerprint)).isEmpty();
+    }
+}
@@ -0,0 +1,142 @@
+package com.advertising.application.period;
+
+import com.advertising.application.period.ContractPeriodIndex.Reservation;
+import com.advertising.common.exception.BusinessException;
+import com.advertising.common.exception.ErrorCode;
+import com.advertising.domain.repository.ContractPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ContractPeriodIndex 테스트")
+class ContractPeriodIndexTest {
+    
+    private static final LocalDate BASE = LocalDate.of(2026, 3, 1);
+    
+    private ContractPeriodIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new ContractPeriodIndex();
+        index.rebuild(List.of(
+                period(1L, 1L, 10L, 0, 29),
+                period(2L, 2L, 10L, 10, 39),
+                period(3L, 1L, 10L, 30, 59),
+                period(4L, 1L, 20L, 0, 29)));
+    }
+    
+    @Test
+    @DisplayName("특정 날짜 집행 계약 - 시작일, 종료일 당일 포함, 시작일 순")
+    void findLiveOn() {
+        assertThat(index.findLiveOn(10L, BASE)).containsExactly(1L);
+        assertThat(index.findLiveOn(10L, BASE.plusDays(29))).containsExactly(1L, 2L);
+        assertThat(index.findLiveOn(10L, BASE.plusDays(30))).containsExactly(2L, 3L);
+        assertThat(index.findLiveOn(10L, BASE.plusDays(60))).isEmpty();
+        assertThat(index.findLiveOn(99L, BASE)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("기간 중복 계약 - 같은 업체, 상품만 조회")
+    void findOverlapping() {
+        assertThat(index.findOverlapping(1L, 10L, BASE.plusDays(20), BASE.plusDays(35))).containsExactly(1L, 3L);
+        assertThat(index.findOverlapping(1L, 10L, BASE.plusDays(60), BASE.plusDays(90))).isEmpty();
+        assertThat(index.findOverlapping(2L, 20L, BASE, BASE.plusDays(90))).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("기간 선점 - 커밋된 계약과 겹치면 OVERLAPPING_CONTRACT")
+    void reserve_OverlappingContract() {
+        assertThatThrownBy(() -> index.reserve(1L, 10L, BASE.plusDays(59), BASE.plusDays(90)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("계약 ID: 3")
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.OVERLAPPING_CONTRACT.getCode()));
+    }
+    
+    @Test
+    @DisplayName("기간 선점 - 처리 중인 선점과 겹치면 거절, 해제 후에는 다시 선점 가능")
+    void reserve_ConflictsWithPendingReservation() {
+        // given
+        Reservation reservation = index.reserve(1L, 10L, BASE.plusDays(60), BASE.plusDays(90));
+        
+        // when & then
+        assertThatThrownBy(() -> index.reserve(1L, 10L, BASE.plusDays(80), BASE.plusDays(120)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("처리 중");
+        assertThat(index.findOverlapping(1L, 10L, BASE.plusDays(60), BASE.plusDays(90))).isEmpty();
+        assertThat(index.findLiveOn(10L, BASE.plusDays(70))).isEmpty();
+        
+        index.release(reservation);
+        index.release(reservation);
+        assertThat(index.reserve(1L, 10L, BASE.plusDays(80), BASE.plusDays(120))).isNotNull();
+    }
+    
+    @Test
+    @DisplayName("재구성 - 처리 중인 선점은 유지")
+    void rebuild_KeepsReservations() {
+        // given
+        index.reserve(1L, 10L, BASE.plusDays(60), BASE.plusDays(90));
+        
+        // when
+        index.rebuild(List.of(period(1L, 1L, 10L, 0, 29)));
+        
+        // then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findLiveOn(10L, BASE.plusDays(30))).isEmpty();
+        assertThatThrownBy(() -> index.reserve(1L, 10L, BASE.plusDays(90), BASE.plusDays(120)))
+                .isInstanceOf(BusinessException.class);
+    }
+    
+    @Test
+    @DisplayName("기간 변경과 제거 - 이전 기간은 인덱스에서 빠짐")
+    void put_ReplacesPreviousPeriod() {
+        index.put(period(1L, 1L, 10L, 100, 129));
+        index.remove(2L);
+        
+        assertThat(index.findLiveOn(10L, BASE)).isEmpty();
+        assertThat(index.findLiveOn(10L, BASE.plusDays(100))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("무작위 기간 - 전체 탐색 결과와 일치")
+    void findOverlapping_MatchesLinearScan() {
+        // given
+        Random random = new Random(42);
+        List<ContractPeriod> periods = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            int start = random.nextInt(3_000);
+            periods.add(period(id, 1L, 30L, start, start + 28 + random.nextInt(200)));
+        }
+        index.rebuild(periods);
+        for (int i = 0; i < 300; i++) {
+            index.remove(periods.remove(random.nextInt(periods.size())).id());
+        }
+        
+        // when & then
+        for (int i = 0; i < 200; i++) {
+            LocalDate from = BASE.plusDays(random.nextInt(3_300));
+            LocalDate to = from.plusDays(random.nextInt(60));
+            List<Long> expected = periods.stream()
+                    .filter(p -> !p.startDate().isAfter(to) && !p.endDate().isBefore(from))
+                    .map(ContractPeriod::id)
+                    .toList();
+            assertThat(index.findOverlapping(1L, 30L, from, to)).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(index.findLiveOn(30L, from)).containsExactlyInAnyOrderElementsOf(periods.stream()
+                    .filter(p -> !p.startDate().isAfter(from) && !p.endDate().isBefore(from))
+                    .map(ContractPeriod::id)
+                    .toList());
+        }
+    }
+    
+    private ContractPeriod period(Long id, Long companyId, Long productId, int startOffset, int endOffset) {
+        return new ContractPeriod(id, companyId, productId, BASE.plusDays(startOffset), BASE.plusDays(endOffset));
+    }
+}
@@ -0,0 +1,138 @@
+package com.advertising.application.scheduler;
+
+import com.advertising.application.scheduler.ContractStatusTransitionJob.TransitionResult;
+import com.advertising.application.summary.CompanyContractSummaries;
+import com.advertising.application.summary.CompanyContractSummary;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ContractStatusTransitionJob 테스트")
+class ContractStatusTransitionJobTest {
+    
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2026, 3, 1);
+    
+    @Autowired
+    private ContractStatusTransitionJob job;
+    
+    @Autowired
+    private ContractRepository contractRepository;
+    
+    @Autowired
+    private CompanyContractSummaries companyContractSummaries;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    private Company company;
+    private Product product;
+    private int sequence;
+    
+    @BeforeEach
+    void setUp() {
+        company = companyRepository.save(Company.builder()
+                .companyNumber("70001")
+                .name("상태 전환 테스트 호텔")
+                .type("호텔")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("노출 보장형 광고")
+                .description("테스트 상품")
+                .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        contractRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+    
+    @Test
+    @DisplayName("영업일 기준으로 집행전 -> 진행중 -> 광고종료 일괄 전환")
+    void transition_MovesStatusesInBulk() {
+        // given
+        Contract notStarted = save(BUSINESS_DATE.plusDays(1), BUSINESS_DATE.plusDays(29), ContractStatus.PENDING);
+        Contract startsToday = save(BUSINESS_DATE, BUSINESS_DATE.plusDays(28), ContractStatus.PENDING);
+        Contract endsToday = save(BUSINESS_DATE.minusDays(28), BUSINESS_DATE, ContractStatus.IN_PROGRESS);
+        Contract ended = save(BUSINESS_DATE.minusDays(29), BUSINESS_DATE.minusDays(1), ContractStatus.IN_PROGRESS);
+        Contract missedWhilePending = save(BUSINESS_DATE.minusDays(40), BUSINESS_DATE.minusDays(2), ContractStatus.PENDING);
+        Contract cancelled = save(BUSINESS_DATE.minusDays(10), BUSINESS_DATE.plusDays(18), ContractStatus.CANCELLED);
+        
+        // when
+        TransitionResult result = job.transition(BUSINESS_DATE);
+        
+        // then
+        assertThat(result.started()).isEqualTo(1);
+        assertThat(result.completed()).isEqualTo(2);
+        assertThat(statusOf(notStarted)).isEqualTo(ContractStatus.PENDING);
+        assertThat(statusOf(startsToday)).isEqualTo(ContractStatus.IN_PROGRESS);
+        assertThat(statusOf(endsToday)).isEqualTo(ContractStatus.IN_PROGRESS);
+        assertThat(statusOf(ended)).isEqualTo(ContractStatus.COMPLETED);
+        assertThat(statusOf(missedWhilePending)).isEqualTo(ContractStatus.COMPLETED);
+        assertThat(statusOf(cancelled)).isEqualTo(ContractStatus.CANCELLED);
+        assertThat(job.getLastResult()).isEqualTo(result);
+        
+        // 벌크 UPDATE로 바뀐 상태도 커밋 후 업체별 계약 집계에 반영됨
+        CompanyContractSummary summary = companyContractSummaries.find(company.getId());
+        assertThat(summary.count(ContractStatus.PENDING)).isEqualTo(1);
+        assertThat(summary.count(ContractStatus.IN_PROGRESS)).isEqualTo(2);
+        assertThat(summary.count(ContractStatus.COMPLETED)).isEqualTo(2);
+        assertThat(summary.count(ContractStatus.CANCELLED)).isEqualTo(1);
+        assertThat(summary.committedAmount()).isEqualByComparingTo("500000");
+    }
+    
+    @Test
+    @DisplayName("같은 영업일에 다시 실행해도 추가 전환이 없음")
+    void transition_IsIdempotent() {
+        // given
+        save(BUSINESS_DATE, BUSINESS_DATE.plusDays(28), ContractStatus.PENDING);
+        job.transition(BUSINESS_DATE);
+        long startedBefore = job.getStartedTotal();
+        
+        // when
+        TransitionResult result = job.transition(BUSINESS_DATE);
+        
+        // then
+        assertThat(result.started()).isZero();
+        assertThat(result.completed()).isZero();
+        assertThat(job.getStartedTotal()).isEqualTo(startedBefore);
+    }
+    
+    private Contract save(LocalDate startDate, LocalDate endDate, ContractStatus status) {
+        return contractRepository.save(Contract.builder()
+                .contractNumber("CNT-20260301-7" + String.format("%03d", sequence++))
+                .company(company)
+                .product(product)
+                .startDate(startDate)
+                .endDate(endDate)
+                .amount(new BigDecimal("100000"))
+                .status(status)
+                .build());
+    }
+    
+    private ContractStatus statusOf(Contract contract) {
+        return contractRepository.findById(contract.getId()).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,110 @@
+package com.advertising.application.search;
+
+import com.advertising.application.search.CompanySearchIndex.IndexedCompany;
+import com.advertising.domain.entity.Company;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompanySearchIndex 테스트")
+class CompanySearchIndexTest {
+    
+    private CompanySearchIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new CompanySearchIndex();
+        index.rebuild(List.of(
+                company(1L, "놀유니버스 그랜드 호텔"),
+                company(2L, "놀유니버스 시티 호텔 강남"),
+                company(3L, "포레스트 강남 펜션"),
+                company(4L, "Forest Seocho Pension")
+        ));
+    }
+    
+    @Test
+    @DisplayName("부분 문자열 검색 - 중간에 포함된 키워드도 찾음")
+    void search_MatchesSubstring() {
+        assertThat(names(index.search("강남", 20)))
+                .containsExactly("놀유니버스 시티 호텔 강남", "포레스트 강남 펜션");
+    }
+    
+    @Test
+    @DisplayName("부분 문자열 검색 - 한 글자 키워드")
+    void search_MatchesSingleCharacter() {
+        assertThat(names(index.search("펜", 20))).containsExactly("포레스트 강남 펜션");
+    }
+    
+    @Test
+    @DisplayName("부분 문자열 검색 - n-gram은 모두 있지만 연속되지 않으면 제외")
+    void search_VerifiesContiguousMatch() {
+        // "호텔"과 "텔 강"은 각각 존재하지만 "호텔강"은 연속된 문자열이 아님
+        assertThat(index.search("호텔강", 20)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("대소문자 구분 없이 검색")
+    void search_IgnoresCase() {
+        assertThat(names(index.search("forest", 20))).containsExactly("Forest Seocho Pension");
+    }
+    
+    @Test
+    @DisplayName("초성 검색")
+    void search_MatchesChosung() {
+        assertThat(names(index.search("ㄴㅇㄴㅂㅅ", 20)))
+                .containsExactly("놀유니버스 그랜드 호텔", "놀유니버스 시티 호텔 강남");
+        assertThat(names(index.search("ㅍㄹㅅㅌ", 20))).containsExactly("포레스트 강남 펜션");
+    }
+    
+    @Test
+    @DisplayName("최대 결과 수 제한")
+    void search_RespectsLimit() {
+        List<Company> companies = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            companies.add(company(id, "테스트 호텔 " + id));
+        }
+        index.rebuild(companies);
+        
+        List<IndexedCompany> result = index.search("호텔", 20);
+        
+        assertThat(result).hasSize(20);
+        assertThat(result.get(0).id()).isEqualTo(1L);
+    }
+    
+    @Test
+    @DisplayName("업체명이 변경되면 증분 반영")
+    void put_ReindexesChangedName() {
+        index.put(company(3L, "포레스트 서초 펜션"));
+        
+        assertThat(names(index.search("강남", 20))).containsExactly("놀유니버스 시티 호텔 강남");
+        assertThat(names(index.search("서초", 20))).containsExactly("포레스트 서초 펜션");
+        assertThat(index.size()).isEqualTo(4);
+    }
+    
+    @Test
+    @DisplayName("삭제된 업체는 검색되지 않음")
+    void remove_ExcludesCompany() {
+        index.remove(2L);
+        
+        assertThat(names(index.search("강남", 20))).containsExactly("포레스트 강남 펜션");
+        assertThat(index.size()).isEqualTo(3);
+    }
+    
+    private static Company company(Long id, String name) {
+        return Company.builder()
+                .id(id)
+                .companyNumber(String.valueOf(10000 + id))
+                .name(name)
+                .type("호텔")
+                .build();
+    }
+    
+    private static List<String> names(List<IndexedCompany> companies) {
+        return companies.stream().map(IndexedCompany::name).toList();
+    }
+}
@@ -0,0 +1,208 @@
+package com.advertising.application.search;
+
+import com.advertising.application.cache.CachedCompany;
+import com.advertising.application.cache.CachedProduct;
+import com.advertising.application.search.ContractSearchIndex.Hits;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.ContractSearchEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ContractSearchIndex 테스트")
+class ContractSearchIndexTest {
+    
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+    
+    private ContractSearchIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new ContractSearchIndex();
+        index.rebuild(
+                List.of(
+                        entry(1L, "CNT-20260201-0001", 1L, 10L, -30, -2, ContractStatus.IN_PROGRESS),
+                        entry(2L, "CNT-20260301-0002", 1L, 20L, 0, 28, ContractStatus.PENDING),
+                        entry(3L, "CNT-20260301-0003", 2L, 10L, 10, 40, ContractStatus.PENDING),
+                        entry(4L, "CNT-20260301-0004", 2L, 20L, 1, 29, ContractStatus.CANCELLED)),
+                List.of(
+                        company(1L, "10001", "놀유니버스 그랜드 호텔"),
+                        company(2L, "10002", "포레스트 강남 펜션")),
+                List.of(
+                        product(10L, "노출 보장형 광고"),
+                        product(20L, "키워드 검색 광고")));
+    }
+    
+    @Test
+    @DisplayName("계약번호 검색 - 전체 번호, 마디의 앞부분으로 찾고 마디 중간은 찾지 않음")
+    void search_MatchesContractNumberSegments() {
+        assertThat(search("cnt-20260301-0003")).containsExactly(3L);
+        assertThat(search("0003")).containsExactly(3L);
+        assertThat(search("20260301-000")).containsExactly(3L, 4L, 2L);
+        assertThat(search("0301")).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("업체명, 업체명 초성, 업체번호, 상품명 검색")
+    void search_MatchesCompanyAndProduct() {
+        assertThat(search("호텔")).containsExactly(2L, 1L);
+        assertThat(search("ㄴㅇㄴㅂㅅ")).containsExactly(2L, 1L);
+        assertThat(search("10002")).containsExactly(3L, 4L);
+        assertThat(search("키워드")).containsExactly(4L, 2L);
+    }
+    
+    @Test
+    @DisplayName("여러 단어 - 모든 단어가 어느 한 필드에 있어야 함")
+    void search_RequiresEveryTerm() {
+        assertThat(search("강남 노출")).containsExactly(3L);
+        assertThat(search("호텔 0003")).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("순위 - 계약번호 일치가 업체번호 부분 일치보다 앞섬, 같은 점수는 시작일 내림차순")
+    void search_RanksByFieldAndMatch() {
+        // "0001"은 계약 1의 번호 마디이고, 계약 1, 2의 업체번호(10001)에 부분 일치 ("0002"도 같은 방식)
+        assertThat(search("0001")).containsExactly(1L, 2L);
+        assertThat(search("0002")).containsExactly(2L, 3L, 4L);
+    }
+    
+    @Test
+    @DisplayName("상태 필터 - 저장된 상태가 아니라 영업일 기준으로 판정")
+    void search_FiltersByDerivedStatus() {
+        assertThat(index.search("광고", List.of(ContractStatus.IN_PROGRESS), null, null, TODAY, 0, 10).ids())
+                .containsExactly(2L);
+        assertThat(index.search("광고", List.of(ContractStatus.COMPLETED), null, null, TODAY, 0, 10).ids())
+                .containsExactly(1L);
+        assertThat(index.search("광고", List.of(ContractStatus.PENDING, ContractStatus.CANCELLED),
+                null, null, TODAY, 0, 10).ids())
+                .containsExactly(3L, 4L);
+        
+        // 영업일이 바뀌면 같은 색인으로 다른 결과
+        assertThat(index.search("광고", List.of(ContractStatus.IN_PROGRESS), null, null, TODAY.plusDays(10), 0, 10).ids())
+                .containsExactly(3L, 2L);
+    }
+    
+    @Test
+    @DisplayName("날짜 필터 - 기간이 겹치는 계약만")
+    void search_FiltersByPeriod() {
+        assertThat(index.search("광고", null, TODAY.plusDays(30), null, TODAY, 0, 10).ids()).containsExactly(3L);
+        assertThat(index.search("광고", null, null, TODAY.minusDays(1), TODAY, 0, 10).ids()).containsExactly(1L);
+    }
+    
+    @Test
+    @DisplayName("페이징 - 전체 결과 수와 요청한 구간의 ID")
+    void search_ReturnsPage() {
+        Hits hits = index.search("광고", null, null, null, TODAY, 1, 2);
+        
+        assertThat(hits.ids()).containsExactly(4L, 2L);
+        assertThat(hits.totalElements()).isEqualTo(4);
+        assertThat(index.search("광고", null, null, null, TODAY, 4, 2).ids()).isEmpty();
+        assertThat(index.search("광고", null, null, null, TODAY, -1, 2).ids())
+                .isEqualTo(index.search("광고", null, null, null, TODAY, 0, 2).ids());
+    }
+    
+    @Test
+    @DisplayName("빈 검색어는 결과 없음")
+    void search_BlankKeyword() {
+        assertThat(index.search("  ", null, null, null, TODAY, 0, 10)).isEqualTo(new Hits(List.of(), 0));
+        assertThat(index.search(null, null, null, null, TODAY, 0, 10).totalElements()).isZero();
+    }
+    
+    @Test
+    @DisplayName("업체명 변경 - 업체만 다시 색인해도 그 업체의 계약 검색에 반영")
+    void putCompany_ReindexesCompanyContracts() {
+        index.putCompany(company(1L, "10001", "오션뷰 리조트"));
+        
+        assertThat(search("호텔")).isEmpty();
+        assertThat(search("리조트")).containsExactly(2L, 1L);
+    }
+    
+    @Test
+    @DisplayName("계약 변경과 제거 - 취소는 상태 필터에, 제거는 검색 결과에 반영")
+    void putContract_AndRemoveContract() {
+        index.putContract(entry(2L, "CNT-20260301-0002", 1L, 20L, 0, 28, ContractStatus.CANCELLED));
+        index.removeContract(3L);
+        
+        assertThat(index.search("광고", List.of(ContractStatus.IN_PROGRESS), null, null, TODAY, 0, 10).ids())
+                .isEmpty();
+        assertThat(search("강남")).containsExactly(4L);
+        assertThat(search("0003")).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("무작위 데이터 - 전체 탐색 결과와 일치")
+    void search_MatchesLinearScan() {
+        // given
+        Random random = new Random(42);
+        String[] words = {"alpha", "beta", "gamma", "delta", "hotel", "resort"};
+        List<CachedCompany> companies = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            companies.add(company(id, String.valueOf(10000 + id),
+                    words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]));
+        }
+        List<CachedProduct> products = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            products.add(product(id, words[random.nextInt(words.length)] + " ad"));
+        }
+        List<ContractSearchEntry> contracts = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            int start = random.nextInt(400) - 200;
+            contracts.add(entry(id, String.format("CNT-2026%04d-%04d", random.nextInt(30) + 101, id),
+                    random.nextLong(30) + 1, random.nextLong(5) + 1, start, start + 28 + random.nextInt(60),
+                    ContractStatus.values()[random.nextInt(ContractStatus.values().length)]));
+        }
+        index.rebuild(contracts, companies, products);
+        
+        // when & then
+        String[] keywords = {"hotel", "al", "10012", "0012", "cnt-20260110", "ad resort", "ta 01", "a"};
+        for (String keyword : keywords) {
+            List<Long> expected = contracts.stream()
+                    .filter(contract -> Arrays.stream(keyword.split(" "))
+                            .allMatch(term -> matches(contract, companies, products, term)))
+                    .filter(contract -> ContractStatus.derive(contract.status(), contract.startDate(),
+                            contract.endDate(), TODAY) == ContractStatus.IN_PROGRESS)
+                    .map(ContractSearchEntry::id)
+                    .toList();
+            Hits hits = index.search(keyword, List.of(ContractStatus.IN_PROGRESS), null, null, TODAY, 0, 3_000);
+            assertThat(hits.ids()).as(keyword).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(hits.totalElements()).isEqualTo(expected.size());
+        }
+    }
+    
+    private static boolean matches(ContractSearchEntry contract, List<CachedCompany> companies,
+                                   List<CachedProduct> products, String term) {
+        CachedCompany company = companies.get(contract.companyId().intValue() - 1);
+        CachedProduct product = products.get(contract.productId().intValue() - 1);
+        String number = contract.contractNumber().toLowerCase();
+        return company.name().contains(term) || company.companyNumber().contains(term)
+                || product.name().contains(term)
+                || number.startsWith(term) || number.contains("-" + term);
+    }
+    
+    private List<Long> search(String keyword) {
+        return index.search(keyword, null, null, null, TODAY, 0, 10).ids();
+    }
+    
+    private static ContractSearchEntry entry(Long id, String contractNumber, Long companyId, Long productId,
+                                             int startOffset, int endOffset, ContractStatus status) {
+        return new ContractSearchEntry(id, contractNumber, companyId, productId,
+                TODAY.plusDays(startOffset), TODAY.plusDays(endOffset), status);
+    }
+    
+    private static CachedCompany company(Long id, String companyNumber, String name) {
+        return new CachedCompany(id, companyNumber, name, "호텔", null);
+    }
+    
+    private static CachedProduct product(Long id, String name) {
+        return new CachedProduct(id, name, null, null, null);
+    }
+}
@@ -0,0 +1,221 @@
+package com.advertising.application.sequence;
+
+import com.advertising.application.dto.ContractRequest;
+import com.advertising.application.dto.ContractResponse;
+import com.advertising.application.service.ContractService;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractNumberSequenceRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ContractNumberAllocator 테스트")
+class ContractNumberAllocatorTest {
+    
+    private static final int THREADS = 32;
+    private static final int CONTRACTS = 2_000;
+    
+    @Autowired
+    private ContractService contractService;
+    
+    @Autowired
+    private ContractNumberAllocator contractNumberAllocator;
+    
+    @Autowired
+    private ContractNumberBlockReserver reserver;
+    
+    @Autowired
+    private ContractRepository contractRepository;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private ContractNumberSequenceRepository sequenceRepository;
+    
+    private Company company;
+    private Product product;
+    
+    @BeforeEach
+    void setUp() {
+        company = companyRepository.save(Company.builder()
+                .companyNumber("90001")
+                .name("동시성 테스트 호텔")
+                .type("호텔")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("노출 보장형 광고")
+                .description("테스트 상품")
+                .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        contractRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        sequenceRepository.deleteAllInBatch();
+    }
+    
+    @Test
+    @DisplayName("병렬로 수천 건의 계약을 생성해도 계약 번호가 충돌하지 않음")
+    void createContract_NoCollisionUnderConcurrency() throws Exception {
+        // given
+        List<Callable<ContractResponse>> tasks = new ArrayList<>();
+        for (int i = 0; i < CONTRACTS; i++) {
+            ContractRequest request = ContractRequest.builder()
+                    .companyId(company.getId())
+                    .productId(product.getId())
+                    .startDate(LocalDate.now().plusDays(1 + 29L * i)) // 같은 업체, 상품이므로 기간이 겹치지 않도록
+                    .endDate(LocalDate.now().plusDays(29 + 29L * i))
+                    .amount(new BigDecimal(10_000 + i))
+                    .build();
+            tasks.add(() -> contractService.createContract(request));
+        }
+        
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<String> issued = new ArrayList<>();
+        try {
+            for (Future<ContractResponse> future : executor.invokeAll(tasks, 2, TimeUnit.MINUTES)) {
+                issued.add(future.get().getContractNumber());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        // then
+        assertThat(issued).doesNotHaveDuplicates().hasSize(CONTRACTS);
+        List<String> stored = contractRepository.findAll().stream()
+                .map(Contract::getContractNumber)
+                .collect(Collectors.toList());
+        assertThat(stored).doesNotHaveDuplicates().hasSize(CONTRACTS);
+    }
+    
+    @Test
+    @DisplayName("발급기 스레드들이 같은 블록에서 번호를 나눠 받아도 중복이 없음")
+    void nextContractNumber_NoDuplicatesAcrossThreads() throws Exception {
+        // given
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                for (int n = 0; n < 500; n++) {
+                    issued.add(contractNumberAllocator.nextContractNumber());
+                }
+                return null;
+            });
+        }
+        
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks, 1, TimeUnit.MINUTES)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        // then
+        assertThat(issued).hasSize(THREADS * 500);
+    }
+    
+    @Test
+    @DisplayName("재시작 후에는 예약된 블록 다음 번호부터 이어서 발급")
+    void nextContractNumber_ContinuesAfterRestart() {
+        // given
+        LocalDate businessDate = LocalDate.of(2026, 1, 25);
+        ContractNumberAllocator beforeRestart = new ContractNumberAllocator(reserver, Clock.systemDefaultZone(), 10);
+        long first = beforeRestart.nextValue(businessDate);
+        long second = beforeRestart.nextValue(businessDate);
+        
+        // when
+        ContractNumberAllocator afterRestart = new ContractNumberAllocator(reserver, Clock.systemDefaultZone(), 10);
+        long afterRestartValue = afterRestart.nextValue(businessDate);
+        
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(afterRestartValue).isEqualTo(11);
+    }
+    
+    @Test
+    @DisplayName("시퀀스가 없는 영업일은 기존 계약 번호 다음부터 발급")
+    void nextContractNumber_SeedsFromExistingContracts() {
+        // given
+        LocalDate businessDate = LocalDate.of(2026, 1, 24);
+        contractRepository.save(Contract.builder()
+                .contractNumber("CNT-20260124-0007")
+                .company(company)
+                .product(product)
+                .startDate(businessDate)
+                .endDate(businessDate.plusDays(28))
+                .amount(new BigDecimal("100000"))
+                .status(ContractStatus.PENDING)
+                .build());
+        ContractNumberAllocator allocator = new ContractNumberAllocator(reserver, Clock.systemDefaultZone(), 10);
+        
+        // when
+        long value = allocator.nextValue(businessDate);
+        
+        // then
+        assertThat(value).isEqualTo(8);
+    }
+    
+    @Test
+    @DisplayName("기존 일련번호가 네 자리를 넘으면 문자열이 아닌 숫자로 가장 큰 번호 다음부터 발급")
+    void nextContractNumber_SeedsNumericallyPastFourDigits() {
+        // given: 문자열로는 "9999"가 "10000"보다 큼
+        LocalDate businessDate = LocalDate.of(2026, 1, 23);
+        for (String contractNumber : List.of("CNT-20260123-9999", "CNT-20260123-10000")) {
+            contractRepository.save(Contract.builder()
+                    .contractNumber(contractNumber)
+                    .company(company)
+                    .product(product)
+                    .startDate(businessDate)
+                    .endDate(businessDate.plusDays(28))
+                    .amount(new BigDecimal("100000"))
+                    .status(ContractStatus.PENDING)
+                    .build());
+        }
+        ContractNumberAllocator allocator = new ContractNumberAllocator(reserver, Clock.systemDefaultZone(), 10);
+        
+        // when
+        long value = allocator.nextValue(businessDate);
+        
+        // then
+        assertThat(value).isEqualTo(10_001);
+    }
+}
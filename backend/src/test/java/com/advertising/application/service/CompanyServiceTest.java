@@ -1,18 +1,26 @@
 package com.advertising.application.service;
 
+import com.advertising.application.cache.CachedCompany;
+import com.advertising.application.cache.CompanyCache;
 import com.advertising.application.dto.CompanyResponse;
+import com.advertising.application.dto.CompanySummaryResponse;
+import com.advertising.application.search.CompanySearchIndex;
+import com.advertising.application.summary.CompanyContractSummaries;
 import com.advertising.common.exception.BusinessException;
 import com.advertising.common.exception.ErrorCode;
 import com.advertising.domain.entity.Company;
+import com.advertising.domain.enums.ContractStatus;
 import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.CompanyStatusTotals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -27,7 +35,11 @@ class CompanyServiceTest {
     @Mock
     private CompanyRepository companyRepository;
     
-    @InjectMocks
+    @Spy
+    private CompanySearchIndex companySearchIndex = new CompanySearchIndex();
+    
+    private final CompanyContractSummaries companyContractSummaries = new CompanyContractSummaries();
+    
     private CompanyService companyService;
     
     private Company company1;
@@ -48,13 +60,18 @@ class CompanyServiceTest {
                 .name("놀유니버스 시티 호텔 강남")
                 .type("호텔")
                 .build();
+        
+        companySearchIndex.rebuild(Arrays.asList(company1, company2));
+        companyService = new CompanyService(new CompanyCache(companyRepository, 100), companySearchIndex,
+                companyContractSummaries);
     }
     
     @Test
     @DisplayName("전체 업체 목록 조회")
     void getAllCompanies_Success() {
         // given
-        when(companyRepository.findAll()).thenReturn(Arrays.asList(company1, company2));
+        when(companyRepository.findAllBy(CachedCompany.class))
+                .thenReturn(List.of(CachedCompany.from(company1), CachedCompany.from(company2)));
         
         // when
         List<CompanyResponse> result = companyService.getAllCompanies();
@@ -66,13 +83,31 @@ class CompanyServiceTest {
         assertEquals("놀유니버스 그랜드 호텔", result.get(0).getName());
     }
     
+    @Test
+    @DisplayName("전체 업체 목록 조회 - 두 번째 조회부터는 캐시 스냅샷 사용")
+    void getAllCompanies_ServedFromCache() {
+        // given
+        when(companyRepository.findAllBy(CachedCompany.class))
+                .thenReturn(List.of(CachedCompany.from(company1), CachedCompany.from(company2)));
+        companyService.getAllCompanies();
+        
+        // when
+        List<CompanyResponse> result = companyService.getAllCompanies();
+        CompanyResponse byId = companyService.getCompanyById(2L);
+        
+        // then
+        assertEquals(2, result.size());
+        assertEquals("10002", byId.getCompanyNumber());
+        assertThrows(UnsupportedOperationException.class, () -> result.add(new CompanyResponse()));
+        verify(companyRepository, times(1)).findAllBy(CachedCompany.class);
+        verify(companyRepository, never()).findProjectedById(anyLong(), eq(CachedCompany.class));
+    }
+    
     @Test
     @DisplayName("키워드로 업체 검색 - 정상 케이스")
     void searchCompanies_Success() {
         // given
         String keyword = "놀유니버스";
-        when(companyRepository.findByNameContaining(keyword))
-                .thenReturn(Arrays.asList(company1, company2));
         
         // when
         List<CompanyResponse> result = companyService.searchCompanies(keyword);
@@ -80,7 +115,19 @@ class CompanyServiceTest {
         // then
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertTrue(result.stream().anyMatch(c -> c.getName().contains(keyword)));
+        assertTrue(result.stream().allMatch(c -> c.getName().contains(keyword)));
+        verifyNoInteractions(companyRepository);
+    }
+    
+    @Test
+    @DisplayName("키워드로 업체 검색 - 초성 검색")
+    void searchCompanies_Chosung() {
+        // when
+        List<CompanyResponse> result = companyService.searchCompanies("ㄱㄴ");
+        
+        // then
+        assertEquals(1, result.size());
+        assertEquals("놀유니버스 시티 호텔 강남", result.get(0).getName());
     }
     
     @Test
@@ -92,7 +139,7 @@ class CompanyServiceTest {
         // then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(companyRepository, never()).findByNameContaining(anyString());
+        verifyNoInteractions(companyRepository);
     }
     
     @Test
@@ -104,14 +151,15 @@ class CompanyServiceTest {
         // then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(companyRepository, never()).findByNameContaining(anyString());
+        verifyNoInteractions(companyRepository);
     }
     
     @Test
     @DisplayName("업체 ID로 조회 - 정상 케이스")
     void getCompanyById_Success() {
         // given
-        when(companyRepository.findById(1L)).thenReturn(Optional.of(company1));
+        when(companyRepository.findProjectedById(1L, CachedCompany.class))
+                .thenReturn(Optional.of(CachedCompany.from(company1)));
         
         // when
         CompanyResponse result = companyService.getCompanyById(1L);
@@ -127,7 +175,7 @@ class CompanyServiceTest {
     @DisplayName("업체 ID로 조회 - 업체를 찾을 수 없음")
     void getCompanyById_NotFound() {
         // given
-        when(companyRepository.findById(999L)).thenReturn(Optional.empty());
+        when(companyRepository.findProjectedById(999L, CachedCompany.class)).thenReturn(Optional.empty());
         
         // when & then
         BusinessException exception = assertThrows(BusinessException.class, 
@@ -135,4 +183,39 @@ class CompanyServiceTest {
         
         assertEquals(ErrorCode.COMPANY_NOT_FOUND.getCode(), exception.getErrorCode());
     }
+    
+    @Test
+    @DisplayName("업체 계약 집계 조회 - 활성 계약 수, 상태별 계약 수, 계약 금액 합계")
+    void getCompanySummary_Success() {
+        // given
+        when(companyRepository.findProjectedById(1L, CachedCompany.class))
+                .thenReturn(Optional.of(CachedCompany.from(company1)));
+        companyContractSummaries.reconcile(List.of(
+                new CompanyStatusTotals(1L, ContractStatus.PENDING, 2, new BigDecimal("200000")),
+                new CompanyStatusTotals(1L, ContractStatus.IN_PROGRESS, 1, new BigDecimal("50000")),
+                new CompanyStatusTotals(1L, ContractStatus.CANCELLED, 3, new BigDecimal("300000"))), 0);
+        
+        // when
+        CompanySummaryResponse result = companyService.getCompanySummary(1L);
+        
+        // then
+        assertEquals(3L, result.getActiveContractCount());
+        assertEquals(6L, result.getTotalContractCount());
+        assertEquals(0, new BigDecimal("250000").compareTo(result.getCommittedAmount()));
+        assertEquals(0L, result.getStatusCounts().get(ContractStatus.COMPLETED));
+        assertEquals(3L, result.getStatusCounts().get(ContractStatus.CANCELLED));
+    }
+    
+    @Test
+    @DisplayName("업체 계약 집계 조회 - 업체를 찾을 수 없음")
+    void getCompanySummary_NotFound() {
+        // given
+        when(companyRepository.findProjectedById(999L, CachedCompany.class)).thenReturn(Optional.empty());
+        
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> companyService.getCompanySummary(999L));
+        
+        assertEquals(ErrorCode.COMPANY_NOT_FOUND.getCode(), exception.getErrorCode());
+    }
 }
@@ -1,31 +1,67 @@
 package com.advertising.application.service;
 
+import com.advertising.application.booking.ProductCapacityLedger;
+import com.advertising.application.cache.CachedCompany;
+import com.advertising.application.cache.CachedProduct;
+import com.advertising.application.cache.CompanyCache;
+import com.advertising.application.cache.ProductCache;
+import com.advertising.application.concurrent.ParallelLookups;
+import com.advertising.application.dto.ContractBatchItemResult;
+import com.advertising.application.dto.ContractBatchRequest;
+import com.advertising.application.dto.ContractBatchResponse;
+import com.advertising.application.dto.ContractListRequest;
 import com.advertising.application.dto.ContractRequest;
 import com.advertising.application.dto.ContractResponse;
+import com.advertising.application.dto.PageResponse;
+import com.advertising.application.dto.Versioned;
+import com.advertising.application.idempotency.ContractFingerprint;
+import com.advertising.application.idempotency.ContractIdempotencyStore;
+import com.advertising.application.period.ContractPeriodIndex;
+import com.advertising.application.search.ContractSearchIndex;
+import com.advertising.application.sequence.ContractNumberAllocator;
 import com.advertising.common.exception.BusinessException;
 import com.advertising.common.exception.ErrorCode;
+import com.advertising.common.exception.ErrorMetrics;
+import com.advertising.common.time.BusinessClock;
+import com.advertising.common.time.MutableClock;
 import com.advertising.domain.entity.Company;
 import com.advertising.domain.entity.Contract;
 import com.advertising.domain.entity.Product;
 import com.advertising.domain.enums.ContractStatus;
 import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractPeriod;
 import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ContractRow;
+import com.advertising.domain.repository.ContractSearchEntry;
 import com.advertising.domain.repository.ProductRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +77,44 @@ class ContractServiceTest {
     @Mock
     private ProductRepository productRepository;
     
+    @Mock
+    private CompanyCache companyCache;
+    
+    @Mock
+    private ProductCache productCache;
+    
+    @Mock
+    private ContractNumberAllocator contractNumberAllocator;
+    
+    @Mock
+    private ErrorMetrics errorMetrics;
+    
+    @Spy
+    private ContractIdempotencyStore idempotencyStore = new ContractIdempotencyStore(Clock.systemDefaultZone());
+    
+    @Spy
+    private ContractPeriodIndex contractPeriodIndex = new ContractPeriodIndex();
+    
+    @Spy
+    private ContractSearchIndex contractSearchIndex = new ContractSearchIndex();
+    
+    @Spy
+    private ProductCapacityLedger capacityLedger = new ProductCapacityLedger();
+    
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+    
+    private final MutableClock clock = new MutableClock(Instant.now(), ZoneId.systemDefault());
+    
+    @Spy
+    private BusinessClock businessClock = new BusinessClock(clock);
+    
+    @Spy
+    private ParallelLookups parallelLookups = new ParallelLookups(Duration.ofSeconds(5), 4);
+    
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    
     @InjectMocks
     private ContractService contractService;
     
@@ -76,10 +150,9 @@ class ContractServiceTest {
     @DisplayName("계약 생성 - 정상 케이스")
     void createContract_Success() {
         // given
-        when(companyRepository.findById(1L)).thenReturn(Optional.of(company));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(contractRepository.findAll()).thenReturn(Collections.emptyList());
-        when(contractRepository.count()).thenReturn(0L);
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        when(contractNumberAllocator.nextContractNumber()).thenReturn("CNT-20260125-0001");
         
         Contract savedContract = Contract.builder()
                 .id(1L)
@@ -113,7 +186,7 @@ class ContractServiceTest {
     @DisplayName("계약 생성 - 업체를 찾을 수 없음")
     void createContract_Fail_WhenCompanyNotFound() {
         // given
-        when(companyRepository.findById(1L)).thenReturn(Optional.empty());
+        when(companyCache.findById(1L)).thenReturn(Optional.empty());
         
         // when & then
         assertThatThrownBy(() -> contractService.createContract(validRequest))
@@ -130,8 +203,8 @@ class ContractServiceTest {
     @DisplayName("계약 생성 - 상품을 찾을 수 없음")
     void createContract_Fail_WhenProductNotFound() {
         // given
-        when(companyRepository.findById(1L)).thenReturn(Optional.of(company));
-        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.empty());
         
         // when & then
         assertThatThrownBy(() -> contractService.createContract(validRequest))
@@ -144,6 +217,60 @@ class ContractServiceTest {
         verify(contractRepository, never()).save(any());
     }
     
+    @Test
+    @DisplayName("계약 생성 - 같은 업체, 상품으로 기간이 겹치는 계약이 있음")
+    void createContract_Fail_WhenPeriodOverlaps() {
+        // given
+        contractPeriodIndex.put(new ContractPeriod(7L, 1L, 1L,
+                validRequest.getEndDate(), validRequest.getEndDate().plusDays(30)));
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        
+        // when & then
+        assertThatThrownBy(() -> contractService.createContract(validRequest))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> {
+                    BusinessException be = (BusinessException) ex;
+                    assertThat(be.getErrorCode()).isEqualTo(ErrorCode.OVERLAPPING_CONTRACT.getCode());
+                    assertThat(be.getMessage()).contains("계약 ID: 7");
+                });
+        verify(contractRepository, never()).save(any());
+        verify(contractNumberAllocator, never()).nextContractNumber();
+        
+        // 거절된 요청은 중복 요청 지문이 해제되어 기간을 바꿔 바로 다시 요청할 수 있음
+        assertThat(idempotencyStore.tryClaim(ContractFingerprint.of(validRequest))).isPresent();
+    }
+    
+    @Test
+    @DisplayName("계약 생성 - 계약 기간 중 상품의 하루 최대 계약 수가 찬 날짜가 있음")
+    void createContract_Fail_WhenCapacityExceeded() {
+        // given: 하루 최대 1건인 상품에 다른 업체의 계약이 종료일 하루와 겹침
+        Product limited = Product.builder()
+                .id(1L)
+                .name("노출 보장형 광고")
+                .dailyCapacity(1)
+                .build();
+        capacityLedger.put(new ContractPeriod(7L, 2L, 1L,
+                validRequest.getEndDate(), validRequest.getEndDate().plusDays(30)));
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(limited)));
+        
+        // when & then
+        assertThatThrownBy(() -> contractService.createContract(validRequest))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> {
+                    BusinessException be = (BusinessException) ex;
+                    assertThat(be.getErrorCode()).isEqualTo(ErrorCode.CAPACITY_EXCEEDED.getCode());
+                    assertThat(be.getMessage()).contains(validRequest.getEndDate().toString());
+                });
+        verify(contractRepository, never()).save(any());
+        
+        // 거절되면 선점했던 계약 기간과 예약한 날짜를 돌려줌
+        assertThat(contractPeriodIndex.reserve(1L, 1L, validRequest.getStartDate(), validRequest.getEndDate()))
+                .isNotNull();
+        assertThat(capacityLedger.bookedOn(1L, validRequest.getStartDate())).isZero();
+    }
+    
     @Test
     @DisplayName("계약 생성 - 시작일이 오늘 이전")
     void createContract_Fail_WhenStartDateBeforeToday() {
@@ -156,9 +283,8 @@ class ContractServiceTest {
                 .amount(new BigDecimal("100000"))
                 .build();
         
-        when(companyRepository.findById(1L)).thenReturn(Optional.of(company));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(contractRepository.findAll()).thenReturn(Collections.emptyList());
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
         
         // when & then
         assertThatThrownBy(() -> contractService.createContract(invalidRequest))
@@ -183,10 +309,9 @@ class ContractServiceTest {
                 .amount(new BigDecimal("100000"))
                 .build();
         
-        when(companyRepository.findById(1L)).thenReturn(Optional.of(company));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(contractRepository.findAll()).thenReturn(Collections.emptyList());
-        when(contractRepository.count()).thenReturn(0L);
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        when(contractNumberAllocator.nextContractNumber()).thenReturn("CNT-20260125-0001");
         
         Contract savedContract = Contract.builder()
                 .id(1L)
@@ -221,9 +346,8 @@ class ContractServiceTest {
                 .amount(new BigDecimal("100000"))
                 .build();
         
-        when(companyRepository.findById(1L)).thenReturn(Optional.of(company));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(contractRepository.findAll()).thenReturn(Collections.emptyList());
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
         
         // when & then
         assertThatThrownBy(() -> contractService.createContract(invalidRequest))
@@ -248,10 +372,9 @@ class ContractServiceTest {
                 .amount(new BigDecimal("100000"))
                 .build();
         
-        when(companyRepository.findById(1L)).thenReturn(Optional.of(company));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(contractRepository.findAll()).thenReturn(Collections.emptyList());
-        when(contractRepository.count()).thenReturn(0L);
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        when(contractNumberAllocator.nextContractNumber()).thenReturn("CNT-20260125-0001");
         
         Contract savedContract = Contract.builder()
                 .id(1L)
@@ -286,9 +409,8 @@ class ContractServiceTest {
                 .amount(new BigDecimal("9999")) // 최소 금액 미만
                 .build();
         
-        when(companyRepository.findById(1L)).thenReturn(Optional.of(company));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(contractRepository.findAll()).thenReturn(Collections.emptyList());
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
         
         // when & then
         assertThatThrownBy(() -> contractService.createContract(invalidRequest))
@@ -313,10 +435,9 @@ class ContractServiceTest {
                 .amount(new BigDecimal("10000")) // 최소 금액
                 .build();
         
-        when(companyRepository.findById(1L)).thenReturn(Optional.of(company));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(contractRepository.findAll()).thenReturn(Collections.emptyList());
-        when(contractRepository.count()).thenReturn(0L);
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        when(contractNumberAllocator.nextContractNumber()).thenReturn("CNT-20260125-0001");
         
         Contract savedContract = Contract.builder()
                 .id(1L)
@@ -351,9 +472,8 @@ class ContractServiceTest {
                 .amount(new BigDecimal("1000001")) // 최대 금액 초과
                 .build();
         
-        when(companyRepository.findById(1L)).thenReturn(Optional.of(company));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(contractRepository.findAll()).thenReturn(Collections.emptyList());
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
         
         // when & then
         assertThatThrownBy(() -> contractService.createContract(invalidRequest))
@@ -378,10 +498,9 @@ class ContractServiceTest {
                 .amount(new BigDecimal("1000000")) // 최대 금액
                 .build();
         
-        when(companyRepository.findById(1L)).thenReturn(Optional.of(company));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(contractRepository.findAll()).thenReturn(Collections.emptyList());
-        when(contractRepository.count()).thenReturn(0L);
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        when(contractNumberAllocator.nextContractNumber()).thenReturn("CNT-20260125-0001");
         
         Contract savedContract = Contract.builder()
                 .id(1L)
@@ -403,4 +522,386 @@ class ContractServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getAmount()).isEqualByComparingTo(new BigDecimal("1000000"));
     }
+    
+    @Test
+    @DisplayName("계약 생성 - 5초 이내 동일 요청은 중복으로 거절")
+    void createContract_Fail_WhenDuplicateRequest() {
+        // given
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        when(contractNumberAllocator.nextContractNumber()).thenReturn("CNT-20260125-0001");
+        when(contractRepository.save(any(Contract.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        contractService.createContract(validRequest);
+        
+        // when & then
+        assertThatThrownBy(() -> contractService.createContract(validRequest))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.DUPLICATE_REQUEST.getCode()));
+        verify(contractRepository, times(1)).save(any(Contract.class));
+        verify(contractRepository, never()).findAll();
+    }
+    
+    @Test
+    @DisplayName("계약 생성 - 저장에 실패한 요청은 중복 판정에 남지 않음")
+    void createContract_ReleasesFingerprint_WhenSaveFails() {
+        // given
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        when(contractNumberAllocator.nextContractNumber()).thenReturn("CNT-20260125-0001");
+        when(contractRepository.save(any(Contract.class)))
+                .thenThrow(new IllegalStateException("저장 실패"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        
+        assertThatThrownBy(() -> contractService.createContract(validRequest))
+                .isInstanceOf(IllegalStateException.class);
+        
+        // when
+        ContractResponse response = contractService.createContract(validRequest);
+        
+        // then
+        assertThat(response).isNotNull();
+        verify(contractRepository, times(2)).save(any(Contract.class));
+    }
+    
+    @Test
+    @DisplayName("계약 생성 - 같은 Idempotency-Key 재요청은 최초 응답을 재사용")
+    void createContract_ReplaysResponse_WhenSameIdempotencyKey() {
+        // given
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        when(contractNumberAllocator.nextContractNumber()).thenReturn("CNT-20260125-0001");
+        when(contractRepository.save(any(Contract.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        ContractResponse first = contractService.createContract(validRequest, "key-1");
+        
+        // when
+        ContractResponse replayed = contractService.createContract(validRequest, "key-1");
+        
+        // then
+        assertThat(replayed).isSameAs(first);
+        verify(contractRepository, times(1)).save(any(Contract.class));
+    }
+    
+    @Test
+    @DisplayName("계약 생성 - 같은 Idempotency-Key를 다른 요청에 사용하면 거절")
+    void createContract_Fail_WhenIdempotencyKeyReusedForDifferentRequest() {
+        // given
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        when(contractNumberAllocator.nextContractNumber()).thenReturn("CNT-20260125-0001");
+        when(contractRepository.save(any(Contract.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        contractService.createContract(validRequest, "key-1");
+        
+        ContractRequest otherRequest = ContractRequest.builder()
+                .companyId(1L)
+                .productId(1L)
+                .startDate(validRequest.getStartDate())
+                .endDate(validRequest.getEndDate())
+                .amount(new BigDecimal("200000"))
+                .build();
+        
+        // when & then
+        assertThatThrownBy(() -> contractService.createContract(otherRequest, "key-1"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_CONFLICT.getCode()));
+    }
+    
+    @Test
+    @DisplayName("계약 일괄 생성 - 유효한 항목만 저장하고 항목별 결과를 요청 순서대로 반환")
+    void createContracts_PartialSuccess() {
+        // given
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(companyCache.findById(99L)).thenReturn(Optional.empty());
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        when(contractNumberAllocator.nextContractNumber()).thenReturn("CNT-20260125-0001", "CNT-20260125-0002");
+        when(contractRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        ContractRequest unknownCompany = copyOf(validRequest, 99L, validRequest.getAmount());
+        ContractRequest invalidAmount = copyOf(validRequest, 1L, new BigDecimal("100"));
+        ContractRequest another = ContractRequest.builder()
+                .companyId(1L)
+                .productId(1L)
+                .startDate(validRequest.getEndDate().plusDays(1))
+                .endDate(validRequest.getEndDate().plusDays(40))
+                .amount(new BigDecimal("200000"))
+                .build();
+        ContractBatchRequest request = ContractBatchRequest.builder()
+                .contracts(List.of(validRequest, unknownCompany, validRequest, invalidAmount, another))
+                .build();
+        
+        // when
+        ContractBatchResponse response = contractService.createContracts(request);
+        
+        // then
+        assertThat(response.getTotal()).isEqualTo(5);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(ContractBatchItemResult::getSuccess)
+                .containsExactly(true, false, false, false, true);
+        assertThat(response.getResults()).extracting(ContractBatchItemResult::getErrorCode)
+                .containsExactly(null, ErrorCode.COMPANY_NOT_FOUND.getCode(), ErrorCode.DUPLICATE_REQUEST.getCode(),
+                        ErrorCode.VALIDATION_ERROR.getCode(), null);
+        assertThat(response.getResults().get(4).getContract().getContractNumber()).isEqualTo("CNT-20260125-0002");
+        verify(contractRepository, times(1)).saveAll(argThat(contracts -> ((List<?>) contracts).size() == 2));
+    }
+    
+    @Test
+    @DisplayName("계약 일괄 생성 - allOrNothing이면 한 건이라도 실패할 때 아무것도 저장하지 않음")
+    void createContracts_AllOrNothing() {
+        // given
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        
+        ContractRequest invalidAmount = copyOf(validRequest, 1L, new BigDecimal("100"));
+        ContractBatchRequest request = ContractBatchRequest.builder()
+                .contracts(List.of(validRequest, invalidAmount))
+                .allOrNothing(true)
+                .build();
+        
+        // when
+        ContractBatchResponse response = contractService.createContracts(request);
+        
+        // then
+        assertThat(response.getSucceeded()).isZero();
+        assertThat(response.getResults()).extracting(ContractBatchItemResult::getErrorCode)
+                .containsExactly(ErrorCode.BATCH_ABORTED.getCode(), ErrorCode.VALIDATION_ERROR.getCode());
+        verify(contractRepository, never()).saveAll(anyList());
+        verify(contractNumberAllocator, never()).nextContractNumber();
+        
+        // 취소된 항목은 중복 요청 지문이 해제되어 바로 다시 요청할 수 있음
+        assertThat(idempotencyStore.tryClaim(ContractFingerprint.of(validRequest))).isPresent();
+    }
+    
+    @Test
+    @DisplayName("계약 일괄 생성 - 예상하지 못한 오류로 중단되면 앞 항목까지 선점한 지문, 기간, 일자를 모두 해제")
+    void createContracts_ReleasesHoldsOnUnexpectedError() {
+        // given: 두 번째 항목의 일자 예약에서 장부 내부 오류
+        when(companyCache.findById(1L)).thenReturn(Optional.of(CachedCompany.from(company)));
+        when(productCache.findById(1L)).thenReturn(Optional.of(CachedProduct.from(product)));
+        ContractRequest another = ContractRequest.builder()
+                .companyId(1L)
+                .productId(1L)
+                .startDate(validRequest.getEndDate().plusDays(1))
+                .endDate(validRequest.getEndDate().plusDays(40))
+                .amount(new BigDecimal("200000"))
+                .build();
+        doCallRealMethod()
+                .doThrow(new IllegalStateException("장부 오류"))
+                .when(capacityLedger).book(any(), any(), any(), any());
+        ContractBatchRequest request = ContractBatchRequest.builder()
+                .contracts(List.of(validRequest, another))
+                .build();
+        
+        // when & then
+        assertThatThrownBy(() -> contractService.createContracts(request))
+                .isInstanceOf(IllegalStateException.class);
+        verify(contractRepository, never()).saveAll(anyList());
+        
+        assertThat(capacityLedger.bookedOn(1L, validRequest.getStartDate())).isZero();
+        assertThat(contractPeriodIndex.reserve(1L, 1L, validRequest.getStartDate(), another.getEndDate()))
+                .isNotNull();
+        assertThat(idempotencyStore.tryClaim(ContractFingerprint.of(validRequest))).isPresent();
+        assertThat(idempotencyStore.tryClaim(ContractFingerprint.of(another))).isPresent();
+    }
+    
+    @Test
+    @DisplayName("계약 목록 조회 - 목록과 전체 건수를 각각 조회해 페이지 정보 구성")
+    void getContracts_CombinesPageAndCount() {
+        // given
+        when(contractRepository.findByConditions(eq("테스트"), any(), isNull(), isNull(), any()))
+                .thenReturn(List.of(rowOf(ContractStatus.PENDING)));
+        when(contractRepository.countByConditions(eq("테스트"), any(), isNull(), isNull())).thenReturn(11L);
+        
+        // when
+        PageResponse<ContractResponse> response = contractService.getContracts(ContractListRequest.builder()
+                .companyName("테스트")
+                .page(1)
+                .size(5)
+                .build());
+        
+        // then
+        assertThat(response.getContent()).extracting(ContractResponse::getContractNumber)
+                .containsExactly("CNT-20260125-0001");
+        assertThat(response.getTotalElements()).isEqualTo(11);
+        assertThat(response.getTotalPages()).isEqualTo(3);
+        assertThat(response.getHasNext()).isTrue();
+        assertThat(response.getHasPrevious()).isTrue();
+    }
+    
+    @Test
+    @DisplayName("계약 상세 조회 - 조회 결과로 업체, 상품을 포함한 응답과 버전 구성")
+    void getVersionedContract_MapsRow() {
+        // given
+        when(contractRepository.findRowById(1L)).thenReturn(Optional.of(rowOf(ContractStatus.PENDING)));
+        
+        // when
+        Versioned<ContractResponse> versioned = contractService.getVersionedContract(1L);
+        ContractResponse response = versioned.body().get();
+        
+        // then
+        assertThat(versioned.eTag()).startsWith("contract-1-").endsWith("-PENDING");
+        assertThat(response.getStatusDescription()).isEqualTo(ContractStatus.PENDING.getDescription());
+        assertThat(response.getCompany().getName()).isEqualTo("테스트 호텔");
+        assertThat(response.getProduct().getDescription()).isEqualTo("테스트 상품");
+        verify(contractRepository, never()).findWithCompanyAndProductById(any());
+    }
+    
+    @Test
+    @DisplayName("계약 상세 조회 - 시작일이 지나면 저장된 상태와 무관하게 집행중으로 응답하고 ETag도 바뀜")
+    void getVersionedContract_DerivesStatusFromBusinessDate() {
+        // given: 저장된 상태는 아직 집행전 (상태 전환 배치가 돌기 전)
+        when(contractRepository.findRowById(1L)).thenReturn(Optional.of(rowOf(ContractStatus.PENDING)));
+        String pendingTag = contractService.getVersionedContract(1L).eTag();
+        
+        // when: 시작일 당일로 시각 이동
+        clock.advance(Duration.ofDays(1));
+        Versioned<ContractResponse> versioned = contractService.getVersionedContract(1L);
+        
+        // then
+        assertThat(versioned.body().get().getStatus()).isEqualTo(ContractStatus.IN_PROGRESS);
+        assertThat(versioned.eTag()).isNotEqualTo(pendingTag).endsWith("-IN_PROGRESS");
+        verify(contractRepository, never()).save(any());
+    }
+    
+    @Test
+    @DisplayName("계약 검색 - 검색 인덱스가 정한 페이지의 계약만 한 번에 조회하여 순위 순서로 응답")
+    void searchContracts_HydratesPageInOneQuery() {
+        // given: 같은 기간의 계약 3건은 ID 내림차순
+        contractSearchIndex.rebuild(
+                List.of(searchEntryOf(1L), searchEntryOf(2L), searchEntryOf(3L)),
+                List.of(CachedCompany.from(company)),
+                List.of(CachedProduct.from(product)));
+        when(contractRepository.findRowsByIdIn(List.of(3L, 2L)))
+                .thenReturn(List.of(rowOf(2L, ContractStatus.PENDING), rowOf(3L, ContractStatus.PENDING)));
+        ContractListRequest request = ContractListRequest.builder()
+                .keyword("테스트 호텔")
+                .size(2)
+                .build();
+        
+        // when
+        PageResponse<ContractResponse> response = contractService.searchContracts(request);
+        
+        // then
+        assertThat(response.getContent()).extracting(ContractResponse::getId).containsExactly(3L, 2L);
+        assertThat(response.getTotalElements()).isEqualTo(3);
+        assertThat(response.getHasNext()).isTrue();
+        verify(contractRepository, times(1)).findRowsByIdIn(any());
+        verify(contractRepository, never()).findByConditions(any(), any(), any(), any(), any());
+    }
+    
+    @Test
+    @DisplayName("계약 검색 - 시작 위치가 int 범위를 넘는 페이지는 검증 오류")
+    void searchContracts_Fail_WhenOffsetOverflows() {
+        // given
+        ContractListRequest request = ContractListRequest.builder()
+                .keyword("테스트 호텔")
+                .page(Integer.MAX_VALUE)
+                .size(100)
+                .build();
+        
+        // when & then
+        assertThatThrownBy(() -> contractService.searchContracts(request))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.VALIDATION_ERROR.getCode()));
+        verify(contractRepository, never()).findRowsByIdIn(any());
+    }
+    
+    @Test
+    @DisplayName("계약 취소 - 집행전 계약은 취소 상태로 변경")
+    void cancelContract_Success() {
+        // given
+        Contract contract = contractOf(ContractStatus.PENDING);
+        when(contractRepository.findWithCompanyAndProductById(1L)).thenReturn(Optional.of(contract));
+        
+        // when
+        ContractResponse response = contractService.cancelContract(1L);
+        
+        // then
+        assertThat(response.getStatus()).isEqualTo(ContractStatus.CANCELLED);
+        assertThat(contract.getStatus()).isEqualTo(ContractStatus.CANCELLED);
+    }
+    
+    @Test
+    @DisplayName("계약 취소 - 이미 종료된 계약은 취소 불가")
+    void cancelContract_Fail_WhenCompleted() {
+        // given
+        Contract contract = contractOf(ContractStatus.COMPLETED);
+        when(contractRepository.findWithCompanyAndProductById(1L)).thenReturn(Optional.of(contract));
+        
+        // when & then
+        assertThatThrownBy(() -> contractService.cancelContract(1L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(contract.getStatus()).isEqualTo(ContractStatus.COMPLETED);
+    }
+    
+    @Test
+    @DisplayName("계약 취소 - 종료일이 지나면 상태 전환 배치 전이라도 취소 불가")
+    void cancelContract_Fail_WhenEndedBeforeTransition() {
+        // given: 저장된 상태는 집행전, 배치 없이 영업일만 종료일 다음 날로 이동
+        Contract contract = contractOf(ContractStatus.PENDING);
+        when(contractRepository.findWithCompanyAndProductById(1L)).thenReturn(Optional.of(contract));
+        clock.advance(Duration.ofDays(30));
+        
+        // when & then
+        assertThatThrownBy(() -> contractService.cancelContract(1L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(contract.getStatus()).isEqualTo(ContractStatus.PENDING);
+    }
+    
+    @Test
+    @DisplayName("계약 취소 - 계약을 찾을 수 없음")
+    void cancelContract_Fail_WhenNotFound() {
+        // given
+        when(contractRepository.findWithCompanyAndProductById(999L)).thenReturn(Optional.empty());
+        
+        // when & then
+        assertThatThrownBy(() -> contractService.cancelContract(999L))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.CONTRACT_NOT_FOUND.getCode()));
+    }
+    
+    private Contract contractOf(ContractStatus status) {
+        return Contract.builder()
+                .id(1L)
+                .contractNumber("CNT-20260125-0001")
+                .company(company)
+                .product(product)
+                .startDate(validRequest.getStartDate())
+                .endDate(validRequest.getEndDate())
+                .amount(validRequest.getAmount())
+                .status(status)
+                .build();
+    }
+    
+    private ContractRow rowOf(ContractStatus status) {
+        return rowOf(1L, status);
+    }
+    
+    private ContractRow rowOf(Long id, ContractStatus status) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 25, 9, 0);
+        return new ContractRow(id, String.format("CNT-20260125-%04d", id), validRequest.getStartDate(), validRequest.getEndDate(),
+                validRequest.getAmount(), status, now, now,
+                company.getId(), company.getCompanyNumber(), company.getName(), company.getType(), now,
+                product.getId(), product.getName(), product.getDescription(), now);
+    }
+    
+    private ContractSearchEntry searchEntryOf(Long id) {
+        return new ContractSearchEntry(id, String.format("CNT-20260125-%04d", id), company.getId(), product.getId(),
+                validRequest.getStartDate(), validRequest.getEndDate(), ContractStatus.PENDING);
+    }
+    
+    private ContractRequest copyOf(ContractRequest source, Long companyId, BigDecimal amount) {
+        return ContractRequest.builder()
+                .companyId(companyId)
+                .productId(source.getProductId())
+                .startDate(source.getStartDate())
+                .endDate(source.getEndDate())
+                .amount(amount)
+                .build();
+    }
 }
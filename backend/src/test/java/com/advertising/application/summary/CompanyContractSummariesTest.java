@@ -0,0 +1,140 @@
+package com.advertising.application.summary;
+
+import com.advertising.application.summary.CompanyContractSummaries.ReconcileResult;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.CompanyStatusTotals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompanyContractSummaries 테스트")
+class CompanyContractSummariesTest {
+    
+    private static final BigDecimal AMOUNT = new BigDecimal("100000");
+    
+    private CompanyContractSummaries summaries;
+    
+    @BeforeEach
+    void setUp() {
+        summaries = new CompanyContractSummaries();
+        summaries.reconcile(List.of(
+                totals(1L, ContractStatus.PENDING, 2),
+                totals(1L, ContractStatus.COMPLETED, 1),
+                totals(2L, ContractStatus.IN_PROGRESS, 1)), summaries.currentSequence());
+    }
+    
+    @Test
+    @DisplayName("초기 집계 - 활성 계약 수와 취소 제외 금액 합계")
+    void reconcile_InitialLoad() {
+        CompanyContractSummary summary = summaries.find(1L);
+        
+        assertThat(summary.activeCount()).isEqualTo(2);
+        assertThat(summary.totalCount()).isEqualTo(3);
+        assertThat(summary.committedAmount()).isEqualByComparingTo("300000");
+        assertThat(summaries.getCorrectedTotal()).isZero();
+    }
+    
+    @Test
+    @DisplayName("증분 반영 - 생성, 상태 전환, 취소, 삭제")
+    void move_AppliesDeltas() {
+        summaries.move(1L, null, ContractStatus.PENDING, 1, AMOUNT);
+        summaries.move(1L, ContractStatus.PENDING, ContractStatus.IN_PROGRESS, 2, AMOUNT.multiply(BigDecimal.valueOf(2)));
+        summaries.move(1L, ContractStatus.IN_PROGRESS, ContractStatus.CANCELLED, 1, AMOUNT);
+        summaries.move(1L, ContractStatus.COMPLETED, null, 1, AMOUNT);
+        
+        CompanyContractSummary summary = summaries.find(1L);
+        assertThat(summary.count(ContractStatus.PENDING)).isEqualTo(1);
+        assertThat(summary.count(ContractStatus.IN_PROGRESS)).isEqualTo(1);
+        assertThat(summary.count(ContractStatus.CANCELLED)).isEqualTo(1);
+        assertThat(summary.count(ContractStatus.COMPLETED)).isZero();
+        assertThat(summary.activeCount()).isEqualTo(2);
+        assertThat(summary.committedAmount()).isEqualByComparingTo("200000");
+    }
+    
+    @Test
+    @DisplayName("계약이 없는 업체 - 빈 집계")
+    void find_UnknownCompany_ReturnsEmpty() {
+        CompanyContractSummary summary = summaries.find(99L);
+        
+        assertThat(summary.totalCount()).isZero();
+        assertThat(summary.committedAmount()).isEqualByComparingTo("0");
+    }
+    
+    @Test
+    @DisplayName("초기 집계 전 증분 - 무시 (초기 집계에 포함됨)")
+    void move_BeforeInitialLoad_IsIgnored() {
+        CompanyContractSummaries notLoaded = new CompanyContractSummaries();
+        
+        notLoaded.move(1L, null, ContractStatus.PENDING, 1, AMOUNT);
+        
+        assertThat(notLoaded.find(1L).totalCount()).isZero();
+        assertThat(notLoaded.size()).isZero();
+    }
+    
+    @Test
+    @DisplayName("초기 집계 조회 중 증분 - 모아 두었다가 초기 집계 위에 반영")
+    void move_DuringInitialLoad_IsAppliedAfterLoad() {
+        // given: 조회 시작 후 커밋된 생성 (조회 결과에는 없음)
+        CompanyContractSummaries loading = new CompanyContractSummaries();
+        loading.bufferUntilLoaded();
+        long since = loading.currentSequence();
+        loading.move(1L, null, ContractStatus.PENDING, 1, AMOUNT);
+        assertThat(loading.find(1L).totalCount()).isZero();
+        
+        // when
+        loading.reconcile(List.of(totals(1L, ContractStatus.PENDING, 2)), since);
+        
+        // then
+        assertThat(loading.find(1L).count(ContractStatus.PENDING)).isEqualTo(3);
+        assertThat(loading.find(1L).committedAmount()).isEqualByComparingTo("300000");
+    }
+    
+    @Test
+    @DisplayName("재집계 - DB와 다른 업체만 바로잡고 사라진 업체는 제거")
+    void reconcile_CorrectsDrift() {
+        // given: 업체 1은 DB와 일치, 업체 2는 DB에서 계약이 모두 삭제됨, 업체 3은 증분 누락
+        long since = summaries.currentSequence();
+        
+        // when
+        ReconcileResult result = summaries.reconcile(List.of(
+                totals(1L, ContractStatus.PENDING, 2),
+                totals(1L, ContractStatus.COMPLETED, 1),
+                totals(3L, ContractStatus.PENDING, 1)), since);
+        
+        // then
+        assertThat(result.corrected()).isEqualTo(2);
+        assertThat(result.skipped()).isZero();
+        assertThat(summaries.find(2L).totalCount()).isZero();
+        assertThat(summaries.find(3L).activeCount()).isEqualTo(1);
+        assertThat(summaries.size()).isEqualTo(2);
+        assertThat(summaries.getCorrectedTotal()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("재집계 - 집계 조회 이후 증분이 반영된 업체는 덮어쓰지 않음")
+    void reconcile_SkipsCompaniesChangedDuringQuery() {
+        // given: 집계 조회 시작 후 커밋된 생성이 먼저 반영됨 (조회 결과에는 없음)
+        long since = summaries.currentSequence();
+        summaries.move(1L, null, ContractStatus.PENDING, 1, AMOUNT);
+        
+        // when
+        ReconcileResult result = summaries.reconcile(List.of(
+                totals(1L, ContractStatus.PENDING, 2),
+                totals(1L, ContractStatus.COMPLETED, 1),
+                totals(2L, ContractStatus.IN_PROGRESS, 1)), since);
+        
+        // then
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.corrected()).isZero();
+        assertThat(summaries.find(1L).count(ContractStatus.PENDING)).isEqualTo(3);
+    }
+    
+    private CompanyStatusTotals totals(Long companyId, ContractStatus status, long count) {
+        return new CompanyStatusTotals(companyId, status, count, AMOUNT.multiply(BigDecimal.valueOf(count)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.advertising.application.summary;
+
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.CompanyStatusTotals;
+import com.advertising.domain.repository.ContractRepository;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CompanyContractSummarySynchronizer 테스트")
+class CompanyContractSummarySynchronizerTest {
+    
+    private static final BigDecimal AMOUNT = new BigDecimal("100000");
+    
+    @Mock
+    private ContractRepository contractRepository;
+    
+    @Mock
+    private TaskScheduler taskScheduler;
+    
+    @Mock
+    private PostInsertEvent insertEvent;
+    
+    private final CompanyContractSummaries summaries = new CompanyContractSummaries();
+    
+    @Test
+    @DisplayName("초기 집계 - 조회 중에 커밋된 계약도 반영")
+    void afterSingletonsInstantiated_KeepsContractCommittedDuringLoad() {
+        // given: 집계 쿼리가 읽은 뒤 계약 한 건이 커밋됨 (쿼리 결과에는 없음)
+        CompanyContractSummarySynchronizer synchronizer =
+                new CompanyContractSummarySynchronizer(summaries, contractRepository, taskScheduler);
+        when(insertEvent.getEntity()).thenReturn(contractOf(1L));
+        when(contractRepository.summarizeByCompanyAndStatus()).thenAnswer(invocation -> {
+            List<CompanyStatusTotals> totals = List.of(
+                    new CompanyStatusTotals(1L, ContractStatus.PENDING, 2, AMOUNT.multiply(BigDecimal.valueOf(2))));
+            synchronizer.onPostInsert(insertEvent);
+            return totals;
+        });
+        
+        // when
+        synchronizer.afterSingletonsInstantiated();
+        
+        // then
+        CompanyContractSummary summary = summaries.find(1L);
+        assertThat(summary.count(ContractStatus.PENDING)).isEqualTo(3);
+        assertThat(summary.committedAmount()).isEqualByComparingTo("300000");
+    }
+    
+    private Contract contractOf(Long companyId) {
+        return Contract.builder()
+                .id(10L)
+                .contractNumber("AD-20260101-0001")
+                .company(Company.builder().id(companyId).companyNumber("10001").name("테스트 호텔").type("호텔").build())
+                .product(Product.builder().id(1L).name("테스트 상품").description("설명").build())
+                .startDate(LocalDate.of(2026, 1, 10))
+                .endDate(LocalDate.of(2026, 2, 10))
+                .amount(AMOUNT)
+                .status(ContractStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.advertising.common.event;
+
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SnapshotSynchronizer 테스트")
+class SnapshotSynchronizerTest {
+    
+    @Test
+    @DisplayName("다시 만드는 중에 커밋된 변경은 교체 후 새 구조에 다시 반영")
+    void rebuild_ReplaysChangesDuringLoad() throws Exception {
+        // given: 조회가 끝나기 전에 계약 2가 커밋됨 (조회 결과에는 없음)
+        MapSynchronizer synchronizer = new MapSynchronizer(Map.of(1L, "첫 계약"));
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(synchronizer::rebuild);
+        assertThat(synchronizer.loading.await(5, TimeUnit.SECONDS)).isTrue();
+        
+        // when
+        synchronizer.put(2L, "조회 후 커밋된 계약");
+        synchronizer.remove(1L);
+        synchronizer.proceed.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+        
+        // then
+        assertThat(synchronizer.installed).containsOnlyKeys(2L);
+    }
+    
+    @Test
+    @DisplayName("조회가 실패하면 기존 구조를 유지하고 이후 변경은 바로 반영")
+    void rebuild_KeepsCurrentWhenLoadFails() {
+        // given
+        MapSynchronizer synchronizer = new MapSynchronizer(null);
+        synchronizer.proceed.countDown();
+        synchronizer.put(1L, "기존 계약");
+        
+        // when
+        assertThatThrownBy(synchronizer::rebuild).isInstanceOf(IllegalStateException.class);
+        synchronizer.put(2L, "새 계약");
+        
+        // then
+        assertThat(synchronizer.installed).containsOnlyKeys(1L, 2L);
+    }
+    
+    /**
+     * 계약 ID -> 이름 맵을 유지하는 동기화 (조회는 proceed가 열릴 때까지 대기)
+     */
+    private static class MapSynchronizer extends SnapshotSynchronizer<Map<Long, String>> {
+        
+        private final Map<Long, String> snapshot;
+        private final CountDownLatch loading = new CountDownLatch(1);
+        private final CountDownLatch proceed = new CountDownLatch(1);
+        private volatile Map<Long, String> installed = new ConcurrentHashMap<>();
+        
+        MapSynchronizer(Map<Long, String> snapshot) {
+            this.snapshot = snapshot;
+        }
+        
+        void put(Long id, String name) {
+            dispatch(() -> installed.put(id, name));
+        }
+        
+        void remove(Long id) {
+            dispatch(() -> installed.remove(id));
+        }
+        
+        @Override
+        protected Map<Long, String> load() {
+            loading.countDown();
+            try {
+                proceed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (snapshot == null) {
+                throw new IllegalStateException("조회 실패");
+            }
+            return snapshot;
+        }
+        
+        @Override
+        protected void install(Map<Long, String> loaded) {
+            installed = new ConcurrentHashMap<>(loaded);
+        }
+        
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+        }
+        
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+        }
+        
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+        }
+        
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.advertising.common.time;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BusinessClock 테스트")
+class BusinessClockTest {
+    
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    
+    private MutableClock clock;
+    private BusinessClock businessClock;
+    
+    @BeforeEach
+    void setUp() {
+        // 서울 2026-03-01 23:59:59 (UTC 14:59:59)
+        clock = new MutableClock(Instant.parse("2026-03-01T14:59:59Z"), SEOUL);
+        businessClock = new BusinessClock(clock);
+    }
+    
+    @Test
+    @DisplayName("영업일은 UTC 날짜가 아닌 영업일 시간대 기준")
+    void today_UsesBusinessZone() {
+        assertThat(businessClock.today()).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(businessClock.now()).isEqualTo(LocalDateTime.of(2026, 3, 1, 23, 59, 59));
+        assertThat(businessClock.zone()).isEqualTo(SEOUL);
+    }
+    
+    @Test
+    @DisplayName("자정이 지나면 다음 영업일로 넘어가고, 시각을 되돌리면 다시 계산")
+    void today_RollsOverAtMidnight() {
+        // when & then
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(businessClock.today()).isEqualTo(LocalDate.of(2026, 3, 2));
+        
+        clock.advance(Duration.ofHours(23).plusMinutes(59).plusSeconds(59));
+        assertThat(businessClock.today()).isEqualTo(LocalDate.of(2026, 3, 2));
+        
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(businessClock.today()).isEqualTo(LocalDate.of(2026, 3, 3));
+        
+        clock.set(Instant.parse("2026-02-28T00:00:00Z"));
+        assertThat(businessClock.today()).isEqualTo(LocalDate.of(2026, 2, 28));
+    }
+    
+    @Test
+    @DisplayName("일광 절약 시간 전환일도 그 시간대의 자정에 넘어감")
+    void today_HandlesDaylightSavingTransition() {
+        // given: 뉴욕 2026-03-08은 02시가 03시로 건너뛰어 23시간
+        ZoneId newYork = ZoneId.of("America/New_York");
+        clock = new MutableClock(LocalDate.of(2026, 3, 8).atStartOfDay(newYork).toInstant(), newYork);
+        businessClock = new BusinessClock(clock);
+        
+        // when & then
+        clock.advance(Duration.ofHours(22).plusMinutes(59));
+        assertThat(businessClock.today()).isEqualTo(LocalDate.of(2026, 3, 8));
+        
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(businessClock.today()).isEqualTo(LocalDate.of(2026, 3, 9));
+    }
+}
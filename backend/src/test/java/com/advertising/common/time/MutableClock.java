@@ -0,0 +1,42 @@
+package com.advertising.common.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * 테스트에서 시간을 직접 이동시킬 수 있는 Clock
+ */
+public class MutableClock extends Clock {
+    private final ZoneId zone;
+    private volatile Instant now;
+    
+    public MutableClock(Instant now, ZoneId zone) {
+        this.now = now;
+        this.zone = zone;
+    }
+    
+    public void advance(Duration duration) {
+        now = now.plus(duration);
+    }
+    
+    public void set(Instant instant) {
+        now = instant;
+    }
+    
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+    
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+    
+    @Override
+    public Instant instant() {
+        return now;
+    }
+}
@@ -137,7 +137,7 @@ class ContractTest {
                 .build();
         
         // when & then
-        assertTrue(contract.isStartDateValid());
+        assertTrue(contract.isStartDateValid(LocalDate.now()));
     }
     
     @Test
@@ -154,7 +154,7 @@ class ContractTest {
                 .build();
         
         // when & then
-        assertFalse(contract.isStartDateValid());
+        assertFalse(contract.isStartDateValid(LocalDate.now()));
     }
     
     @Test
@@ -171,7 +171,7 @@ class ContractTest {
                 .build();
         
         // when
-        contract.updateStatus();
+        contract.updateStatus(LocalDate.now());
         
         // then
         assertEquals(ContractStatus.PENDING, contract.getStatus());
@@ -191,7 +191,7 @@ class ContractTest {
                 .build();
         
         // when
-        contract.updateStatus();
+        contract.updateStatus(LocalDate.now());
         
         // then
         assertEquals(ContractStatus.IN_PROGRESS, contract.getStatus());
@@ -211,12 +211,53 @@ class ContractTest {
                 .build();
         
         // when
-        contract.updateStatus();
+        contract.updateStatus(LocalDate.now());
         
         // then
         assertEquals(ContractStatus.COMPLETED, contract.getStatus());
     }
     
+    @Test
+    @DisplayName("영업일 기준 상태 판정 - 엔티티를 변경하지 않음")
+    void statusOn_DoesNotMutate() {
+        // given
+        LocalDate today = LocalDate.of(2026, 3, 1);
+        Contract contract = Contract.builder()
+                .company(company)
+                .product(product)
+                .startDate(today)
+                .endDate(today.plusDays(28))
+                .amount(new BigDecimal("100000"))
+                .status(ContractStatus.PENDING)
+                .build();
+        
+        // when & then
+        assertEquals(ContractStatus.PENDING, contract.statusOn(today.minusDays(1)));
+        assertEquals(ContractStatus.IN_PROGRESS, contract.statusOn(today));
+        assertEquals(ContractStatus.IN_PROGRESS, contract.statusOn(today.plusDays(28)));
+        assertEquals(ContractStatus.COMPLETED, contract.statusOn(today.plusDays(29)));
+        assertEquals(ContractStatus.PENDING, contract.getStatus());
+    }
+    
+    @Test
+    @DisplayName("영업일 기준 상태 판정 - 취소된 계약은 기간과 무관하게 취소 상태")
+    void statusOn_KeepsCancelled() {
+        // given
+        LocalDate today = LocalDate.of(2026, 3, 1);
+        Contract contract = Contract.builder()
+                .company(company)
+                .product(product)
+                .startDate(today.minusDays(10))
+                .endDate(today.plusDays(18))
+                .amount(new BigDecimal("100000"))
+                .status(ContractStatus.CANCELLED)
+                .build();
+        
+        // when & then
+        assertEquals(ContractStatus.CANCELLED, contract.statusOn(today));
+        assertEquals(ContractStatus.CANCELLED, contract.statusOn(today.plusDays(30)));
+    }
+    
     @Test
     @DisplayName("계약 취소 - 정상 케이스")
     void cancel_Success() {
@@ -231,7 +272,7 @@ class ContractTest {
                 .build();
         
         // when
-        contract.cancel();
+        contract.cancel(LocalDate.now());
         
         // then
         assertEquals(ContractStatus.CANCELLED, contract.getStatus());
@@ -251,6 +292,24 @@ class ContractTest {
                 .build();
         
         // when & then
-        assertThrows(IllegalStateException.class, contract::cancel);
+        assertThrows(IllegalStateException.class, () -> contract.cancel(LocalDate.now()));
+    }
+    
+    @Test
+    @DisplayName("계약 취소 - 종료일이 지난 계약은 저장된 상태가 바뀌기 전이라도 취소 불가")
+    void cancel_Fail_WhenEndedButNotTransitioned() {
+        // given: 상태 전환 배치가 돌기 전이라 저장된 상태는 아직 진행중
+        Contract contract = Contract.builder()
+                .company(company)
+                .product(product)
+                .startDate(LocalDate.now().minusDays(30))
+                .endDate(LocalDate.now().minusDays(1))
+                .amount(new BigDecimal("100000"))
+                .status(ContractStatus.IN_PROGRESS)
+                .build();
+        
+        // when & then
+        assertThrows(IllegalStateException.class, () -> contract.cancel(LocalDate.now()));
+        assertEquals(ContractStatus.IN_PROGRESS, contract.getStatus());
     }
 }
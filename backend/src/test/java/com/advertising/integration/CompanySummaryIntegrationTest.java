@@ -0,0 +1,187 @@
+package com.advertising.integration;
+
+import com.advertising.application.dto.ContractRequest;
+import com.advertising.application.scheduler.ContractStatusTransitionJob;
+import com.advertising.application.summary.CompanyContractSummaries.ReconcileResult;
+import com.advertising.application.summary.CompanyContractSummarySynchronizer;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 업체별 계약 집계 통합 테스트
+ * 집계는 커밋 후에 반영되므로 테스트 트랜잭션 없이 실행하고, 다른 테스트와 집계가 섞이지 않도록 별도 DB를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:summarydb;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("업체별 계약 집계 통합 테스트")
+class CompanySummaryIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ContractRepository contractRepository;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private ContractStatusTransitionJob statusTransitionJob;
+    
+    @Autowired
+    private CompanyContractSummarySynchronizer summarySynchronizer;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Company company;
+    private Product product;
+    
+    @BeforeEach
+    void setUp() {
+        company = companyRepository.save(Company.builder()
+                .companyNumber("80001")
+                .name("집계 테스트 호텔")
+                .type("호텔")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("노출 보장형 광고")
+                .description("테스트 상품")
+                .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        contractRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        summarySynchronizer.reconcile();
+    }
+    
+    @Test
+    @DisplayName("계약 생성, 취소, 상태 전환이 커밋되면 업체 집계에 반영")
+    void summary_FollowsContractChanges() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        long first = createContract(startDate.plusDays(80), "100000");
+        createContract(startDate, "200000");
+        createContract(startDate.plusDays(40), "300000");
+        
+        getSummary()
+                .andExpect(jsonPath("$.activeContractCount").value(3))
+                .andExpect(jsonPath("$.committedAmount").value(600000))
+                .andExpect(jsonPath("$.statusCounts.PENDING").value(3));
+        
+        // when: 한 건 취소 후 시작일 기준 상태 전환
+        mockMvc.perform(post("/contracts/{id}/cancel", first))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+        statusTransitionJob.transition(startDate);
+        
+        // then
+        getSummary()
+                .andExpect(jsonPath("$.activeContractCount").value(2))
+                .andExpect(jsonPath("$.totalContractCount").value(3))
+                .andExpect(jsonPath("$.committedAmount").value(500000))
+                .andExpect(jsonPath("$.statusCounts.PENDING").value(1))
+                .andExpect(jsonPath("$.statusCounts.IN_PROGRESS").value(1))
+                .andExpect(jsonPath("$.statusCounts.CANCELLED").value(1))
+                .andExpect(jsonPath("$.statusCounts.COMPLETED").value(0));
+    }
+    
+    @Test
+    @DisplayName("이벤트 없이 바뀐 값 - 재집계가 DB 기준으로 바로잡음")
+    void reconcile_CorrectsChangesMadeOutsideTheApplication() throws Exception {
+        // given: 애플리케이션을 거치지 않고 상태를 바꿈
+        long id = createContract(LocalDate.now().plusDays(1), "100000");
+        jdbcTemplate.update("UPDATE contract SET status = 'CANCELLED' WHERE id = ?", id);
+        getSummary().andExpect(jsonPath("$.activeContractCount").value(1));
+        
+        // when
+        ReconcileResult result = summarySynchronizer.reconcile();
+        
+        // then
+        assertThat(result.corrected()).isEqualTo(1);
+        getSummary()
+                .andExpect(jsonPath("$.activeContractCount").value(0))
+                .andExpect(jsonPath("$.committedAmount").value(0))
+                .andExpect(jsonPath("$.statusCounts.CANCELLED").value(1));
+    }
+    
+    @Test
+    @DisplayName("이미 종료된 계약 취소 - 400 응답, 집계 변화 없음")
+    void cancel_CompletedContract_IsRejected() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        long id = createContract(startDate, "100000");
+        statusTransitionJob.transition(startDate.plusDays(40));
+        
+        // when & then
+        mockMvc.perform(post("/contracts/{id}/cancel", id))
+                .andExpect(status().isBadRequest());
+        getSummary()
+                .andExpect(jsonPath("$.activeContractCount").value(0))
+                .andExpect(jsonPath("$.statusCounts.COMPLETED").value(1))
+                .andExpect(jsonPath("$.committedAmount").value(100000));
+    }
+    
+    @Test
+    @DisplayName("존재하지 않는 업체 - COMPANY_NOT_FOUND")
+    void summary_UnknownCompany() throws Exception {
+        mockMvc.perform(get("/companies/{id}/summary", 999_999L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("COMPANY_NOT_FOUND"));
+    }
+    
+    private long createContract(LocalDate startDate, String amount) throws Exception {
+        ContractRequest request = ContractRequest.builder()
+                .companyId(company.getId())
+                .productId(product.getId())
+                .startDate(startDate)
+                .endDate(startDate.plusDays(30))
+                .amount(new BigDecimal(amount))
+                .build();
+        String body = mockMvc.perform(post("/contracts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+    
+    private ResultActions getSummary() throws Exception {
+        return mockMvc.perform(get("/companies/{id}/summary", company.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companyId").value(company.getId()));
+    }
+}
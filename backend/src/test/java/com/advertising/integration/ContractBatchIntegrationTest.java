@@ -0,0 +1,159 @@
+package com.advertising.integration;
+
+import com.advertising.application.dto.ContractBatchRequest;
+import com.advertising.application.dto.ContractRequest;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 계약 일괄 생성 통합 테스트
+ * 일괄 생성한 계약이 JDBC 배치로 저장되는지(계약 수만큼 INSERT 문을 준비하지 않는지) 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("계약 일괄 생성 통합 테스트")
+class ContractBatchIntegrationTest {
+    
+    private static final int CONTRACT_COUNT = 120;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ContractRepository contractRepository;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics statistics;
+    private Company company;
+    private Product product;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        company = companyRepository.save(Company.builder()
+                .companyNumber("90001")
+                .name("일괄 생성 호텔")
+                .type("호텔")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("노출 보장형 광고")
+                .description("테스트 상품")
+                .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        contractRepository.deleteAllInBatch();
+        companyRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+    
+    @Test
+    @DisplayName("일괄 생성 - 모든 계약을 JDBC 배치로 저장")
+    void createContracts_UsesJdbcBatching() throws Exception {
+        // given
+        List<ContractRequest> contracts = new ArrayList<>();
+        for (int i = 0; i < CONTRACT_COUNT; i++) {
+            contracts.add(request(i, new BigDecimal(100000 + i)));
+        }
+        statistics.clear();
+        
+        // when
+        mockMvc.perform(post("/contracts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ContractBatchRequest.builder()
+                                .contracts(contracts)
+                                .build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(CONTRACT_COUNT))
+                .andExpect(jsonPath("$.succeeded").value(CONTRACT_COUNT))
+                .andExpect(jsonPath("$.results[0].contract.contractNumber").exists());
+        
+        // then - INSERT는 batch_size(50) 단위로 묶이고, ID는 시퀀스에서 50개씩 받아옴
+        assertThat(statistics.getEntityStatistics(Contract.class.getName()).getInsertCount()).isEqualTo(CONTRACT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+        assertThat(contractRepository.count()).isEqualTo(CONTRACT_COUNT);
+    }
+    
+    @Test
+    @DisplayName("일괄 생성 - allOrNothing이면 실패 항목이 있을 때 아무것도 저장하지 않음")
+    void createContracts_AllOrNothing() throws Exception {
+        // given
+        ContractBatchRequest request = ContractBatchRequest.builder()
+                .contracts(List.of(request(0, new BigDecimal("100000")), request(1, new BigDecimal("5000"))))
+                .allOrNothing(true)
+                .build();
+        
+        // when & then
+        mockMvc.perform(post("/contracts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(0))
+                .andExpect(jsonPath("$.results[0].errorCode").value("BATCH_ABORTED"))
+                .andExpect(jsonPath("$.results[1].errorCode").value("VALIDATION_ERROR"));
+        assertThat(contractRepository.count()).isZero();
+    }
+    
+    @Test
+    @DisplayName("일괄 생성 - 빈 목록은 요청 자체를 거절")
+    void createContracts_RejectsEmptyBatch() throws Exception {
+        mockMvc.perform(post("/contracts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"contracts\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
+    
+    /**
+     * 같은 업체, 상품이므로 순번마다 기간이 겹치지 않게 만듭니다.
+     */
+    private ContractRequest request(int sequence, BigDecimal amount) {
+        return ContractRequest.builder()
+                .companyId(company.getId())
+                .productId(product.getId())
+                .startDate(LocalDate.now().plusDays(1 + 29L * sequence))
+                .endDate(LocalDate.now().plusDays(29 + 29L * sequence))
+                .amount(amount)
+                .build();
+    }
+}
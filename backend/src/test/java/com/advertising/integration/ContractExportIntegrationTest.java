@@ -0,0 +1,150 @@
+package com.advertising.integration;
+
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("계약 내보내기 통합 테스트")
+class ContractExportIntegrationTest {
+    
+    private static final int CONTRACT_COUNT = 2_500;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ContractRepository contractRepository;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @BeforeEach
+    void setUp() {
+        Company hotel = companyRepository.save(Company.builder()
+                .companyNumber("95001")
+                .name("내보내기 호텔, \"본점\"")
+                .type("호텔")
+                .build());
+        Company pension = companyRepository.save(Company.builder()
+                .companyNumber("95002")
+                .name("내보내기 펜션")
+                .type("펜션")
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .name("노출 보장형 광고")
+                .description("테스트 상품")
+                .build());
+        
+        List<Contract> contracts = new ArrayList<>();
+        for (int i = 0; i < CONTRACT_COUNT; i++) {
+            contracts.add(Contract.builder()
+                    .contractNumber("CNT-20260125-E" + i)
+                    .company(i % 5 == 0 ? pension : hotel)
+                    .product(product)
+                    .startDate(LocalDate.now().plusDays(1))
+                    .endDate(LocalDate.now().plusDays(29))
+                    .amount(new BigDecimal("100000"))
+                    .status(i % 10 == 0 ? ContractStatus.CANCELLED : ContractStatus.PENDING)
+                    .build());
+        }
+        contractRepository.saveAll(contracts);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        contractRepository.deleteAllInBatch();
+        companyRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+    
+    @Test
+    @DisplayName("CSV 내보내기 - 헤더와 전체 행을 쓰고 특수문자는 따옴표로 감쌈")
+    void export_Csv() throws Exception {
+        // when
+        String body = perform(get("/contracts/export"));
+        
+        // then
+        String[] lines = body.split("\n");
+        assertThat(lines[0]).startsWith("\uFEFFid,contractNumber,");
+        assertThat(lines).hasSize(CONTRACT_COUNT + 1);
+        assertThat(body).contains("\"내보내기 호텔, \"\"본점\"\"\"");
+    }
+    
+    @Test
+    @DisplayName("NDJSON 내보내기 - 목록 조회와 같은 필터 적용")
+    void export_NdjsonWithFilters() throws Exception {
+        // when
+        String body = perform(get("/contracts/export")
+                .param("format", "ndjson")
+                .param("companyName", "펜션")
+                .param("statuses", "PENDING"));
+        
+        // then - 펜션 계약 500건 중 취소(10의 배수) 250건 제외
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(250);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("company").get("name").asText()).isEqualTo("내보내기 펜션");
+        assertThat(first.get("status").asText()).isEqualTo("PENDING");
+        
+        // 한 줄은 계약 상세 조회 응답과 같음
+        String detail = mockMvc.perform(get("/contracts/" + first.get("id").asLong()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(first).isEqualTo(objectMapper.readTree(detail));
+    }
+    
+    @Test
+    @DisplayName("지원하지 않는 형식은 스트리밍 전에 거절")
+    void export_RejectsUnknownFormat() throws Exception {
+        mockMvc.perform(get("/contracts/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+    }
+    
+    private String perform(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        MvcResult started = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", startsWith("attachment")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+}
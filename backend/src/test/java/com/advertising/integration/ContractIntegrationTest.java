@@ -3,11 +3,14 @@ package com.advertising.integration;
 import com.advertising.application.dto.ContractRequest;
 import com.advertising.application.dto.ContractResponse;
 import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Contract;
 import com.advertising.domain.entity.Product;
 import com.advertising.domain.enums.ContractStatus;
 import com.advertising.domain.repository.CompanyRepository;
 import com.advertising.domain.repository.ContractRepository;
 import com.advertising.domain.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +24,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +44,9 @@ class ContractIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @Autowired
     private ContractRepository contractRepository;
     
@@ -107,4 +119,121 @@ class ContractIntegrationTest {
                 .andExpect(jsonPath("$.page").value(0))
                 .andExpect(jsonPath("$.size").value(5));
     }
+    
+    @Test
+    @DisplayName("상태 필터 - 저장된 상태가 아닌 오늘 날짜 기준 기간으로 판정하고 건수와 목록이 일치")
+    void getContracts_FiltersStatusByDate() throws Exception {
+        // given - 상태 전환 배치가 아직 반영되지 않은 계약 포함
+        LocalDate today = LocalDate.now();
+        saveContract("CNT-20260125-901", today.plusDays(1), today.plusDays(29), ContractStatus.PENDING);
+        saveContract("CNT-20260125-902", today.minusDays(3), today.plusDays(25), ContractStatus.PENDING);
+        saveContract("CNT-20260125-903", today.minusDays(10), today.plusDays(18), ContractStatus.IN_PROGRESS);
+        saveContract("CNT-20260125-904", today.minusDays(40), today.minusDays(1), ContractStatus.IN_PROGRESS);
+        saveContract("CNT-20260125-905", today.minusDays(5), today.plusDays(23), ContractStatus.CANCELLED);
+        
+        // when & then
+        mockMvc.perform(get("/contracts").param("statuses", "IN_PROGRESS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].contractNumber").value("CNT-20260125-902"))
+                .andExpect(jsonPath("$.content[1].contractNumber").value("CNT-20260125-903"));
+        
+        mockMvc.perform(get("/contracts").param("statuses", "PENDING"))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].contractNumber").value("CNT-20260125-901"));
+        
+        mockMvc.perform(get("/contracts").param("statuses", "COMPLETED,CANCELLED"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+        
+        mockMvc.perform(get("/contracts").param("cursor", "").param("statuses", "IN_PROGRESS"))
+                .andExpect(jsonPath("$.content.length()").value(2));
+    }
+    
+    @Test
+    @DisplayName("조건부 조회 - 같은 ETag로 다시 요청하면 304")
+    void conditionalGet_ReturnsNotModified() throws Exception {
+        // given
+        saveContract("CNT-20260125-951", LocalDate.now().plusDays(1), LocalDate.now().plusDays(29), ContractStatus.PENDING);
+        Long id = contractRepository.findAll().get(0).getId();
+        
+        for (String path : List.of("/contracts/" + id, "/companies", "/products")) {
+            String eTag = mockMvc.perform(get(path))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists("Cache-Control"))
+                    .andReturn().getResponse().getHeader("ETag");
+            
+            // when & then
+            assertThat(eTag).isNotBlank();
+            mockMvc.perform(get(path).header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+            mockMvc.perform(get(path).header("If-None-Match", "\"stale\""))
+                    .andExpect(status().isOk());
+        }
+    }
+    
+    @Test
+    @DisplayName("커서 기반 계약 목록 조회 - 마지막 페이지까지 중복 없이 정렬 순서대로 조회")
+    void getContractsByCursor_IntegrationTest() throws Exception {
+        // given - 시작일/종료일이 같은 계약을 섞어 ID가 정렬 기준이 되는 경우를 포함
+        LocalDate base = LocalDate.now().plusDays(1);
+        for (int i = 0; i < 7; i++) {
+            contractRepository.save(Contract.builder()
+                    .contractNumber("CNT-20260125-80" + i)
+                    .company(company)
+                    .product(product)
+                    .startDate(base.plusDays(i / 2))
+                    .endDate(base.plusDays(28 + i / 2))
+                    .amount(new BigDecimal("100000"))
+                    .status(ContractStatus.PENDING)
+                    .build());
+        }
+        List<Long> expected = contractRepository.findAll().stream()
+                .sorted(Comparator.comparing(Contract::getStartDate)
+                        .thenComparing(Contract::getEndDate)
+                        .thenComparing(Contract::getId)
+                        .reversed())
+                .map(Contract::getId)
+                .collect(Collectors.toList());
+        
+        // when
+        List<Long> visited = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            String body = mockMvc.perform(get("/contracts").param("cursor", cursor).param("size", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode json = objectMapper.readTree(body);
+            json.get("content").forEach(node -> visited.add(node.get("id").asLong()));
+            cursor = json.hasNonNull("nextCursor") ? json.get("nextCursor").asText() : null;
+            pages++;
+        }
+        
+        // then
+        assertThat(visited).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("커서 기반 계약 목록 조회 - 잘못된 커서")
+    void getContractsByCursor_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/contracts").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+    }
+    
+    private void saveContract(String contractNumber, LocalDate startDate, LocalDate endDate, ContractStatus status) {
+        contractRepository.save(Contract.builder()
+                .contractNumber(contractNumber)
+                .company(company)
+                .product(product)
+                .startDate(startDate)
+                .endDate(endDate)
+                .amount(new BigDecimal("100000"))
+                .status(status)
+                .build());
+    }
 }
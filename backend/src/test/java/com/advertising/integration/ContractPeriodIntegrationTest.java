@@ -0,0 +1,181 @@
+package com.advertising.integration;
+
+import com.advertising.application.dto.ContractRequest;
+import com.advertising.application.period.ContractPeriodSynchronizer;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 계약 기간 인덱스 통합 테스트
+ * 인덱스는 커밋 후에 반영되므로 테스트 트랜잭션 없이 실행하고, 다른 테스트와 섞이지 않도록 별도 DB를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:perioddb;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("계약 기간 인덱스 통합 테스트")
+class ContractPeriodIntegrationTest {
+    
+    private static final int THREADS = 16;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ContractRepository contractRepository;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private ContractPeriodSynchronizer periodSynchronizer;
+    
+    private Company company;
+    private Company otherCompany;
+    private Product product;
+    
+    @BeforeEach
+    void setUp() {
+        company = companyRepository.save(Company.builder()
+                .companyNumber("70001")
+                .name("기간 테스트 호텔")
+                .type("호텔")
+                .build());
+        otherCompany = companyRepository.save(Company.builder()
+                .companyNumber("70002")
+                .name("기간 테스트 펜션")
+                .type("펜션")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("노출 보장형 광고")
+                .description("테스트 상품")
+                .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        contractRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        periodSynchronizer.rebuild();
+    }
+    
+    @Test
+    @DisplayName("집행 계약, 기간 중복 조회와 중복 생성 거절 - 취소하면 인덱스에서 빠짐")
+    void periodIndex_FollowsContractChanges() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        long first = idOf(createContract(company, startDate, startDate.plusDays(30)));
+        long second = idOf(createContract(otherCompany, startDate.plusDays(10), startDate.plusDays(40)));
+        
+        // when & then
+        mockMvc.perform(get("/contracts/live")
+                        .param("productId", product.getId().toString())
+                        .param("date", startDate.plusDays(15).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains((int) first, (int) second)));
+        mockMvc.perform(get("/contracts/overlaps")
+                        .param("companyId", company.getId().toString())
+                        .param("productId", product.getId().toString())
+                        .param("startDate", startDate.plusDays(30).toString())
+                        .param("endDate", startDate.plusDays(60).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains((int) first)));
+        createContract(company, startDate.plusDays(30), startDate.plusDays(60))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("OVERLAPPING_CONTRACT"));
+        
+        // 취소 후에는 같은 기간으로 다시 계약할 수 있음
+        mockMvc.perform(post("/contracts/{id}/cancel", first))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/contracts/live")
+                        .param("productId", product.getId().toString())
+                        .param("date", startDate.plusDays(15).toString()))
+                .andExpect(jsonPath("$[*].id", contains((int) second)));
+        createContract(company, startDate.plusDays(30), startDate.plusDays(60))
+                .andExpect(status().isOk());
+    }
+    
+    @Test
+    @DisplayName("겹치는 계약을 동시에 요청해도 한 건만 생성")
+    void createContract_OnlyOneOfConcurrentOverlapsSucceeds() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            LocalDate start = startDate.plusDays(i);
+            tasks.add(() -> createContract(company, start, start.plusDays(30))
+                    .andReturn().getResponse().getStatus());
+        }
+        
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Integer> statuses = new ArrayList<>();
+        try {
+            for (Future<Integer> future : executor.invokeAll(tasks, 1, TimeUnit.MINUTES)) {
+                statuses.add(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        // then
+        assertThat(statuses).filteredOn(status -> status == 200).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status == 400).hasSize(THREADS - 1);
+        assertThat(contractRepository.count()).isEqualTo(1);
+    }
+    
+    private ResultActions createContract(Company owner, LocalDate startDate, LocalDate endDate) throws Exception {
+        ContractRequest request = ContractRequest.builder()
+                .companyId(owner.getId())
+                .productId(product.getId())
+                .startDate(startDate)
+                .endDate(endDate)
+                .amount(new BigDecimal("100000"))
+                .build();
+        return mockMvc.perform(post("/contracts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+    
+    private long idOf(ResultActions result) throws Exception {
+        String body = result.andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
@@ -0,0 +1,136 @@
+package com.advertising.integration;
+
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Contract;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 요청당 실행되는 SQL 수 검증
+ * 목록/상세 조회에서 업체, 상품 지연 로딩으로 인한 N+1 쿼리가 발생하지 않는지,
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 값 객체로만 조회하는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("계약 조회 쿼리 수 테스트")
+class ContractQueryCountTest {
+    
+    private static final int CONTRACT_COUNT = 12;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ContractRepository contractRepository;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics statistics;
+    private List<Contract> contracts;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        
+        Product product = productRepository.save(Product.builder()
+                .name("노출 보장형 광고")
+                .description("테스트 상품")
+                .build());
+        
+        // 업체를 계약마다 다르게 두어 지연 로딩 시 업체 조회가 계약 수만큼 발생하도록 구성
+        contracts = new ArrayList<>();
+        for (int i = 0; i < CONTRACT_COUNT; i++) {
+            Company company = companyRepository.save(Company.builder()
+                    .companyNumber("8000" + i)
+                    .name("쿼리 테스트 호텔 " + i)
+                    .type("호텔")
+                    .build());
+            contracts.add(contractRepository.save(Contract.builder()
+                    .contractNumber("CNT-20260125-9" + String.format("%03d", i))
+                    .company(company)
+                    .product(product)
+                    .startDate(LocalDate.now().plusDays(i + 1))
+                    .endDate(LocalDate.now().plusDays(i + 29))
+                    .amount(new BigDecimal("100000"))
+                    .status(ContractStatus.PENDING)
+                    .build()));
+        }
+        
+        statistics.clear();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        contractRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+    
+    @Test
+    @DisplayName("계약 목록 조회 - 페이지 조회 1회 + count 1회")
+    void getContracts_ExecutesPageAndCountQueryOnly() throws Exception {
+        mockMvc.perform(get("/contracts").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.content[0].company.name").exists())
+                .andExpect(jsonPath("$.content[0].product.name").exists())
+                .andExpect(jsonPath("$.totalElements").value(CONTRACT_COUNT));
+        
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("계약 목록 조회 - 업체명 필터가 있어도 쿼리 수는 동일")
+    void getContracts_WithCompanyNameFilter_ExecutesTwoQueries() throws Exception {
+        mockMvc.perform(get("/contracts").param("companyName", "쿼리 테스트").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5));
+        
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("계약 상세 조회 - 업체, 상품 포함 1회")
+    void getContractById_ExecutesSingleQuery() throws Exception {
+        mockMvc.perform(get("/contracts/{id}", contracts.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.company.name").value("쿼리 테스트 호텔 0"))
+                .andExpect(jsonPath("$.product.name").value("노출 보장형 광고"));
+        
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
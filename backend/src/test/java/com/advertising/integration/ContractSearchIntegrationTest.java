@@ -0,0 +1,168 @@
+package com.advertising.integration;
+
+import com.advertising.application.dto.ContractRequest;
+import com.advertising.application.search.ContractSearchIndexSynchronizer;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 계약 검색 통합 테스트
+ * 검색 인덱스는 커밋 후에 반영되므로 테스트 트랜잭션 없이 실행하고, 다른 테스트와 인덱스가 섞이지 않도록 별도 DB를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:contractsearchdb;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("계약 검색 통합 테스트")
+class ContractSearchIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ContractRepository contractRepository;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private ContractSearchIndexSynchronizer searchSynchronizer;
+    
+    private Company hotel;
+    private Company pension;
+    private Product product;
+    
+    @BeforeEach
+    void setUp() {
+        hotel = companyRepository.save(Company.builder()
+                .companyNumber("90001")
+                .name("검색 테스트 호텔")
+                .type("호텔")
+                .build());
+        pension = companyRepository.save(Company.builder()
+                .companyNumber("90002")
+                .name("검색 테스트 펜션")
+                .type("펜션")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("노출 보장형 광고")
+                .description("테스트 상품")
+                .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        contractRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        searchSynchronizer.rebuild();
+    }
+    
+    @Test
+    @DisplayName("업체명, 업체번호, 계약번호, 상품명 검색 - 커밋된 계약을 업체, 상품과 함께 응답")
+    void search_FindsCommittedContracts() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        JsonNode hotelContract = createContract(hotel, startDate.plusDays(10));
+        createContract(pension, startDate);
+        
+        // when & then
+        mockMvc.perform(get("/contracts/search").param("keyword", "호텔"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(hotelContract.get("id").asLong()))
+                .andExpect(jsonPath("$.content[0].company.name").value("검색 테스트 호텔"))
+                .andExpect(jsonPath("$.content[0].product.name").value("노출 보장형 광고"));
+        mockMvc.perform(get("/contracts/search").param("keyword", "90002"))
+                .andExpect(jsonPath("$.content[*].company.name", contains("검색 테스트 펜션")));
+        mockMvc.perform(get("/contracts/search").param("keyword", hotelContract.get("contractNumber").asText()))
+                .andExpect(jsonPath("$.content[*].id", contains(hotelContract.get("id").intValue())));
+        mockMvc.perform(get("/contracts/search").param("keyword", "ㄱㅅ ㅌㅅㅌ 광고").param("size", "1"))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.content[0].company.name").value("검색 테스트 호텔"));
+    }
+    
+    @Test
+    @DisplayName("계약 취소, 업체명 변경이 커밋되면 검색에 반영")
+    void search_FollowsContractAndCompanyChanges() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        long id = createContract(hotel, startDate).get("id").asLong();
+        createContract(pension, startDate);
+        
+        // when
+        mockMvc.perform(post("/contracts/{id}/cancel", id))
+                .andExpect(status().isOk());
+        companyRepository.save(Company.builder()
+                .id(hotel.getId())
+                .companyNumber(hotel.getCompanyNumber())
+                .name("검색 테스트 리조트")
+                .type(hotel.getType())
+                .createdAt(hotel.getCreatedAt())
+                .build());
+        
+        // then
+        mockMvc.perform(get("/contracts/search").param("keyword", "호텔"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+        mockMvc.perform(get("/contracts/search").param("keyword", "리조트").param("statuses", "CANCELLED"))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].status").value("CANCELLED"));
+        mockMvc.perform(get("/contracts/search").param("keyword", "검색 테스트").param("statuses", "PENDING"))
+                .andExpect(jsonPath("$.content[*].company.name", contains("검색 테스트 펜션")));
+    }
+    
+    @Test
+    @DisplayName("빈 검색어 - 빈 페이지")
+    void search_BlankKeyword() throws Exception {
+        createContract(hotel, LocalDate.now().plusDays(1));
+        
+        mockMvc.perform(get("/contracts/search").param("keyword", " "))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0))
+                .andExpect(jsonPath("$.content", hasSize(0)));
+    }
+    
+    private JsonNode createContract(Company company, LocalDate startDate) throws Exception {
+        ContractRequest request = ContractRequest.builder()
+                .companyId(company.getId())
+                .productId(product.getId())
+                .startDate(startDate)
+                .endDate(startDate.plusDays(30))
+                .amount(new BigDecimal("100000"))
+                .build();
+        String body = mockMvc.perform(post("/contracts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,133 @@
+package com.advertising.integration;
+
+import com.advertising.application.dto.ContractRequest;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 지표 통합 테스트
+ * 서비스 타이머, 에러 코드 카운터, 중복 요청 수, 캐시, 커넥션 풀, 읽기 라우팅, Hibernate 지표가 Prometheus 형식으로 노출되는지 확인합니다.
+ * 지표 수집 설정 때문에 별도 컨텍스트가 뜨므로, 다른 통합 테스트의 스키마(시퀀스 포함)를 다시 만들지 않도록 전용 DB를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metricsdb")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@DisplayName("지표 통합 테스트")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Company company;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        company = companyRepository.save(Company.builder()
+                .companyNumber("95001")
+                .name("지표 호텔")
+                .type("호텔")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("노출 보장형 광고")
+                .description("테스트 상품")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        contractRepository.deleteAllInBatch();
+        companyRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Prometheus 엔드포인트 - 서비스, 에러, 중복, 캐시, 커넥션 풀, Hibernate 지표 노출")
+    void prometheus_ExposesApplicationMetrics() throws Exception {
+        // given
+        ContractRequest request = ContractRequest.builder()
+                .companyId(company.getId())
+                .productId(product.getId())
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(30))
+                .amount(new BigDecimal("100000"))
+                .build();
+        String body = objectMapper.writeValueAsString(request);
+
+        mockMvc.perform(post("/contracts").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/contracts").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("DUPLICATE_REQUEST"));
+
+        // when
+        String metrics = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertThat(valueOf(metrics, "advertising_service_seconds_count",
+                "class=\"ContractService\"", "method=\"createContract\"", "outcome=\"SUCCESS\"")).isEqualTo(1.0);
+        assertThat(valueOf(metrics, "advertising_service_seconds_count",
+                "method=\"createContract\"", "error=\"DUPLICATE_REQUEST\"")).isEqualTo(1.0);
+        assertThat(valueOf(metrics, "advertising_errors_total", "code=\"DUPLICATE_REQUEST\"")).isGreaterThanOrEqualTo(1.0);
+        assertThat(valueOf(metrics, "advertising_errors_total", "code=\"BATCH_ABORTED\"")).isNotNull();
+        assertThat(valueOf(metrics, "advertising_contract_duplicates_total", "result=\"rejected\"")).isGreaterThanOrEqualTo(1.0);
+        assertThat(valueOf(metrics, "cache_gets_total", "cache=\"company\"", "result=\"hit\"")).isGreaterThanOrEqualTo(1.0);
+        assertThat(valueOf(metrics, "cache_hit_ratio", "cache=\"company\"")).isNotNull();
+        assertThat(valueOf(metrics, "advertising_contract_status_transitions_total", "status=\"COMPLETED\"")).isNotNull();
+        assertThat(valueOf(metrics, "hikaricp_connections_pending", "pool=\"primary\"")).isNotNull();
+        assertThat(valueOf(metrics, "hikaricp_connections_pending", "pool=\"replica\"")).isNotNull();
+        assertThat(valueOf(metrics, "advertising_datasource_reads_total", "target=\"replica\"")).isNotNull();
+        assertThat(valueOf(metrics, "advertising_datasource_replica_lag_seconds")).isNotNull();
+        assertThat(valueOf(metrics, "hibernate_statements_total", "status=\"prepared\"")).isGreaterThan(0.0);
+    }
+
+    /**
+     * Prometheus 출력에서 이름과 태그가 모두 일치하는 첫 줄의 값을 찾습니다. (없으면 null)
+     */
+    private Double valueOf(String metrics, String name, String... tags) {
+        return Arrays.stream(metrics.split("\n"))
+                .filter(line -> line.startsWith(name + "{") || line.startsWith(name + " "))
+                .filter(line -> Arrays.stream(tags).allMatch(line::contains))
+                .findFirst()
+                .map(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,167 @@
+package com.advertising.integration;
+
+import com.advertising.application.dto.ContractRequest;
+import com.advertising.application.period.ContractPeriodSynchronizer;
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 상품 일자 예약 통합 테스트
+ * 장부는 커밋 후에 반영되므로 테스트 트랜잭션 없이 실행하고, 다른 테스트와 섞이지 않도록 별도 DB를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:capacitydb;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("상품 일자 예약 통합 테스트")
+class ProductCapacityIntegrationTest {
+    
+    private static final int DAILY_CAPACITY = 2;
+    private static final int COMPANIES = 12;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ContractRepository contractRepository;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private ContractPeriodSynchronizer periodSynchronizer;
+    
+    private List<Company> companies;
+    private Product product;
+    
+    @BeforeEach
+    void setUp() {
+        companies = new ArrayList<>();
+        for (int i = 0; i < COMPANIES; i++) {
+            companies.add(companyRepository.save(Company.builder()
+                    .companyNumber(String.valueOf(60001 + i))
+                    .name("예약 테스트 호텔 " + i)
+                    .type("호텔")
+                    .build()));
+        }
+        product = productRepository.save(Product.builder()
+                .name("메인 배너 광고")
+                .description("하루 최대 2건")
+                .dailyCapacity(DAILY_CAPACITY)
+                .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        contractRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        periodSynchronizer.rebuild();
+    }
+    
+    @Test
+    @DisplayName("하루 최대 계약 수가 차면 거절하고, 취소하면 자리를 돌려줌")
+    void capacity_FollowsContractChanges() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        long first = idOf(createContract(companies.get(0), startDate, startDate.plusDays(30)));
+        createContract(companies.get(1), startDate.plusDays(30), startDate.plusDays(60)).andExpect(status().isOk());
+        
+        // when & then: 두 계약이 겹치는 날(startDate + 30)이 포함되면 거절
+        createContract(companies.get(2), startDate.plusDays(20), startDate.plusDays(50))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("CAPACITY_EXCEEDED"));
+        mockMvc.perform(get("/products/{id}/availability", product.getId())
+                        .param("startDate", startDate.plusDays(29).toString())
+                        .param("endDate", startDate.plusDays(31).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].booked", contains(1, 2, 1)))
+                .andExpect(jsonPath("$[*].remaining", contains(1, 0, 1)));
+        
+        mockMvc.perform(post("/contracts/{id}/cancel", first))
+                .andExpect(status().isOk());
+        createContract(companies.get(2), startDate.plusDays(20), startDate.plusDays(50))
+                .andExpect(status().isOk());
+    }
+    
+    @Test
+    @DisplayName("같은 날짜를 동시에 요청해도 하루 최대 계약 수만큼만 생성")
+    void createContract_ConcurrentBookingsRespectCapacity() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (Company company : companies) {
+            tasks.add(() -> createContract(company, startDate, startDate.plusDays(30))
+                    .andReturn().getResponse().getStatus());
+        }
+        
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(COMPANIES);
+        List<Integer> statuses = new ArrayList<>();
+        try {
+            for (Future<Integer> future : executor.invokeAll(tasks, 1, TimeUnit.MINUTES)) {
+                statuses.add(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        // then
+        assertThat(statuses).filteredOn(status -> status == 200).hasSize(DAILY_CAPACITY);
+        assertThat(contractRepository.count()).isEqualTo(DAILY_CAPACITY);
+    }
+    
+    private ResultActions createContract(Company company, LocalDate startDate, LocalDate endDate) throws Exception {
+        ContractRequest request = ContractRequest.builder()
+                .companyId(company.getId())
+                .productId(product.getId())
+                .startDate(startDate)
+                .endDate(endDate)
+                .amount(new BigDecimal("100000"))
+                .build();
+        return mockMvc.perform(post("/contracts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+    
+    private long idOf(ResultActions result) throws Exception {
+        String body = result.andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
@@ -0,0 +1,248 @@
+package com.advertising.integration;
+
+import com.advertising.domain.enums.ContractStatus;
+import com.advertising.domain.repository.ContractRepository;
+import com.advertising.domain.repository.ContractStatusCondition;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 실행 계획 회귀 테스트
+ * 목록, 건수, 커서, 상세, 계약번호 채번, 상태 전환 쿼리가 Hibernate가 실제로 만든 SQL 그대로
+ * db/migration의 인덱스를 타는지 H2 EXPLAIN으로 확인합니다. 전체 스캔으로 돌아가면 실패합니다.
+ * 업체명 부분 일치 검색(LIKE '%x%')은 인덱스로 처리할 수 없어 인메모리 CompanySearchIndex가 맡으므로 대상이 아닙니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plandb",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.advertising.integration.QueryPlanTest$CapturingInspector"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("실행 계획 회귀 테스트")
+class QueryPlanTest {
+
+    private static final String CONTRACT_SCAN = "PUBLIC.CONTRACT.tableScan";
+
+    private static final int COMPANIES = 200;
+    private static final int PRODUCTS = 5;
+    private static final int CONTRACTS = 5000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    private final LocalDate today = LocalDate.now();
+    private final Pageable page = PageRequest.of(3, 20,
+            Sort.by(Sort.Direction.DESC, "startDate").and(Sort.by(Sort.Direction.DESC, "endDate")));
+
+    /**
+     * Hibernate가 실행하는 SQL을 모아 두는 StatementInspector
+     */
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> companies = new ArrayList<>();
+        for (int i = 1; i <= COMPANIES; i++) {
+            companies.add(new Object[]{i, String.format("P%05d", i), "계획 업체 " + i, "호텔", now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO company (id, company_number, name, type, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", companies);
+
+        List<Object[]> products = new ArrayList<>();
+        for (int i = 1; i <= PRODUCTS; i++) {
+            products.add(new Object[]{i, "계획 상품 " + i, "실행 계획 테스트", now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product (id, name, description, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?)", products);
+
+        List<Object[]> contracts = new ArrayList<>();
+        for (int i = 1; i <= CONTRACTS; i++) {
+            LocalDate startDate = today.minusDays(400).plusDays(i % 600);
+            LocalDate endDate = startDate.plusDays(7 + i % 60);
+            ContractStatus status = i % 20 == 0 ? ContractStatus.CANCELLED
+                    : endDate.isBefore(today) ? ContractStatus.COMPLETED
+                    : startDate.isAfter(today) ? ContractStatus.PENDING
+                    : ContractStatus.IN_PROGRESS;
+            contracts.add(new Object[]{i, String.format("PLAN-%06d", i), 1 + i % COMPANIES, 1 + i % PRODUCTS,
+                    Date.valueOf(startDate), Date.valueOf(endDate), 100000, status.name(), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO contract (id, contract_number, company_id, product_id, "
+                + "start_date, end_date, amount, status, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", contracts);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 필터 없음: 정렬 인덱스 순서대로 읽음")
+    void findByConditions_NoFilter_ReadsSortedIndex() {
+        List<String> plans = plansOf(() -> contractRepository.findByConditions(
+                null, noStatus(), null, null, page));
+
+        assertThat(plans).singleElement().asString()
+                .contains("PUBLIC.IDX_CONTRACT_PERIOD_KEYSET")
+                .contains("index sorted")
+                .doesNotContain(CONTRACT_SCAN);
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 상태 필터: status + 기간 범위 조회")
+    void findByConditions_StatusFilter_UsesStatusIndex() {
+        List<String> plans = plansOf(() -> contractRepository.findByConditions(
+                null, status(ContractStatus.IN_PROGRESS), null, null, page));
+
+        assertThat(plans).singleElement().asString()
+                .contains("PUBLIC.IDX_CONTRACT_STATUS_PERIOD: STATUS IN")
+                .doesNotContain(CONTRACT_SCAN);
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 기간 필터: 시작일 범위 조회")
+    void findByConditions_PeriodFilter_UsesPeriodRange() {
+        List<String> plans = plansOf(() -> contractRepository.findByConditions(
+                null, noStatus(), today.minusDays(30), today, page));
+
+        assertThat(plans).singleElement().asString()
+                .contains("PUBLIC.IDX_CONTRACT_PERIOD_KEYSET")
+                .contains("START_DATE <=")
+                .contains("index sorted")
+                .doesNotContain(CONTRACT_SCAN);
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 업체명 필터: 계약 전체 스캔 없음")
+    void findByConditions_CompanyNameFilter_AvoidsContractScan() {
+        List<String> plans = plansOf(() -> contractRepository.findByConditions(
+                "업체 1", noStatus(), null, null, page));
+
+        assertThat(plans).singleElement().asString().doesNotContain(CONTRACT_SCAN);
+    }
+
+    @Test
+    @DisplayName("건수 조회 - 필터별로 계약 전체 스캔 없음")
+    void countByConditions_AvoidsContractScan() {
+        List<String> plans = plansOf(() -> {
+            contractRepository.countByConditions(null, noStatus(), null, null);
+            contractRepository.countByConditions(null, status(ContractStatus.PENDING), null, null);
+            contractRepository.countByConditions(null, status(ContractStatus.COMPLETED), null, null);
+            contractRepository.countByConditions(null, noStatus(), today.minusDays(30), today);
+            contractRepository.countByConditions("업체 1", noStatus(), null, null);
+        });
+
+        assertThat(plans).hasSize(5).allSatisfy(plan -> assertThat(plan).doesNotContain(CONTRACT_SCAN));
+        assertThat(plans.get(1)).contains("PUBLIC.IDX_CONTRACT_STATUS_PERIOD");
+        assertThat(plans.get(2)).contains("PUBLIC.IDX_CONTRACT_STATUS_PERIOD");
+        assertThat(plans.get(3)).contains("PUBLIC.IDX_CONTRACT_PERIOD_KEYSET").contains("START_DATE <=");
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 커서 위치부터 정렬 인덱스 범위 조회")
+    void findByConditionsAfter_SeeksFromCursor() {
+        List<String> plans = plansOf(() -> contractRepository.findByConditionsAfter(
+                null, noStatus(), null, null, today, today.plusDays(10), 2500L, PageRequest.of(0, 21)));
+
+        assertThat(plans).singleElement().asString()
+                .contains("PUBLIC.IDX_CONTRACT_PERIOD_KEYSET: START_DATE <=")
+                .contains("index sorted")
+                .doesNotContain(CONTRACT_SCAN);
+    }
+
+    @Test
+    @DisplayName("상세 조회 - 기본 키 조회")
+    void findWithCompanyAndProductById_UsesPrimaryKey() {
+        List<String> plans = plansOf(() -> contractRepository.findWithCompanyAndProductById(2500L));
+
+        assertThat(plans).singleElement().asString()
+                .containsPattern("PUBLIC\\.PRIMARY_KEY_\\w+: ID = \\?1")
+                .doesNotContain(CONTRACT_SCAN);
+    }
+
+    @Test
+    @DisplayName("ID 목록 조회(검색, 집행 계약) - 기본 키 조회")
+    void findRowsByIdIn_UsesPrimaryKey() {
+        List<String> plans = plansOf(() -> contractRepository.findRowsByIdIn(List.of(2500L, 10L, 4000L)));
+
+        assertThat(plans).singleElement().asString()
+                .containsPattern("PUBLIC\\.PRIMARY_KEY_\\w+: ID IN\\(")
+                .doesNotContain(CONTRACT_SCAN);
+    }
+
+    @Test
+    @DisplayName("계약번호 채번 - 계약번호 유니크 인덱스 조회")
+    void findMaxSerialStartingWith_UsesUniqueIndex() {
+        List<String> plans = plansOf(() -> contractRepository.findMaxSerialStartingWith("PLAN-0025"));
+
+        assertThat(plans).singleElement().asString()
+                .contains("PUBLIC.UK_CONTRACT_NUMBER")
+                .doesNotContain(CONTRACT_SCAN);
+    }
+
+    @Test
+    @DisplayName("상태 전환 배치 - status + 기간 범위 갱신")
+    void statusTransitions_UseStatusIndex() {
+        List<String> plans = plansOf(() -> transactionTemplate.executeWithoutResult(tx -> {
+            contractRepository.completeContracts(today, LocalDateTime.now());
+            contractRepository.startContracts(today, LocalDateTime.now());
+        }));
+
+        assertThat(plans).hasSize(2).allSatisfy(plan -> assertThat(plan)
+                .contains("PUBLIC.IDX_CONTRACT_STATUS_PERIOD")
+                .doesNotContain(CONTRACT_SCAN));
+    }
+
+    private ContractStatusCondition noStatus() {
+        return ContractStatusCondition.of(null, today);
+    }
+
+    private ContractStatusCondition status(ContractStatus status) {
+        return ContractStatusCondition.of(List.of(status), today);
+    }
+
+    /**
+     * 작업 중 실행된 SQL 각각의 실행 계획을 EXPLAIN으로 조회합니다.
+     */
+    private List<String> plansOf(Runnable work) {
+        CapturingInspector.STATEMENTS.clear();
+        work.run();
+        return CapturingInspector.STATEMENTS.stream()
+                .map(sql -> jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class))
+                .toList();
+    }
+}
@@ -0,0 +1,187 @@
+package com.advertising.integration;
+
+import com.advertising.application.dto.ContractListRequest;
+import com.advertising.application.dto.ContractRequest;
+import com.advertising.application.dto.ContractResponse;
+import com.advertising.application.service.ContractService;
+import com.advertising.common.datasource.ReplicaLagMonitor;
+import com.advertising.common.exception.BusinessException;
+import com.advertising.common.exception.ErrorCode;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 읽기/쓰기 라우팅 통합 테스트
+ * primary와 복제본을 서로 다른 H2 인메모리 DB로 띄우고, 복제는 테스트가 직접 행과 heartbeat를 복사해 흉내 냅니다.
+ * 한쪽 DB에만 있는 데이터가 보이는지로 각 트랜잭션이 어느 DB에서 실행되었는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadWriteRoutingIntegrationTest.PRIMARY_URL,
+        "advertising.datasource.replica.url=" + ReadWriteRoutingIntegrationTest.REPLICA_URL,
+        "advertising.datasource.replica.heartbeat-interval=1h",   // heartbeat는 테스트에서 직접 실행
+        "advertising.datasource.replica.max-lag=2s"
+})
+@ActiveProfiles("test")
+@DisplayName("읽기/쓰기 라우팅 통합 테스트")
+class ReadWriteRoutingIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final long COMPANY_ID = 1L;
+    private static final long PRODUCT_ID = 1L;
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    private JdbcTemplate primary;
+
+    /** 복제 스트림 대신 복제본에 직접 쓰는 커넥션 */
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    /**
+     * 실제 환경에서는 복제로 스키마가 만들어지므로, 테스트에서는 같은 마이그레이션을 복제본에 직접 적용합니다.
+     */
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        for (JdbcTemplate db : new JdbcTemplate[]{primary, replica}) {
+            db.update("DELETE FROM contract");
+            db.update("MERGE INTO company (id, company_number, name, type, created_at, updated_at) KEY (id) "
+                    + "VALUES (?, '70001', '라우팅 호텔', '호텔', ?, ?)", COMPANY_ID, LocalDateTime.now(), LocalDateTime.now());
+            db.update("MERGE INTO product (id, name, description, created_at, updated_at) KEY (id) "
+                    + "VALUES (?, '노출 보장형 광고', '테스트 상품', ?, ?)", PRODUCT_ID, LocalDateTime.now(), LocalDateTime.now());
+        }
+        replicateHeartbeat();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 - 복제본에서 조회")
+    void readOnlyTransaction_ReadsFromReplica() {
+        // given
+        insertContract(replica, 9001L, "REPLICA-0001");
+
+        // when
+        ContractResponse response = contractService.getContractById(9001L);
+
+        // then
+        assertThat(response.getContractNumber()).isEqualTo("REPLICA-0001");
+        assertThat(countContracts(primary)).isZero();
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 동시 조회 분기(목록, 건수)도 복제본에서 조회")
+    void getContracts_ReadsFromReplica() {
+        // given
+        insertContract(replica, 9001L, "REPLICA-0001");
+        insertContract(replica, 9002L, "REPLICA-0002");
+
+        // when
+        var page = contractService.getContracts(ContractListRequest.builder().build());
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2L);
+        assertThat(page.getContent()).extracting(ContractResponse::getContractNumber)
+                .containsExactlyInAnyOrder("REPLICA-0001", "REPLICA-0002");
+    }
+
+    @Test
+    @DisplayName("계약 생성 - primary에 저장되고, 복제본이 따라잡기 전까지 조회는 primary에서 (read-your-writes)")
+    void createContract_WritesToPrimary_AndReadsOwnWrite() {
+        // when
+        ContractResponse created = contractService.createContract(ContractRequest.builder()
+                .companyId(COMPANY_ID)
+                .productId(PRODUCT_ID)
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(30))
+                .amount(new BigDecimal("100000"))
+                .build());
+
+        // then
+        assertThat(countContracts(primary)).isEqualTo(1);
+        assertThat(countContracts(replica)).isZero();
+        assertThat(contractService.getContractById(created.getId()).getContractNumber())
+                .isEqualTo(created.getContractNumber());
+
+        // 복제본이 생성 이후의 heartbeat를 반영하면 다시 복제본에서 읽음 (이 테스트에서는 계약 행을 복제하지 않음)
+        replicateHeartbeat();
+        assertThatThrownBy(() -> contractService.getContractById(created.getId()))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.CONTRACT_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    @DisplayName("복제 지연 - 허용 지연을 넘으면 읽기 전용 트랜잭션도 primary에서 조회")
+    void replicaLag_FallsBackToPrimary() {
+        // given
+        insertContract(primary, 9001L, "PRIMARY-0001");
+        replica.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", OffsetDateTime.now().minusMinutes(1));
+        replicaLagMonitor.beat();
+
+        // when
+        ContractResponse response = contractService.getContractById(9001L);
+
+        // then
+        assertThat(replicaLagMonitor.getLag()).isGreaterThan(Duration.ofSeconds(2));
+        assertThat(response.getContractNumber()).isEqualTo("PRIMARY-0001");
+    }
+
+    /**
+     * primary에 새 heartbeat를 기록하고 그 값을 복제본에 복사한 뒤, 복제본 반영 여부를 다시 확인합니다.
+     */
+    private void replicateHeartbeat() {
+        replicaLagMonitor.beat();
+        OffsetDateTime beat = primary.queryForObject("SELECT beat_at FROM replication_heartbeat WHERE id = 1",
+                OffsetDateTime.class);
+        replica.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", beat);
+        replicaLagMonitor.beat();
+    }
+
+    private void insertContract(JdbcTemplate db, long id, String contractNumber) {
+        db.update("INSERT INTO contract (id, contract_number, company_id, product_id, start_date, end_date, "
+                        + "amount, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 'PENDING', ?, ?)",
+                id, contractNumber, COMPANY_ID, PRODUCT_ID,
+                Date.valueOf(LocalDate.now().plusDays(1)), Date.valueOf(LocalDate.now().plusDays(30)),
+                new BigDecimal("100000"), LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private int countContracts(JdbcTemplate db) {
+        return db.queryForObject("SELECT COUNT(*) FROM contract", Integer.class);
+    }
+}
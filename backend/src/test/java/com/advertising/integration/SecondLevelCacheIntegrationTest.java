@@ -0,0 +1,89 @@
+package com.advertising.integration;
+
+import com.advertising.domain.entity.Company;
+import com.advertising.domain.entity.Product;
+import com.advertising.domain.repository.CompanyRepository;
+import com.advertising.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Hibernate 2차 캐시 통합 테스트
+ * 테스트 프로필은 2차 캐시를 끄므로 이 테스트만 별도 DB로 켜서 실행합니다.
+ * 저장소 메서드를 트랜잭션 없이 호출하므로 호출마다 새 영속성 컨텍스트에서 조회합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2cachedb;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true"
+})
+@ActiveProfiles("test")
+@DisplayName("2차 캐시 통합 테스트")
+class SecondLevelCacheIntegrationTest {
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private Statistics statistics;
+    private Company company;
+    private Product product;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        company = companyRepository.save(Company.builder()
+                .companyNumber("50001")
+                .name("캐시 테스트 호텔")
+                .type("호텔")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("노출 보장형 광고")
+                .description("테스트 상품")
+                .build());
+        statistics.clear();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        companyRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+    
+    @Test
+    @DisplayName("업체/상품 단건 조회 - 처음 한 번만 SQL로 읽고 이후에는 2차 캐시에서 읽음")
+    void findById_ReadsFromSecondLevelCache() {
+        // when (IDENTITY로 저장한 엔티티는 저장 시 캐시에 넣지 않으므로 첫 조회는 DB에서 읽음)
+        for (int i = 0; i < 3; i++) {
+            assertThat(companyRepository.findById(company.getId())).isPresent();
+            assertThat(productRepository.findById(product.getId())).isPresent();
+        }
+        
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getDomainDataRegionStatistics("reference.company").getHitCount()).isEqualTo(2);
+        assertThat(statistics.getDomainDataRegionStatistics("reference.product").getHitCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", "reference.company")
+                .tag("result", "hit")
+                .functionCounter().count()).isGreaterThanOrEqualTo(2);
+    }
+}
@@ -2,8 +2,12 @@ package com.advertising.presentation.controller;
 
 import com.advertising.application.dto.ContractRequest;
 import com.advertising.application.dto.ContractResponse;
+import com.advertising.application.dto.CursorPageResponse;
 import com.advertising.application.dto.PageResponse;
+import com.advertising.application.dto.Versioned;
+import com.advertising.application.export.ContractExporter;
 import com.advertising.application.service.ContractService;
+import com.advertising.common.exception.ErrorMetrics;
 import com.advertising.domain.enums.ContractStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +21,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -33,6 +40,12 @@ class ContractControllerTest {
     @MockBean
     private ContractService contractService;
     
+    @MockBean
+    private ContractExporter contractExporter;
+    
+    @MockBean
+    private ErrorMetrics errorMetrics;
+    
     @Autowired
     private ObjectMapper objectMapper;
     
@@ -54,7 +67,7 @@ class ContractControllerTest {
                 .status(ContractStatus.PENDING)
                 .build();
         
-        when(contractService.createContract(any(ContractRequest.class))).thenReturn(response);
+        when(contractService.createContract(any(ContractRequest.class), any())).thenReturn(response);
         
         // when & then
         mockMvc.perform(post("/contracts")
@@ -75,15 +88,57 @@ class ContractControllerTest {
                 .status(ContractStatus.PENDING)
                 .build();
         
-        when(contractService.getContractById(1L)).thenReturn(response);
+        when(contractService.getVersionedContract(1L)).thenReturn(new Versioned<>("contract-1-a-b-c", () -> response));
         
         // when & then
         mockMvc.perform(get("/contracts/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"contract-1-a-b-c\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.contractNumber").value("CNT-20260125-0001"));
     }
     
+    @Test
+    @DisplayName("계약 상세 조회 API - ETag가 같으면 본문 생성 없이 304")
+    void getContractById_NotModified() throws Exception {
+        // given
+        AtomicBoolean bodyCreated = new AtomicBoolean();
+        when(contractService.getVersionedContract(1L)).thenReturn(new Versioned<>("contract-1-a-b-c", () -> {
+            bodyCreated.set(true);
+            return ContractResponse.builder().id(1L).build();
+        }));
+        
+        // when & then
+        mockMvc.perform(get("/contracts/1").header("If-None-Match", "\"contract-1-a-b-c\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"contract-1-a-b-c\""))
+                .andExpect(content().string(""));
+        assertThat(bodyCreated).isFalse();
+    }
+    
+    @Test
+    @DisplayName("계약 검색 API - 상세 조회용 Cache-Control을 붙이지 않음")
+    void searchContracts_NoDetailCacheControl() throws Exception {
+        // given
+        PageResponse<ContractResponse> pageResponse = PageResponse.<ContractResponse>builder()
+                .content(Collections.emptyList())
+                .page(0)
+                .size(5)
+                .totalElements(0L)
+                .totalPages(0)
+                .hasNext(false)
+                .hasPrevious(false)
+                .build();
+        
+        when(contractService.searchContracts(any())).thenReturn(pageResponse);
+        
+        // when & then
+        mockMvc.perform(get("/contracts/search").param("keyword", "0001"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Cache-Control"));
+    }
+    
     @Test
     @DisplayName("계약 목록 조회 API - 정상 케이스")
     void getContracts_Success() throws Exception {
@@ -106,4 +161,25 @@ class ContractControllerTest {
                 .andExpect(jsonPath("$.page").value(0))
                 .andExpect(jsonPath("$.size").value(5));
     }
+    
+    @Test
+    @DisplayName("커서 기반 계약 목록 조회 API - cursor 파라미터가 있으면 커서 모드로 응답")
+    void getContractsByCursor_Success() throws Exception {
+        // given
+        CursorPageResponse<ContractResponse> cursorResponse = CursorPageResponse.<ContractResponse>builder()
+                .content(Collections.emptyList())
+                .size(5)
+                .nextCursor("MjAyNi0wMS0yNXwyMDI2LTAyLTIyfDM")
+                .hasNext(true)
+                .build();
+        
+        when(contractService.getContractsByCursor(any())).thenReturn(cursorResponse);
+        
+        // when & then
+        mockMvc.perform(get("/contracts").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("MjAyNi0wMS0yNXwyMDI2LTAyLTIyfDM"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.page").doesNotExist());
+    }
 }
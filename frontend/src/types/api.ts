@@ -63,3 +63,30 @@ export interface PageResponse<T> {
   hasNext: boolean;
   hasPrevious: boolean;
 }
+
+export interface CursorPageResponse<T> {
+  content: T[];
+  size: number;
+  nextCursor?: string;
+  hasNext: boolean;
+}
+
+export interface ContractBatchRequest {
+  contracts: ContractRequest[];
+  allOrNothing?: boolean;
+}
+
+export interface ContractBatchItemResult {
+  index: number;
+  success: boolean;
+  contract?: Contract;
+  errorCode?: string;
+  message?: string;
+}
+
+export interface ContractBatchResponse {
+  total: number;
+  succeeded: number;
+  failed: number;
+  results: ContractBatchItemResult[];
+}